@@ -0,0 +1,39 @@
+#!/usr/bin/env bash
+# Executa os benchmarks JMH (perfil Maven "benchmarks") e grava o resultado em JSON.
+#
+# Uso:
+#   scripts/benchmarks.sh [filtro] [opções do JMH...]
+#       Executa os benchmarks cujo nome corresponde ao filtro (expressão regular; padrão: todos)
+#       e grava benchmarks/<versão>-<data>.json. Exemplo: scripts/benchmarks.sh Formatador -f 1 -wi 1
+#   scripts/benchmarks.sh --comparar <anterior.json> <atual.json>
+#       Compara dois resultados, mostrando a variação percentual de cada benchmark (requer jq).
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+if [[ "${1:-}" == "--comparar" ]]; then
+    if [[ $# -ne 3 ]]; then
+        echo "Uso: $0 --comparar <anterior.json> <atual.json>" >&2
+        exit 1
+    fi
+    resumo='{chave: ((.benchmark | sub("^.*\\.benchmark\\."; "")) + (if .params then " " + (.params | to_entries | map("\(.key)=\(.value)") | join(",")) else "" end)),
+                   valor: (.primaryMetric.score * 1000 | round / 1000), unidade: .primaryMetric.scoreUnit}'
+    printf 'benchmark\tanterior\tatual\tunidade\tvariação\n'
+    jq -rn --slurpfile anterior "$2" --slurpfile atual "$3" "
+        (\$anterior[0] | map($resumo) | INDEX(.chave)) as \$a
+        | \$atual[0] | map($resumo)[]
+        | . as \$b
+        | \$a[\$b.chave] as \$antes
+        | [\$b.chave, (\$antes.valor // \"-\" | tostring), (\$b.valor | tostring), \$b.unidade,
+           (if \$antes then ((\$b.valor - \$antes.valor) / \$antes.valor * 100 | . * 10 | round / 10 | tostring) + \"%\" else \"novo\" end)]
+        | @tsv"
+    exit 0
+fi
+
+versao=$(mvn -q help:evaluate -Dexpression=project.version -DforceStdout 2>/dev/null || echo "dev")
+mkdir -p benchmarks
+resultado="$PWD/benchmarks/${versao}-$(date +%Y%m%d-%H%M%S).json"
+
+mvn -B -Pbenchmarks verify -Djmh.args="$*" -Djmh.resultado="$resultado"
+
+echo "Resultado gravado em $resultado"
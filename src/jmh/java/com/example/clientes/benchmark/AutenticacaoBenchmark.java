@@ -0,0 +1,59 @@
+package com.example.clientes.benchmark;
+
+import com.example.clientes.config.CacheCredenciaisAuthenticationProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Autenticação básica com BCrypt, com e sem o cache de credenciais verificadas.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class AutenticacaoBenchmark {
+
+    private DaoAuthenticationProvider semCache;
+    private CacheCredenciaisAuthenticationProvider comCache;
+
+    @Setup
+    public void setup() {
+        PasswordEncoder passwordEncoder = PasswordEncoderFactories.createDelegatingPasswordEncoder();
+        semCache = new DaoAuthenticationProvider(passwordEncoder);
+        semCache.setUserDetailsService(new InMemoryUserDetailsManager(User.withUsername("user")
+                .password(passwordEncoder.encode("password"))
+                .roles("USER")
+                .build()));
+        comCache = new CacheCredenciaisAuthenticationProvider(semCache, Duration.ofMinutes(1), 1000);
+    }
+
+    @Benchmark
+    public Authentication bcryptSemCache() {
+        return semCache.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("user", "password"));
+    }
+
+    @Benchmark
+    public Authentication bcryptComCache() {
+        return comCache.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("user", "password"));
+    }
+}
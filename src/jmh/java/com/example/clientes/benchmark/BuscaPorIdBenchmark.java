@@ -0,0 +1,89 @@
+package com.example.clientes.benchmark;
+
+import com.example.clientes.ClientesApplication;
+import com.example.clientes.model.Cliente;
+import com.example.clientes.service.ClienteService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * {@code GET /api/clientes/{id}} pelo Spring MVC (MockMvc, sem rede e sem autenticação) com a aplicação completa,
+ * misturando IDs existentes e inexistentes. Os IDs inexistentes são sorteados em um intervalo muito maior que o
+ * cache, como no tráfego de varredura, e medem o custo da resposta 404.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class BuscaPorIdBenchmark {
+
+    /** Quantidade de clientes criados antes da medição. */
+    private static final int CLIENTES_INICIAIS = 1_000;
+
+    /** Quantidade de IDs inexistentes possíveis, acima do último ID criado. */
+    private static final long INTERVALO_INEXISTENTES = 1_000_000;
+
+    /** Percentual das requisições feitas com IDs inexistentes. */
+    @Param({"0", "50", "100"})
+    private int percentualInexistentes;
+
+    private ConfigurableApplicationContext contexto;
+    private MockMvc mockMvc;
+    private long primeiroId;
+    private long ultimoId;
+
+    @Setup(Level.Trial)
+    public void iniciar() {
+        contexto = new SpringApplicationBuilder(ClientesApplication.class)
+                .properties("server.port=0", "spring.main.banner-mode=off", "logging.level.root=WARN")
+                .registerShutdownHook(false) // O contexto é fechado no @TearDown
+                .run();
+        ClienteService clienteService = contexto.getBean(ClienteService.class);
+        for (int i = 0; i < CLIENTES_INICIAIS; i++) {
+            Cliente cliente = clienteService.criarCliente(new Cliente("Cliente " + i, "busca" + i + "@exemplo.com",
+                    "1198765" + String.format("%04d", i)));
+            primeiroId = i == 0 ? cliente.getId() : primeiroId;
+            ultimoId = cliente.getId();
+        }
+        mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) contexto).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        contexto.close();
+    }
+
+    @Benchmark
+    public int buscarClientePorId() throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long id = random.nextInt(100) < percentualInexistentes
+                ? ultimoId + 1 + random.nextLong(INTERVALO_INEXISTENTES)
+                : random.nextLong(primeiroId, ultimoId + 1);
+        return mockMvc.perform(get("/api/clientes/" + id)).andReturn().getResponse().getStatus();
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.clientes.benchmark;
+
+import com.example.clientes.ClientesApplication;
+import com.example.clientes.model.Cliente;
+import com.example.clientes.service.ClienteBuscaService;
+import com.example.clientes.utils.FormatadorUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Busca por nome ({@link ClienteBuscaService#buscar(String, Integer)}) com 5 milhões de clientes no H2 em arquivo,
+ * em {@code target/benchmark/busca-nome}.
+ * <p>
+ * Os clientes e os termos são gerados pelo próprio banco ({@code INSERT ... SELECT} sobre {@code SYSTEM_RANGE}), com
+ * nomes compostos de um prenome e dois sobrenomes de listas de 50 nomes comuns, de modo que cada prenome aparece em
+ * 2% dos clientes; um a cada mil clientes tem ainda o sobrenome {@value #SOBRENOME_RARO}. O banco é mantido entre
+ * execuções e só é gerado novamente se a quantidade de clientes for outra. O cache de clientes fica desligado.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class BuscaPorNomeBenchmark {
+
+    /** Quantidade de clientes no banco. */
+    private static final int CLIENTES = 5_000_000;
+
+    /** Sobrenome de um a cada mil clientes: termo acima do limite de termo raro, mas pouco frequente. */
+    private static final String SOBRENOME_RARO = "Zanetti";
+
+    private static final Path DIRETORIO = Path.of("target", "benchmark", "busca-nome");
+
+    private static final List<String> PRENOMES = List.of("Maria", "José", "Ana", "João", "Antônio", "Francisco",
+            "Carlos", "Paulo", "Pedro", "Lucas", "Luiz", "Marcos", "Luís", "Gabriel", "Rafael", "Francisca", "Daniel",
+            "Marcelo", "Bruno", "Eduardo", "Felipe", "Raimundo", "Rodrigo", "Antônia", "Adriana", "Juliana", "Márcia",
+            "Fernanda", "Patrícia", "Aline", "Sandra", "Camila", "Amanda", "Bruna", "Jéssica", "Letícia", "Júlia",
+            "Luciana", "Vanessa", "Mariana", "Gustavo", "Matheus", "Thiago", "Leonardo", "Vinícius", "Sebastião",
+            "Douglas", "Renata", "Beatriz", "Larissa");
+
+    private static final List<String> SOBRENOMES = List.of("Silva", "Santos", "Oliveira", "Souza", "Rodrigues",
+            "Ferreira", "Alves", "Pereira", "Lima", "Gomes", "Costa", "Ribeiro", "Martins", "Carvalho", "Almeida",
+            "Lopes", "Soares", "Fernandes", "Vieira", "Barbosa", "Rocha", "Dias", "Nascimento", "Andrade", "Moreira",
+            "Nunes", "Marques", "Machado", "Mendes", "Freitas", "Cardoso", "Ramos", "Gonçalves", "Santana", "Teixeira",
+            "Araújo", "Cavalcanti", "Moura", "Campos", "Monteiro", "Batista", "Correia", "Pinto", "Miranda",
+            "Castro", "Azevedo", "Medeiros", "Xavier", "Brito", "Prado");
+
+    /**
+     * Texto da busca: prenome comum (4% dos clientes com "maria" e "mariana"), prefixo de 2 letras (o mais amplo
+     * aceito), prenome e prefixo de sobrenome, sobrenome de 0,1% dos clientes, e um termo sem nenhum cliente.
+     */
+    @Param({"maria", "ma", "maria sil", "zanetti", "zzz"})
+    private String consulta;
+
+    private ConfigurableApplicationContext contexto;
+    private ClienteBuscaService clienteBuscaService;
+
+    @Setup(Level.Trial)
+    public void iniciar() {
+        contexto = new SpringApplicationBuilder(ClientesApplication.class)
+                .properties("server.port=0", "spring.main.banner-mode=off", "logging.level.root=WARN")
+                .registerShutdownHook(false) // O contexto é fechado no @TearDown
+                .run("--spring.cache.type=none", "--spring.jpa.hibernate.ddl-auto=update",
+                        "--spring.datasource.url=jdbc:h2:file:./" + DIRETORIO.resolve("clientes").toString().replace('\\', '/')
+                                + ";LAZY_QUERY_EXECUTION=1");
+        gerarClientes(contexto.getBean(JdbcTemplate.class));
+        clienteBuscaService = contexto.getBean(ClienteBuscaService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        contexto.close();
+    }
+
+    @Benchmark
+    public List<Cliente> buscar() {
+        return clienteBuscaService.buscar(consulta, ClienteBuscaService.LIMITE_PADRAO);
+    }
+
+    private static void gerarClientes(JdbcTemplate jdbc) {
+        Integer existentes = jdbc.queryForObject("select count(*) from cliente", Integer.class);
+        if (existentes != null && existentes == CLIENTES) {
+            return;
+        }
+        jdbc.execute("delete from cliente_termo");
+        jdbc.execute("delete from cliente");
+        // Índices sorteados a partir do ID, iguais para o nome e para os termos
+        String prenome = "mod(x * 7919, " + PRENOMES.size() + ") + 1";
+        String sobrenome1 = "mod(x * 104729, " + SOBRENOMES.size() + ") + 1";
+        String sobrenome2 = "mod(x * 1299709 + 17, " + SOBRENOMES.size() + ") + 1";
+        jdbc.execute("insert into cliente (id, nome, email, telefone, versao, criado_em, atualizado_em) "
+                + "select x, " + array(PRENOMES) + "[" + prenome + "] || ' ' || " + array(SOBRENOMES) + "[" + sobrenome1
+                + "] || ' ' || " + array(SOBRENOMES) + "[" + sobrenome2 + "] || case when mod(x, 1000) = 0 then ' "
+                + SOBRENOME_RARO + "' else '' end, 'cliente' || x || '@exemplo.com', "
+                + "'(11) 98765-4321', 0, current_timestamp, current_timestamp from system_range(1, " + CLIENTES + ")");
+        // Um termo por palavra do nome; sobrenomes repetidos geram um único termo, como em extrairTermos
+        jdbc.execute("insert into cliente_termo (id, cliente_id, termo) select x * 4, x, " + termos(PRENOMES) + "["
+                + prenome + "] from system_range(1, " + CLIENTES + ")");
+        jdbc.execute("insert into cliente_termo (id, cliente_id, termo) select x * 4 + 1, x, " + termos(SOBRENOMES)
+                + "[" + sobrenome1 + "] from system_range(1, " + CLIENTES + ")");
+        jdbc.execute("insert into cliente_termo (id, cliente_id, termo) select x * 4 + 2, x, " + termos(SOBRENOMES)
+                + "[" + sobrenome2 + "] from system_range(1, " + CLIENTES + ") where " + sobrenome1 + " <> " + sobrenome2);
+        jdbc.execute("insert into cliente_termo (id, cliente_id, termo) select x * 4 + 3, x, '"
+                + FormatadorUtils.extrairTermos(SOBRENOME_RARO).get(0) + "' from system_range(1, " + CLIENTES + ")"
+                + " where mod(x, 1000) = 0");
+        jdbc.execute("analyze");
+    }
+
+    private static String array(List<String> valores) {
+        return valores.stream().map(valor -> "'" + valor + "'").collect(Collectors.joining(",", "array[", "]"));
+    }
+
+    private static String termos(List<String> nomes) {
+        return array(nomes.stream().map(nome -> FormatadorUtils.extrairTermos(nome).get(0)).toList());
+    }
+}
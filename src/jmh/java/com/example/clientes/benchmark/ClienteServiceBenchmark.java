@@ -0,0 +1,103 @@
+package com.example.clientes.benchmark;
+
+import com.example.clientes.ClientesApplication;
+import com.example.clientes.model.Cliente;
+import com.example.clientes.service.ClienteService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Operações do {@link ClienteService} contra o H2 em memória, com a aplicação completa
+ * (cache, transações e métricas) iniciada em uma porta aleatória.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class ClienteServiceBenchmark {
+
+    /** Quantidade de clientes criados antes da medição. */
+    private static final int CLIENTES_INICIAIS = 10_000;
+
+    private final AtomicLong sequencia = new AtomicLong();
+
+    private ConfigurableApplicationContext contexto;
+    private ClienteService clienteService;
+    private long primeiroId;
+
+    @Setup(Level.Trial)
+    public void iniciar() {
+        contexto = new SpringApplicationBuilder(ClientesApplication.class)
+                .properties("server.port=0", "spring.main.banner-mode=off", "logging.level.root=WARN")
+                .registerShutdownHook(false) // O contexto é fechado no @TearDown
+                .run();
+        clienteService = contexto.getBean(ClienteService.class);
+        primeiroId = novoCliente().getId();
+        for (int i = 1; i < CLIENTES_INICIAIS; i++) {
+            novoCliente();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        contexto.close();
+    }
+
+    @Benchmark
+    public Cliente criarCliente() {
+        return novoCliente();
+    }
+
+    @Benchmark
+    public Cliente alterarCliente() {
+        long id = idExistente();
+        return clienteService.alterarCliente(id, new Cliente("Cliente Alterado " + id, "alterado" + id + "@exemplo.com", "11987654321"));
+    }
+
+    @Benchmark
+    public Cliente criarEExcluirCliente() {
+        Cliente cliente = novoCliente();
+        clienteService.excluirCliente(cliente.getId());
+        return cliente;
+    }
+
+    @Benchmark
+    public Object buscarClientePorId() {
+        return clienteService.buscarClientePorId(idExistente());
+    }
+
+    @Benchmark
+    public List<Cliente> listarPagina() {
+        return clienteService.listarClientes(idExistente(), ClienteService.LIMITE_PADRAO_PAGINA);
+    }
+
+    private Cliente novoCliente() {
+        long n = sequencia.incrementAndGet();
+        return clienteService.criarCliente(new Cliente("Cliente Número " + n, "cliente" + n + "@exemplo.com", "11987654321"));
+    }
+
+    private long idExistente() {
+        return primeiroId + ThreadLocalRandom.current().nextInt(CLIENTES_INICIAIS);
+    }
+}
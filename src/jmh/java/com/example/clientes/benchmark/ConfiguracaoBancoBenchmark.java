@@ -0,0 +1,159 @@
+package com.example.clientes.benchmark;
+
+import com.example.clientes.ClientesApplication;
+import com.example.clientes.model.Cliente;
+import com.example.clientes.service.ClienteService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Efeito de cada grupo de ajustes do perfil {@code prod} (application-prod.properties) pelo Spring MVC (MockMvc, sem
+ * rede e sem autenticação), com o H2 em arquivo em {@code target/benchmark/configuracao-banco}.
+ * <p>
+ * A variante {@code padrao} ativa o perfil {@code prod} com todos os ajustes medidos revertidos aos valores padrão
+ * do Hikari, do H2 e do Hibernate; cada uma das demais aplica apenas um grupo de ajustes sobre ela, e a variante
+ * {@code prod} aplica todos. O tamanho do pool não é comparado, pois o do perfil (10 conexões fixas) é o padrão do
+ * Hikari. O cache de clientes fica desligado, para que as leituras cheguem ao banco.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class ConfiguracaoBancoBenchmark {
+
+    /** Quantidade de clientes criados antes da medição. */
+    private static final int CLIENTES_INICIAIS = 10_000;
+
+    /** Tamanho da página na listagem. */
+    private static final int TAMANHO_PAGINA = 50;
+
+    /** Quantidade máxima de IDs por busca em /lookup; a quantidade de cada busca é sorteada. */
+    private static final int MAXIMO_IDS_BUSCA = 100;
+
+    private static final Path DIRETORIO = Path.of("target", "benchmark", "configuracao-banco");
+
+    /** Valores padrão dos ajustes medidos, agrupados pela variante que os altera. */
+    private static final Map<String, List<String>> PADROES = Map.of(
+            "autocommit", List.of(
+                    "spring.datasource.hikari.auto-commit=true",
+                    "spring.jpa.properties.hibernate.connection.provider_disables_autocommit=false"),
+            "cache-instrucoes", List.of(
+                    "spring.datasource.hikari.data-source-properties.QUERY_CACHE_SIZE=8",
+                    "spring.jpa.properties.hibernate.query.plan_cache_max_size=2048",
+                    "spring.jpa.properties.hibernate.query.in_clause_parameter_padding=false"),
+            "open-in-view", List.of("spring.jpa.open-in-view=true"),
+            "fetch-size", List.of("spring.jpa.properties.hibernate.jdbc.fetch_size=0"));
+
+    /** Grupo de ajustes aplicado sobre os valores padrão ({@code padrao}: nenhum; {@code prod}: todos). */
+    @Param({"padrao", "autocommit", "cache-instrucoes", "open-in-view", "fetch-size", "prod"})
+    private String ajuste;
+
+    private final AtomicLong sequencia = new AtomicLong();
+
+    private ConfigurableApplicationContext contexto;
+    private MockMvc mockMvc;
+    private long primeiroId;
+    private long ultimoId;
+
+    @Setup(Level.Trial)
+    public void iniciar() throws IOException {
+        FileSystemUtils.deleteRecursively(DIRETORIO);
+        // Passadas como argumentos de linha de comando, que têm precedência sobre application-prod.properties
+        List<String> argumentos = new ArrayList<>(List.of("--spring.cache.type=none",
+                "--spring.datasource.username=sa", "--spring.datasource.password=password",
+                "--spring.datasource.url=jdbc:h2:file:./" + DIRETORIO.resolve("clientes").toString().replace('\\', '/')
+                        + ";LAZY_QUERY_EXECUTION=1"));
+        PADROES.forEach((grupo, padroes) -> {
+            if (!grupo.equals(ajuste) && !ajuste.equals("prod")) {
+                padroes.forEach(padrao -> argumentos.add("--" + padrao));
+            }
+        });
+        contexto = new SpringApplicationBuilder(ClientesApplication.class)
+                .profiles("prod")
+                .properties("server.port=0", "spring.main.banner-mode=off", "logging.level.root=WARN")
+                .registerShutdownHook(false) // O contexto é fechado no @TearDown
+                .run(argumentos.toArray(String[]::new));
+        ClienteService clienteService = contexto.getBean(ClienteService.class);
+        for (int i = 0; i < CLIENTES_INICIAIS; i++) {
+            Cliente cliente = clienteService.criarCliente(new Cliente("Cliente " + i, "banco" + i + "@exemplo.com",
+                    "1198765" + String.format("%04d", i)));
+            primeiroId = i == 0 ? cliente.getId() : primeiroId;
+            ultimoId = cliente.getId();
+        }
+        mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) contexto).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        contexto.close();
+    }
+
+    @Benchmark
+    public int buscarClientePorId() throws Exception {
+        return mockMvc.perform(get("/api/clientes/" + idExistente())).andReturn().getResponse().getStatus();
+    }
+
+    @Benchmark
+    public int buscarClientesPorIds() throws Exception {
+        int quantidade = ThreadLocalRandom.current().nextInt(1, MAXIMO_IDS_BUSCA + 1);
+        StringBuilder ids = new StringBuilder("[");
+        for (int i = 0; i < quantidade; i++) {
+            ids.append(i == 0 ? "" : ",").append(idExistente());
+        }
+        return mockMvc.perform(post("/api/clientes/lookup").contentType(MediaType.APPLICATION_JSON)
+                .content(ids.append(']').toString())).andReturn().getResponse().getStatus();
+    }
+
+    @Benchmark
+    public int listarPagina() throws Exception {
+        long depoisDe = idExistente() - TAMANHO_PAGINA;
+        return mockMvc.perform(get("/api/clientes").param("afterId", Long.toString(depoisDe))
+                .param("limit", Integer.toString(TAMANHO_PAGINA))).andReturn().getResponse().getStatus();
+    }
+
+    @Benchmark
+    public int criarCliente() throws Exception {
+        long n = sequencia.incrementAndGet();
+        return mockMvc.perform(post("/api/clientes").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"nome\":\"Cliente Novo " + n + "\",\"email\":\"novo" + n + "@exemplo.com\","
+                        + "\"telefone\":\"11987654321\"}")).andReturn().getResponse().getStatus();
+    }
+
+    private long idExistente() {
+        return ThreadLocalRandom.current().nextLong(primeiroId, ultimoId + 1);
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.clientes.benchmark;
+
+import com.example.clientes.utils.FormatadorUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Formatação de e-mail e telefone, que fica no caminho de toda criação e alteração de cliente.
+ * Os benchmarks com sufixo {@code Invalido} medem o caminho de rejeição, que lança exceção. Os com sufixo
+ * {@code Original} medem a implementação original, com {@code String.matches} e {@code String.format}, copiada
+ * abaixo (a mesma usada como referência de comportamento em {@code FormatadorUtilsTest}).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FormatadorBenchmark {
+
+    private String email = "  Joao.Silva@Exemplo.COM.br ";
+    private String emailInvalido = "joao@exemplo";
+    private String telefone = "11987654321";
+    private String telefoneInvalido = "1198765";
+
+    @Benchmark
+    public String formatarEmail() {
+        return FormatadorUtils.formatarEmail(email);
+    }
+
+    @Benchmark
+    public void formatarEmailInvalido(Blackhole blackhole) {
+        try {
+            blackhole.consume(FormatadorUtils.formatarEmail(emailInvalido));
+        } catch (IllegalArgumentException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    @Benchmark
+    public String formatarTelefone() {
+        return FormatadorUtils.formatarTelefone(telefone);
+    }
+
+    @Benchmark
+    public void formatarTelefoneInvalido(Blackhole blackhole) {
+        try {
+            blackhole.consume(FormatadorUtils.formatarTelefone(telefoneInvalido));
+        } catch (IllegalArgumentException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    @Benchmark
+    public String formatarEmailOriginal() {
+        return formatarEmailOriginal(email);
+    }
+
+    @Benchmark
+    public void formatarEmailInvalidoOriginal(Blackhole blackhole) {
+        try {
+            blackhole.consume(formatarEmailOriginal(emailInvalido));
+        } catch (IllegalArgumentException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    @Benchmark
+    public String formatarTelefoneOriginal() {
+        return formatarTelefoneOriginal(telefone);
+    }
+
+    @Benchmark
+    public void formatarTelefoneInvalidoOriginal(Blackhole blackhole) {
+        try {
+            blackhole.consume(formatarTelefoneOriginal(telefoneInvalido));
+        } catch (IllegalArgumentException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    // Implementação original, baseada em expressões regulares
+    private static String formatarEmailOriginal(String email) {
+        if (email != null) {
+            email = email.trim().toLowerCase();
+            if (!email.matches("^[\\w.-]+@[a-zA-Z\\d.-]+\\.[a-zA-Z]{2,6}$")) {
+                throw new IllegalArgumentException("Formato de e-mail inválido.");
+            }
+        }
+        return email;
+    }
+
+    private static String formatarTelefoneOriginal(String telefone) {
+        if (telefone != null) {
+            if (telefone.matches("\\d{10}")) {
+                return String.format("(%s) %s-%s", telefone.substring(0, 2), telefone.substring(2, 6), telefone.substring(6));
+            } else if (telefone.matches("\\d{11}")) {
+                return String.format("(%s) %s-%s", telefone.substring(0, 2), telefone.substring(2, 7), telefone.substring(7));
+            }
+        }
+        throw new IllegalArgumentException("Número de telefone inválido. Deve conter 10 ou 11 dígitos.");
+    }
+}
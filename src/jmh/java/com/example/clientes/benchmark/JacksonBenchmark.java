@@ -0,0 +1,107 @@
+package com.example.clientes.benchmark;
+
+import com.example.clientes.model.Cliente;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialização de um cliente e de listas de clientes em JSON e nos formatos binários CBOR e Smile, com a mesma
+ * configuração de ObjectMapper usada pelo Spring MVC. O tamanho das mensagens de cada formato é impresso na
+ * preparação de cada combinação de parâmetros.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JacksonBenchmark {
+
+    @Param({"100", "1000"})
+    private int tamanhoLista;
+
+    @Param({"json", "cbor", "smile"})
+    private String formato;
+
+    private ObjectWriter escritorCliente;
+    private ObjectWriter escritorLista;
+    private ObjectReader leitorCliente;
+    private ObjectReader leitorLista;
+    private Cliente cliente;
+    private List<Cliente> clientes;
+    private byte[] clienteSerializado;
+    private byte[] listaSerializada;
+
+    @Setup
+    public void setup() throws JsonProcessingException {
+        ObjectMapper objectMapper = switch (formato) {
+            case "cbor" -> Jackson2ObjectMapperBuilder.cbor().build();
+            case "smile" -> Jackson2ObjectMapperBuilder.smile().build();
+            default -> Jackson2ObjectMapperBuilder.json().build();
+        };
+        JavaType tipoLista = objectMapper.getTypeFactory().constructCollectionType(List.class, Cliente.class);
+        escritorCliente = objectMapper.writerFor(Cliente.class);
+        escritorLista = objectMapper.writerFor(tipoLista);
+        leitorCliente = objectMapper.readerFor(Cliente.class);
+        leitorLista = objectMapper.readerFor(tipoLista);
+
+        cliente = novoCliente(1);
+        clientes = new ArrayList<>(tamanhoLista);
+        for (int i = 1; i <= tamanhoLista; i++) {
+            clientes.add(novoCliente(i));
+        }
+        clienteSerializado = escritorCliente.writeValueAsBytes(cliente);
+        listaSerializada = escritorLista.writeValueAsBytes(clientes);
+        System.out.printf("%nTamanho em %s: cliente %d bytes, lista de %d clientes %d bytes%n",
+                formato, clienteSerializado.length, tamanhoLista, listaSerializada.length);
+    }
+
+    @Benchmark
+    public byte[] serializarCliente() throws JsonProcessingException {
+        return escritorCliente.writeValueAsBytes(cliente);
+    }
+
+    @Benchmark
+    public Cliente desserializarCliente() throws Exception {
+        return leitorCliente.readValue(clienteSerializado);
+    }
+
+    @Benchmark
+    public byte[] serializarLista() throws JsonProcessingException {
+        return escritorLista.writeValueAsBytes(clientes);
+    }
+
+    @Benchmark
+    public List<Cliente> desserializarLista() throws Exception {
+        return leitorLista.readValue(listaSerializada);
+    }
+
+    private static Cliente novoCliente(long id) {
+        Cliente cliente = new Cliente("Cliente Número " + id, "cliente" + id + "@exemplo.com.br", "(11) 98765-4321");
+        cliente.setId(id);
+        cliente.setVersao(0L);
+        cliente.setCriadoEm(Instant.parse("2026-01-01T12:00:00.123456Z"));
+        cliente.setAtualizadoEm(cliente.getCriadoEm());
+        return cliente;
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.clientes.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita as tarefas agendadas, como a limpeza dos eventos de clientes antigos.
+ */
+@Configuration
+@EnableScheduling
+public class AgendamentoConfig {
+}
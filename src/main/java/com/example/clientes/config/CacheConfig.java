@@ -0,0 +1,22 @@
+package com.example.clientes.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Configuração do cache em memória (Caffeine) usado na busca de clientes por ID.
+ * <p>
+ * O tamanho máximo, o tempo de expiração e a coleta de estatísticas são definidos em
+ * {@code spring.cache.caffeine.spec}. O interceptador de cache tem precedência sobre o de transação,
+ * de forma que as entradas só são gravadas ou removidas depois do commit, e uma leitura atendida pelo
+ * cache não abre transação. As métricas de {@code ClienteServiceMetricasAspect} ficam por fora do cache,
+ * para que as leituras atendidas pelo cache também sejam medidas.
+ */
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE + 1)
+public class CacheConfig {
+
+    /** Cache de clientes por ID. Também guarda os IDs inexistentes, para que buscas repetidas não cheguem ao banco. */
+    public static final String CACHE_CLIENTES = "clientes";
+}
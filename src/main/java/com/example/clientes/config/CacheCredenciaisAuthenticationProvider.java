@@ -0,0 +1,92 @@
+package com.example.clientes.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.HexFormat;
+
+/**
+ * Provedor de autenticação que guarda, por um curto período, as credenciais já verificadas pelo provedor delegado.
+ * <p>
+ * Com autenticação básica as credenciais chegam em toda requisição, e a verificação do hash BCrypt custa dezenas de
+ * milissegundos de CPU. Este provedor verifica cada credencial uma vez e, até a expiração, atende as requisições
+ * seguintes pelo cache. A chave do cache é um HMAC-SHA256 de usuário e senha com uma chave aleatória gerada na
+ * inicialização, de modo que a senha não fica em memória. Apenas autenticações bem-sucedidas são guardadas; uma
+ * senha errada sempre passa pela verificação completa.
+ * <p>
+ * Os usuários são fixos ({@code SecurityConfig}), e uma troca de senha exige reiniciar a aplicação, o que também
+ * esvazia o cache. Com usuários alteráveis em execução, a expiração limita o tempo em que uma senha antiga ainda é
+ * aceita.
+ */
+public class CacheCredenciaisAuthenticationProvider implements AuthenticationProvider {
+
+    private static final String ALGORITMO_HMAC = "HmacSHA256";
+
+    private final AuthenticationProvider delegado;
+    private final Cache<String, Authentication> autenticacoes;
+    private final SecretKeySpec chave;
+
+    /**
+     * @param delegado Provedor que faz a verificação completa das credenciais.
+     * @param expiracao Tempo que uma credencial verificada permanece no cache.
+     * @param tamanhoMaximo Quantidade máxima de credenciais no cache.
+     */
+    public CacheCredenciaisAuthenticationProvider(AuthenticationProvider delegado, Duration expiracao, long tamanhoMaximo) {
+        this.delegado = delegado;
+        this.autenticacoes = Caffeine.newBuilder()
+                .expireAfterWrite(expiracao)
+                .maximumSize(tamanhoMaximo)
+                .build();
+        byte[] bytesChave = new byte[32];
+        new SecureRandom().nextBytes(bytesChave);
+        this.chave = new SecretKeySpec(bytesChave, ALGORITMO_HMAC);
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        if (!(authentication.getCredentials() instanceof String senha)) {
+            return delegado.authenticate(authentication);
+        }
+        String chaveCache = chaveCache(authentication.getName(), senha);
+        Authentication verificada = autenticacoes.getIfPresent(chaveCache);
+        if (verificada == null) {
+            Authentication resultado = delegado.authenticate(authentication);
+            if (resultado != null && resultado.isAuthenticated()) {
+                autenticacoes.put(chaveCache, resultado);
+            }
+            return resultado;
+        }
+        // Novo token a cada requisição, pois os detalhes (como o endereço remoto) são próprios de cada uma
+        UsernamePasswordAuthenticationToken resultado = UsernamePasswordAuthenticationToken.authenticated(
+                verificada.getPrincipal(), null, verificada.getAuthorities());
+        resultado.setDetails(authentication.getDetails());
+        return resultado;
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return delegado.supports(authentication);
+    }
+
+    private String chaveCache(String usuario, String senha) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITMO_HMAC);
+            mac.init(chave);
+            mac.update(usuario.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0); // Separador, para que "ab" + "c" e "a" + "bc" gerem chaves diferentes
+            return HexFormat.of().formatHex(mac.doFinal(senha.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 indisponível.", e);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.clientes.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Conversores dos formatos binários CBOR ({@code application/cbor}) e Smile ({@code application/x-jackson-smile}),
+ * escolhidos pelo cabeçalho {@code Accept} nas respostas e pelo {@code Content-Type} nas requisições.
+ * <p>
+ * Os dois formatos usam o mesmo modelo de dados do JSON, portanto o esquema de {@code Cliente} é o mesmo da API JSON,
+ * mas geram mensagens menores e mais rápidas de codificar e decodificar, o que interessa a outros serviços que leem
+ * muitos clientes. Os conversores usam o {@link Jackson2ObjectMapperBuilder} do Spring Boot, de modo que as
+ * propriedades {@code spring.jackson.*} valem para todos os formatos. O JSON continua sendo o formato padrão quando
+ * o cliente não informa o cabeçalho {@code Accept}.
+ */
+@Configuration
+public class FormatosBinariosConfig {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter conversorCbor(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter conversorSmile(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.clientes.config;
+
+import org.apache.coyote.Request;
+import org.apache.coyote.http2.Http2Protocol;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Habilita o HTTP/2 sem TLS (h2c) no Tomcat embarcado, quando {@code clientes.http2.habilitado} for verdadeiro.
+ * <p>
+ * Substitui {@code server.http2.enabled} por causa da troca de protocolo em requisições com corpo: um cliente pode
+ * pedir a troca para h2c ({@code Upgrade: h2c}) já em um POST, e o cliente HTTP do Java faz isso por padrão. O Tomcat
+ * então guarda o corpo para reenviá-lo após a troca, responde 413 a corpos acima de {@code maxSavePostSize} e falha
+ * na releitura de corpos grandes, como os das operações em lote. Aqui a troca só é aceita em requisições sem corpo;
+ * as demais seguem em HTTP/1.1 na mesma conexão. Clientes com conhecimento prévio ({@code --http2-prior-knowledge})
+ * usam HTTP/2 desde a primeira requisição.
+ */
+@Configuration
+@ConditionalOnProperty(name = "clientes.http2.habilitado", havingValue = "true")
+public class Http2Config {
+
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> http2SemTls() {
+        return factory -> factory.addConnectorCustomizers(connector -> connector.addUpgradeProtocol(new Http2Protocol() {
+            @Override
+            public boolean accept(Request request) {
+                return super.accept(request) && !temCorpo(request);
+            }
+        }));
+    }
+
+    private static boolean temCorpo(Request request) {
+        return request.getContentLengthLong() > 0 || request.getMimeHeaders().getHeader("transfer-encoding") != null;
+    }
+}
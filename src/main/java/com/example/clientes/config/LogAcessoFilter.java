@@ -0,0 +1,48 @@
+package com.example.clientes.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Log de acesso por amostragem: registra método, URI, status e duração de uma fração das requisições,
+ * definida em {@code clientes.log-acesso.taxa-amostragem} (0 desativa, 1 registra todas).
+ * Executa antes da cadeia de segurança para que as requisições rejeitadas também sejam amostradas.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class LogAcessoFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger("acesso");
+
+    @Value("${clientes.log-acesso.taxa-amostragem:0.01}")
+    private double taxaAmostragem;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (taxaAmostragem <= 0 || ThreadLocalRandom.current().nextDouble() >= taxaAmostragem || !logger.isInfoEnabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long inicio = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            logger.info("{} {} {} {}ms", request.getMethod(), request.getRequestURI(), response.getStatus(),
+                    (System.nanoTime() - inicio) / 1_000_000);
+        }
+    }
+}
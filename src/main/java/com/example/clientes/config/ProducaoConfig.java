@@ -0,0 +1,50 @@
+package com.example.clientes.config;
+
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+
+/**
+ * Verificações de inicialização do perfil {@code prod}.
+ * <p>
+ * O Spring Boot mantém como texto um placeholder sem valor nas propriedades do datasource, de modo que, sem as
+ * variáveis de ambiente, {@code ${CLIENTES_DB_USUARIO}} seria usado como usuário e um banco novo seria criado com
+ * ele. A verificação é feita antes da criação de qualquer bean, inclusive do datasource.
+ */
+@Configuration
+@Profile("prod")
+public class ProducaoConfig {
+
+    /** Propriedades que devem ter valor no perfil {@code prod}. */
+    static final List<String> PROPRIEDADES_OBRIGATORIAS = List.of("spring.datasource.username", "spring.datasource.password");
+
+    @Bean
+    public static BeanFactoryPostProcessor validarCredenciaisBanco(Environment environment) {
+        return beanFactory -> validarCredenciais(environment);
+    }
+
+    /**
+     * Verifica se as credenciais do banco foram informadas.
+     * @param environment Ambiente da aplicação.
+     * @throws IllegalStateException Se alguma propriedade obrigatória estiver ausente, vazia ou com placeholder sem valor.
+     */
+    static void validarCredenciais(Environment environment) {
+        for (String propriedade : PROPRIEDADES_OBRIGATORIAS) {
+            String valor;
+            try {
+                valor = environment.getProperty(propriedade);
+            } catch (IllegalArgumentException e) {
+                valor = null; // Placeholder sem valor, como ${CLIENTES_DB_SENHA} sem a variável de ambiente
+            }
+            if (!StringUtils.hasText(valor)) {
+                throw new IllegalStateException("A propriedade " + propriedade + " é obrigatória no perfil prod; "
+                        + "informe as variáveis de ambiente CLIENTES_DB_USUARIO e CLIENTES_DB_SENHA.");
+            }
+        }
+    }
+}
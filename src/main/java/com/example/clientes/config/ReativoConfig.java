@@ -0,0 +1,110 @@
+package com.example.clientes.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Option;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+/**
+ * Configuração do acesso reativo ao banco (R2DBC), ativa apenas no perfil {@value #PERFIL}.
+ * <p>
+ * O banco H2 é o mesmo da pilha servlet, e o esquema continua sendo criado pelo Hibernate. Como o Spring Boot não
+ * configura o DataSource quando há uma ConnectionFactory R2DBC, ele é declarado aqui com as mesmas propriedades
+ * spring.datasource.*, mantendo o JPA (esquema, eventos e tarefas agendadas) disponível. O gerenciador de
+ * transações R2DBC não é registrado como bean, pois um segundo TransactionManager no contexto impediria o uso
+ * do gerenciador JPA pelas anotações {@code @Transactional}; as transações reativas usam o
+ * {@link TransactionalOperator} declarado aqui.
+ */
+@Configuration
+@Profile(ReativoConfig.PERFIL)
+public class ReativoConfig {
+
+    /** Perfil Spring que troca a API servlet (Spring MVC e JPA) pela reativa (WebFlux e R2DBC). */
+    public static final String PERFIL = "reativo";
+
+    /**
+     * Servidor Netty para a API reativa. Sem esta declaração, o Spring Boot usaria o Tomcat, que também está no
+     * classpath por causa da API servlet.
+     * @return NettyReactiveWebServerFactory
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    /**
+     * Propriedades spring.datasource.*, que o Spring Boot deixa de registrar junto com o DataSource.
+     * @return DataSourceProperties
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource")
+    public DataSourceProperties dataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    /**
+     * Pool JDBC usado pelo JPA, com as propriedades spring.datasource.* e spring.datasource.hikari.*
+     * @param dataSourceProperties Propriedades de conexão
+     * @return HikariDataSource
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * Cliente SQL reativo sobre o pool de conexões R2DBC.
+     * @param connectionFactory Pool de conexões configurado pelas propriedades spring.r2dbc.*
+     * @return DatabaseClient
+     */
+    @Bean
+    public DatabaseClient databaseClient(ConnectionFactory connectionFactory) {
+        return DatabaseClient.create(connectionFactory);
+    }
+
+    /**
+     * Operador de transações reativas sobre o mesmo pool de conexões.
+     * @param connectionFactory Pool de conexões configurado pelas propriedades spring.r2dbc.*
+     * @return TransactionalOperator
+     */
+    @Bean
+    public TransactionalOperator transactionalOperator(ConnectionFactory connectionFactory) {
+        return TransactionalOperator.create(new H2TransactionManager(connectionFactory));
+    }
+
+    /**
+     * Gerenciador de transações R2DBC que só envia ao driver o atributo READ_ONLY em transações somente leitura.
+     * O gerenciador padrão sempre o envia, mesmo com valor false, e o driver do H2, que não aplica o atributo por
+     * transação, registra um aviso a cada transação em que ele está presente.
+     */
+    static class H2TransactionManager extends R2dbcTransactionManager {
+
+        H2TransactionManager(ConnectionFactory connectionFactory) {
+            super(connectionFactory);
+        }
+
+        @Override
+        protected io.r2dbc.spi.TransactionDefinition createTransactionDefinition(TransactionDefinition definition) {
+            io.r2dbc.spi.TransactionDefinition padrao = super.createTransactionDefinition(definition);
+            if (definition.isReadOnly()) {
+                return padrao;
+            }
+            return new io.r2dbc.spi.TransactionDefinition() {
+                @Override
+                public <T> T getAttribute(Option<T> option) {
+                    return READ_ONLY.equals(option) ? null : padrao.getAttribute(option);
+                }
+            };
+        }
+    }
+}
@@ -1,16 +1,25 @@
 package com.example.clientes.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.config.Customizer;
 
+import java.time.Duration;
+
 /**
  * Configuração de segurança para autenticação básica no Spring Security.
+ * No perfil reativo, os mesmos usuários e codificador de senhas são usados pelo {@link SegurancaReativaConfig}.
  */
 @Configuration
 public class SecurityConfig {
@@ -18,13 +27,28 @@ public class SecurityConfig {
     /**
      * Configuração de segurança baseada no HttpSecurity para definir as permissões das rotas e habilitar autenticação básica.
      *
+     * As credenciais são verificadas com BCrypt, e as já verificadas ficam em cache por um curto período
+     * ({@link CacheCredenciaisAuthenticationProvider}), evitando recalcular o hash em toda requisição.
+     *
      * @param http a configuração de segurança HTTP
+     * @param userDetailsService origem dos usuários
+     * @param passwordEncoder codificador de senhas
+     * @param expiracao tempo que uma credencial verificada permanece no cache
+     * @param tamanhoMaximo quantidade máxima de credenciais no cache
      * @return SecurityFilterChain
      * @throws Exception em caso de erro na configuração
      */
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    @Profile("!" + ReativoConfig.PERFIL)
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, UserDetailsService userDetailsService,
+                                                   PasswordEncoder passwordEncoder,
+                                                   @Value("${clientes.seguranca.cache-credenciais.expiracao:60s}") Duration expiracao,
+                                                   @Value("${clientes.seguranca.cache-credenciais.tamanho-maximo:1000}") long tamanhoMaximo) throws Exception {
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider(passwordEncoder);
+        provider.setUserDetailsService(userDetailsService);
+
         http
+                .authenticationManager(new ProviderManager(new CacheCredenciaisAuthenticationProvider(provider, expiracao, tamanhoMaximo)))
                 .authorizeHttpRequests(authz -> authz
                         .requestMatchers("/h2-console/**").permitAll()
                         .anyRequest().authenticated()
@@ -44,9 +68,18 @@ public class SecurityConfig {
     public UserDetailsService userDetailsService() {
         return new InMemoryUserDetailsManager(
                 User.withUsername("user")
-                        .password("{noop}password") // 'noop' é um encoder que indica que a senha está em texto claro
+                        .password("{bcrypt}$2a$10$nVzSCqhF./0itW8/OLpjpOrUZlJzBeCXUb5fQXySiJWYYkwVdkdmu") // Hash BCrypt de 'password'
                         .roles("USER") // Atribui a role 'USER'
                         .build()
         );
     }
+
+    /**
+     * Codificador de senhas que identifica o algoritmo pelo prefixo do hash (por exemplo {@code {bcrypt}}).
+     * @return PasswordEncoder delegante
+     */
+    @Bean
+    public PasswordEncoder passwordEncoder() {
+        return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+    }
 }
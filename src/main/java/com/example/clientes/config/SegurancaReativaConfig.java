@@ -0,0 +1,67 @@
+package com.example.clientes.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.ReactiveAuthenticationManagerAdapter;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.config.Customizer;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+
+import java.time.Duration;
+
+/**
+ * Configuração de segurança da API reativa (perfil {@value ReativoConfig#PERFIL}), com a mesma autenticação
+ * básica e os mesmos usuários da API servlet ({@link SecurityConfig}).
+ */
+@Configuration
+@EnableWebFluxSecurity
+@Profile(ReativoConfig.PERFIL)
+public class SegurancaReativaConfig {
+
+    /**
+     * Gerenciador de autenticação reativo sobre o mesmo provedor da API servlet, com o cache de credenciais
+     * verificadas ({@link CacheCredenciaisAuthenticationProvider}). A verificação bloqueante (BCrypt) é executada
+     * pelo adaptador fora das threads de eventos do servidor.
+     *
+     * @param userDetailsService origem dos usuários
+     * @param passwordEncoder codificador de senhas
+     * @param expiracao tempo que uma credencial verificada permanece no cache
+     * @param tamanhoMaximo quantidade máxima de credenciais no cache
+     * @return ReactiveAuthenticationManager
+     */
+    @Bean
+    public ReactiveAuthenticationManager reactiveAuthenticationManager(UserDetailsService userDetailsService,
+                                                                       PasswordEncoder passwordEncoder,
+                                                                       @Value("${clientes.seguranca.cache-credenciais.expiracao:60s}") Duration expiracao,
+                                                                       @Value("${clientes.seguranca.cache-credenciais.tamanho-maximo:1000}") long tamanhoMaximo) {
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider(passwordEncoder);
+        provider.setUserDetailsService(userDetailsService);
+        return new ReactiveAuthenticationManagerAdapter(
+                new ProviderManager(new CacheCredenciaisAuthenticationProvider(provider, expiracao, tamanhoMaximo)));
+    }
+
+    /**
+     * Exige autenticação básica em todas as rotas.
+     * @param http a configuração de segurança HTTP reativa
+     * @param authenticationManager gerenciador de autenticação
+     * @return SecurityWebFilterChain
+     */
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http,
+                                                         ReactiveAuthenticationManager authenticationManager) {
+        return http
+                .authenticationManager(authenticationManager)
+                .authorizeExchange(exchange -> exchange.anyExchange().authenticated())
+                .httpBasic(Customizer.withDefaults()) // Autenticação HTTP Básica
+                .csrf(csrf -> csrf.disable()) // Desabilita CSRF, como na API servlet
+                .build();
+    }
+}
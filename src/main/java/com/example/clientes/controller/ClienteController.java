@@ -1,29 +1,91 @@
 package com.example.clientes.controller;
 
 import com.example.clientes.exception.ClienteNaoEncontradoException;
+import com.example.clientes.exception.Problemas;
+import com.example.clientes.config.ReativoConfig;
 import com.example.clientes.model.Cliente;
+import com.example.clientes.model.EventoCliente;
+import com.example.clientes.model.ProgressoImportacao;
+import com.example.clientes.model.ResultadoBuscaPorIds;
+import com.example.clientes.model.ResultadoItemLote;
+import com.example.clientes.service.ClienteEventoService;
+import com.example.clientes.service.ClienteLoteService;
+import com.example.clientes.service.ClienteRegras;
 import com.example.clientes.service.ClienteService;
+import com.example.clientes.utils.LeitorImportacao;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Controlador REST para expor as APIs do cliente.
+ * No perfil reativo, as rotas principais são atendidas pelo {@link ClienteReativoHandler}.
  */
 @RestController
+@Profile("!" + ReativoConfig.PERFIL)
 @RequestMapping("/api/clientes")
 public class ClienteController {
 
     private static final Logger logger = LoggerFactory.getLogger(ClienteController.class);
 
+    /** Cabeçalho com o cursor a ser enviado em afterId para obter a próxima página. */
+    public static final String CABECALHO_PROXIMO_CURSOR = "X-Next-After-Id";
+
+    /** Cabeçalho com a data a ser enviada em modifiedSince, junto com X-Next-After-Id, para obter a próxima página. */
+    public static final String CABECALHO_PROXIMA_DATA = "X-Next-Modified-Since";
+
+    /** Cabeçalho com a sequência a ser enviada em since para obter os próximos eventos. */
+    public static final String CABECALHO_PROXIMA_SEQUENCIA = "X-Next-Since";
+
+    /** Cabeçalho com a quantidade de clientes no início da exportação, para o acompanhamento do seu andamento. */
+    public static final String CABECALHO_TOTAL = "X-Total-Count";
+
+    /** Tipo de conteúdo CSV, aceito na importação e produzido na exportação. */
+    public static final String TEXT_CSV_VALUE = "text/csv";
+    public static final MediaType TEXT_CSV = MediaType.parseMediaType(TEXT_CSV_VALUE);
+
+    /** Colunas do CSV exportado; as colunas nome, email e telefone bastam para reimportá-lo. */
+    private static final String CABECALHO_CSV = "id,nome,email,telefone,criadoEm,atualizadoEm";
+
+    /** Intervalo, em clientes escritos, entre os registros de andamento da exportação no log. */
+    private static final int INTERVALO_PROGRESSO_EXPORTACAO = 100_000;
+
     @Autowired
     private ClienteService clienteService;
 
+    @Autowired
+    private ClienteLoteService clienteLoteService;
+
+    @Autowired
+    private ClienteEventoService clienteEventoService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     /**
      * Cria um novo cliente.
      *
@@ -32,23 +94,104 @@ public class ClienteController {
      */
     @PostMapping
     public ResponseEntity<Cliente> criarCliente(@Valid @RequestBody Cliente cliente) {
-        logger.info("Requisição para criar cliente recebida: {}", cliente);
+        logger.debug("Requisição para criar cliente recebida");
         Cliente novoCliente = clienteService.criarCliente(cliente);
         return ResponseEntity.ok(novoCliente);
     }
 
     /**
-     * Altera um cliente existente.
+     * Cria vários clientes em uma única requisição. Cada item é validado e gravado de forma independente.
+     *
+     * @param clientes Dados dos clientes a serem criados.
+     * @return Resultado de cada item, na mesma ordem da requisição.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<ResultadoItemLote>> criarClientesEmLote(@RequestBody List<Cliente> clientes) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("Requisição para criar {} clientes em lote recebida", clientes.size());
+        }
+        return ResponseEntity.ok(clienteLoteService.criarClientes(clientes));
+    }
+
+    /**
+     * Altera vários clientes em uma única requisição, identificados pelo ID de cada item.
+     *
+     * @param clientes Dados dos clientes a serem alterados.
+     * @return Resultado de cada item, na mesma ordem da requisição.
+     */
+    @PutMapping("/batch")
+    public ResponseEntity<List<ResultadoItemLote>> alterarClientesEmLote(@RequestBody List<Cliente> clientes) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("Requisição para alterar {} clientes em lote recebida", clientes.size());
+        }
+        return ResponseEntity.ok(clienteLoteService.alterarClientes(clientes));
+    }
+
+    /**
+     * Exclui vários clientes em uma única requisição.
+     *
+     * @param ids IDs dos clientes a serem excluídos.
+     * @return Resultado de cada item, na mesma ordem da requisição.
+     */
+    @DeleteMapping("/batch")
+    public ResponseEntity<List<ResultadoItemLote>> excluirClientesEmLote(@RequestBody List<Long> ids) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("Requisição para excluir {} clientes em lote recebida", ids.size());
+        }
+        return ResponseEntity.ok(clienteLoteService.excluirClientes(ids));
+    }
+
+    /**
+     * Busca vários clientes por ID em uma única requisição, no lugar de uma requisição por cliente.
+     * IDs sem cliente correspondente são informados em naoEncontrados, sem erro.
+     *
+     * @param ids IDs dos clientes (no máximo 1000).
+     * @return Clientes encontrados e IDs não encontrados.
+     */
+    @PostMapping("/lookup")
+    public ResponseEntity<ResultadoBuscaPorIds> buscarClientesPorIds(@RequestBody List<Long> ids) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("Requisição para buscar {} clientes por ID recebida", ids.size());
+        }
+        return ResponseEntity.ok(clienteService.buscarClientesPorIds(ids));
+    }
+
+    /**
+     * Altera um cliente existente. Com o cabeçalho If-Match, a alteração só é feita se o cliente ainda estiver
+     * na versão do ETag informado; caso contrário, retorna 412 (Precondition Failed).
      *
      * @param id      ID do cliente a ser alterado.
      * @param cliente Dados do cliente a ser alterado.
-     * @return Cliente alterado.
+     * @param ifMatch ETag da versão lida anteriormente (opcional).
+     * @return Cliente alterado, com o ETag da nova versão.
      */
     @PutMapping("/{id}")
-    public ResponseEntity<Cliente> alterarCliente(@PathVariable Long id, @Valid @RequestBody Cliente cliente) {
-        logger.info("Requisição para alterar cliente com ID {} recebida", id);
-        Cliente clienteAtualizado = clienteService.alterarCliente(id, cliente);
-        return ResponseEntity.ok(clienteAtualizado);
+    public ResponseEntity<Cliente> alterarCliente(@PathVariable Long id, @Valid @RequestBody Cliente cliente,
+                                                  @RequestHeader(value = "If-Match", required = false) String ifMatch) {
+        logger.debug("Requisição para alterar cliente com ID {} recebida", id);
+        Long versaoEsperada = ClienteETag.versaoEsperada(id, ifMatch);
+        Cliente clienteAtualizado = versaoEsperada == null
+                ? clienteService.alterarCliente(id, cliente)
+                : clienteService.alterarCliente(id, cliente, versaoEsperada);
+        return ResponseEntity.ok().eTag(ClienteETag.etag(clienteAtualizado)).body(clienteAtualizado);
+    }
+
+    /**
+     * Altera apenas os campos informados de um cliente; campos ausentes ou nulos são mantidos.
+     * Aceita o cabeçalho If-Match da mesma forma que o PUT.
+     *
+     * @param id         ID do cliente a ser alterado.
+     * @param alteracoes Campos a alterar.
+     * @param ifMatch    ETag da versão lida anteriormente (opcional).
+     * @return Cliente alterado, com o ETag da nova versão.
+     */
+    @PatchMapping("/{id}")
+    public ResponseEntity<Cliente> alterarClienteParcialmente(@PathVariable Long id, @RequestBody Cliente alteracoes,
+                                                              @RequestHeader(value = "If-Match", required = false) String ifMatch) {
+        logger.debug("Requisição para alterar parcialmente o cliente com ID {} recebida", id);
+        Long versaoEsperada = ClienteETag.versaoEsperada(id, ifMatch);
+        Cliente clienteAtualizado = clienteService.alterarClienteParcialmente(id, alteracoes, versaoEsperada);
+        return ResponseEntity.ok().eTag(ClienteETag.etag(clienteAtualizado)).body(clienteAtualizado);
     }
 
     /**
@@ -59,40 +202,298 @@ public class ClienteController {
      */
     @DeleteMapping("/{id}")
     public ResponseEntity<String> excluirCliente(@PathVariable Long id) {
-        logger.info("Requisição para excluir cliente com ID {} recebida", id);
+        logger.debug("Requisição para excluir cliente com ID {} recebida", id);
         clienteService.excluirCliente(id);
         return ResponseEntity.ok("Cliente excluído com sucesso.");
     }
 
     /**
-     * Lista todos os clientes.
+     * Lista os clientes em páginas por keyset e informa o cursor da próxima página no cabeçalho X-Next-After-Id.
+     * Sem parâmetros, retorna a primeira página, com o tamanho padrão; a lista completa é obtida pelo cursor ou por
+     * {@code /stream}, sem carregar a tabela inteira em memória.
+     * Com modifiedSince, retorna os clientes alterados a partir dessa data, em ordem de alteração, e informa o
+     * cursor da próxima página nos cabeçalhos X-Next-Modified-Since e X-Next-After-Id.
      *
+     * @param modifiedSince Data de alteração inicial (ISO-8601, inclusiva), ou a data do último cliente recebido.
+     * @param afterId       ID do último cliente já recebido.
+     * @param limit         Quantidade máxima de clientes na página.
      * @return Lista de clientes.
      */
     @GetMapping
-    public ResponseEntity<List<Cliente>> listarClientes() {
-        logger.info("Requisição para listar todos os clientes recebida");
-        List<Cliente> clientes = clienteService.listarClientes();
+    public ResponseEntity<List<Cliente>> listarClientes(@RequestParam(required = false) Instant modifiedSince,
+                                                        @RequestParam(required = false) Long afterId,
+                                                        @RequestParam(required = false) Integer limit) {
+        if (modifiedSince != null) {
+            return listarClientesModificados(modifiedSince, afterId, limit);
+        }
+        logger.debug("Requisição para listar clientes após o ID {} recebida", afterId);
+        List<Cliente> clientes = clienteService.listarClientes(afterId, limit);
 
         if (clientes.isEmpty()) {
-            logger.warn("Nenhum cliente encontrado na lista");
             return ResponseEntity.noContent().build();
         }
 
-        return ResponseEntity.ok(clientes);
+        Long proximoCursor = clientes.get(clientes.size() - 1).getId();
+        return ResponseEntity.ok()
+                .header(CABECALHO_PROXIMO_CURSOR, String.valueOf(proximoCursor))
+                .body(clientes);
+    }
+
+    private ResponseEntity<List<Cliente>> listarClientesModificados(Instant modifiedSince, Long afterId, Integer limit) {
+        logger.debug("Requisição para listar clientes alterados desde {} após o ID {} recebida", modifiedSince, afterId);
+        List<Cliente> clientes = clienteService.listarClientesModificados(modifiedSince, afterId, limit);
+
+        if (clientes.isEmpty()) {
+            return ResponseEntity.noContent().build();
+        }
+
+        Cliente ultimo = clientes.get(clientes.size() - 1);
+        return ResponseEntity.ok()
+                .header(CABECALHO_PROXIMA_DATA, ultimo.getAtualizadoEm().toString())
+                .header(CABECALHO_PROXIMO_CURSOR, String.valueOf(ultimo.getId()))
+                .body(clientes);
     }
 
     /**
-     * Busca um cliente pelo ID.
+     * Lista as mudanças de clientes (criações, alterações e exclusões) posteriores à sequência informada,
+     * em ordem de sequência. A sequência do último evento é informada no cabeçalho X-Next-Since.
      *
-     * @param id ID do cliente.
-     * @return Cliente encontrado.
+     * @param since Sequência do último evento já recebido.
+     * @param limit Quantidade máxima de eventos.
+     * @return Eventos, ou 204 se não houver eventos novos.
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<List<EventoCliente>> listarMudancas(@RequestParam(required = false) Long since,
+                                                              @RequestParam(required = false) Integer limit) {
+        logger.debug("Requisição para listar mudanças de clientes após a sequência {} recebida", since);
+        List<EventoCliente> eventos = clienteEventoService.listarEventos(since, limit);
+
+        if (eventos.isEmpty()) {
+            return ResponseEntity.noContent().build();
+        }
+
+        Long proximaSequencia = eventos.get(eventos.size() - 1).getSequencia();
+        return ResponseEntity.ok()
+                .header(CABECALHO_PROXIMA_SEQUENCIA, String.valueOf(proximaSequencia))
+                .body(eventos);
+    }
+
+    /**
+     * Transmite todos os clientes em NDJSON (um objeto JSON por linha), lendo do banco por cursor.
+     * O consumo de memória por requisição não depende do tamanho da tabela.
+     *
+     * @return Corpo transmitido à medida que os clientes são lidos.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> transmitirClientes() {
+        logger.debug("Requisição para transmitir todos os clientes recebida");
+        ObjectWriter escritor = objectMapper.writerFor(Cliente.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        StreamingResponseBody corpo = saida -> {
+            try (JsonGenerator gerador = objectMapper.getFactory().createGenerator(saida)) {
+                gerador.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                gerador.setRootValueSeparator(null);
+                clienteService.percorrerClientes(cliente -> {
+                    try {
+                        escritor.writeValue(gerador, cliente);
+                        gerador.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(corpo);
+    }
+
+    /**
+     * Importa clientes de um arquivo CSV ({@code text/csv}, com cabeçalho) ou NDJSON, lido à medida que chega e
+     * gravado em lotes, sem limite de tamanho. A resposta, em NDJSON, é transmitida durante a importação: uma linha
+     * para cada registro rejeitado, com o número da linha e o motivo, uma linha de andamento a cada 10.000
+     * registros e uma linha final com {@code "concluido": true}.
+     *
+     * @param corpo        Arquivo, em UTF-8.
+     * @param tipoConteudo Formato do arquivo.
+     * @return Relatório da importação, transmitido à medida que os registros são processados.
+     */
+    @PostMapping(value = "/import", consumes = {TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> importarClientes(InputStream corpo,
+                                                                  @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType tipoConteudo) {
+        logger.debug("Requisição para importar clientes em {} recebida", tipoConteudo);
+        // O cabeçalho do CSV é lido antes da resposta, para que um arquivo sem as colunas obrigatórias resulte em 400
+        LeitorImportacao leitor = TEXT_CSV.equalsTypeAndSubtype(tipoConteudo)
+                ? LeitorImportacao.csv(corpo)
+                : LeitorImportacao.ndjson(corpo, objectMapper.readerFor(Cliente.class));
+        ObjectWriter escritor = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        StreamingResponseBody relatorio = saida -> {
+            try (JsonGenerator gerador = objectMapper.getFactory().createGenerator(saida)) {
+                gerador.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                gerador.setRootValueSeparator(null);
+                ProgressoImportacao resultado = clienteLoteService.importarClientes(leitor,
+                        rejeicao -> escreverLinha(escritor, gerador, rejeicao, false),
+                        progresso -> escreverLinha(escritor, gerador, progresso, true));
+                escreverLinha(escritor, gerador, resultado, true);
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(relatorio);
+    }
+
+    /**
+     * Exporta todos os clientes em NDJSON ou, com {@code Accept: text/csv}, em CSV com cabeçalho, lendo do banco por
+     * cursor como em {@code /stream}. O cabeçalho X-Total-Count traz a quantidade de clientes no início da
+     * exportação, para que o consumidor acompanhe o andamento.
+     *
+     * @param accept Tipos aceitos pelo consumidor.
+     * @return Corpo transmitido à medida que os clientes são lidos.
+     */
+    @GetMapping(value = "/export", produces = {MediaType.APPLICATION_NDJSON_VALUE, TEXT_CSV_VALUE})
+    public ResponseEntity<StreamingResponseBody> exportarClientes(@RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        boolean csv = accept != null && MediaType.parseMediaTypes(accept).stream().anyMatch(TEXT_CSV::equalsTypeAndSubtype);
+        logger.debug("Requisição para exportar os clientes em {} recebida", csv ? "CSV" : "NDJSON");
+        long total = clienteService.contarClientes();
+        ObjectWriter escritorJson = objectMapper.writerFor(Cliente.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        StreamingResponseBody corpo = saida -> {
+            try (Writer escritor = new BufferedWriter(new OutputStreamWriter(saida, StandardCharsets.UTF_8), 64 * 1024);
+                 JsonGenerator gerador = objectMapper.getFactory().createGenerator(escritor)) {
+                gerador.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                gerador.setRootValueSeparator(null);
+                if (csv) {
+                    escritor.write(CABECALHO_CSV);
+                    escritor.write('\n');
+                }
+                long[] escritos = {0};
+                clienteService.percorrerClientes(cliente -> {
+                    try {
+                        if (csv) {
+                            escreverCsv(escritor, cliente);
+                        } else {
+                            escritorJson.writeValue(gerador, cliente);
+                            gerador.writeRaw('\n');
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    if (++escritos[0] % INTERVALO_PROGRESSO_EXPORTACAO == 0) {
+                        logger.info("Exportação de clientes em andamento: {} de {}", escritos[0], total);
+                    }
+                });
+                gerador.flush();
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(csv ? new MediaType(TEXT_CSV, StandardCharsets.UTF_8) : MediaType.APPLICATION_NDJSON)
+                .header(CABECALHO_TOTAL, String.valueOf(total))
+                .body(corpo);
+    }
+
+    private static void escreverLinha(ObjectWriter escritor, JsonGenerator gerador, Object valor, boolean enviar) {
+        try {
+            escritor.writeValue(gerador, valor);
+            gerador.writeRaw('\n');
+            if (enviar) {
+                gerador.flush(); // Entrega o andamento ao consumidor sem esperar o buffer encher
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void escreverCsv(Writer escritor, Cliente cliente) throws IOException {
+        escritor.write(String.valueOf(cliente.getId()));
+        for (Object valor : new Object[]{cliente.getNome(), cliente.getEmail(), cliente.getTelefone(),
+                cliente.getCriadoEm(), cliente.getAtualizadoEm()}) {
+            escritor.write(',');
+            escreverCampoCsv(escritor, valor != null ? valor.toString() : "");
+        }
+        escritor.write('\n');
+    }
+
+    // Campos com vírgula, aspas ou quebra de linha vão entre aspas, com as aspas internas duplicadas (RFC 4180).
+    // Campos que uma planilha interpretaria como fórmula recebem o prefixo ' (removido na importação)
+    private static void escreverCampoCsv(Writer escritor, String valor) throws IOException {
+        boolean formula = LeitorImportacao.pareceFormula(valor);
+        boolean aspas = formula;
+        for (int i = 0; i < valor.length() && !aspas; i++) {
+            char c = valor.charAt(i);
+            aspas = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!aspas) {
+            escritor.write(valor);
+            return;
+        }
+        escritor.write('"');
+        if (formula) {
+            escritor.write(LeitorImportacao.PREFIXO_FORMULA);
+        }
+        escritor.write(valor.replace("\"", "\"\""));
+        escritor.write('"');
+    }
+
+    /**
+     * Busca um cliente pelo ID. A resposta traz a versão do cliente no cabeçalho ETag; se o cabeçalho
+     * If-None-Match da requisição corresponder a ela, retorna 304 (Not Modified) sem corpo.
+     * Um ID inexistente, situação frequente nesta rota, é respondido com 404 sem lançar exceção.
+     *
+     * @param id      ID do cliente.
+     * @param request Requisição, usada para avaliar o If-None-Match.
+     * @return Cliente encontrado, 304 se a versão do cliente não mudou, ou 404 com o corpo de erro.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<?> buscarClientePorId(@PathVariable Long id) {
-        logger.info("Requisição para buscar cliente com ID {} recebida", id);
-        return clienteService.buscarClientePorId(id)
+    public ResponseEntity<?> buscarClientePorId(@PathVariable Long id, ServletWebRequest request) {
+        logger.debug("Requisição para buscar cliente com ID {} recebida", id);
+        Optional<Cliente> encontrado = clienteService.buscarClientePorId(id);
+        if (encontrado.isEmpty()) {
+            ProblemDetail problema = Problemas.clienteNaoEncontrado(ClienteRegras.mensagemNaoEncontrado(id),
+                    request.getRequest().getRequestURI());
+            return ResponseEntity.status(problema.getStatus()).body(problema);
+        }
+        Cliente cliente = encontrado.get();
+        String etag = ClienteETag.etag(cliente);
+        if (etag != null && request.checkNotModified(etag)) {
+            return null; // 304 já preparado pelo checkNotModified; o corpo não é serializado
+        }
+        return ResponseEntity.ok().eTag(etag).body(cliente);
+    }
+
+    /**
+     * Busca clientes pelo nome. Cada palavra da consulta deve ser o início de uma palavra do nome,
+     * sem diferenciar maiúsculas, minúsculas e acentos.
+     *
+     * @param q     Texto da busca.
+     * @param limit Quantidade máxima de clientes.
+     * @return Clientes encontrados.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<Cliente>> buscarClientesPorNome(@RequestParam String q,
+                                                               @RequestParam(required = false) Integer limit) {
+        logger.debug("Requisição para buscar clientes por nome recebida: {}", q);
+        return ResponseEntity.ok(clienteService.buscarClientesPorNome(q, limit));
+    }
+
+    /**
+     * Busca um cliente pelo e-mail. O e-mail vai no parâmetro de consulta, e não no caminho, para que não apareça
+     * nos logs de acesso (que registram apenas o caminho) e para que e-mails com "/" sejam aceitos.
+     *
+     * @param email E-mail do cliente.
+     * @return Cliente encontrado.
+     */
+    @GetMapping("/by-email")
+    public ResponseEntity<Cliente> buscarClientePorEmail(@RequestParam String email) {
+        logger.debug("Requisição para buscar cliente por e-mail recebida");
+        return clienteService.buscarClientePorEmail(email)
                 .map(ResponseEntity::ok)
-                .orElseThrow(() -> new ClienteNaoEncontradoException("Cliente com ID " + id + " não encontrado."));
+                .orElseThrow(() -> new ClienteNaoEncontradoException("Cliente com e-mail " + email + " não encontrado."));
     }
 }
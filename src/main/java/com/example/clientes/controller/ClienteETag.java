@@ -0,0 +1,43 @@
+package com.example.clientes.controller;
+
+import com.example.clientes.exception.ClienteVersaoDivergenteException;
+import com.example.clientes.model.Cliente;
+
+/**
+ * Conversão entre a versão de um cliente e o ETag das respostas, usada pela API servlet e pela reativa.
+ */
+final class ClienteETag {
+
+    private ClienteETag() {
+    }
+
+    /**
+     * ETag forte com a versão do cliente, por exemplo {@code "3"}.
+     */
+    static String etag(Cliente cliente) {
+        return cliente.getVersao() != null ? "\"" + cliente.getVersao() + "\"" : null;
+    }
+
+    /**
+     * Versão esperada de acordo com o cabeçalho If-Match, ou null se ele estiver ausente ou for {@code *}.
+     */
+    static Long versaoEsperada(Long id, String ifMatch) {
+        return ifMatch == null || ifMatch.trim().equals("*") ? null : versaoDoETag(id, ifMatch);
+    }
+
+    /**
+     * Extrai a versão de um ETag recebido no If-Match. Um ETag fraco ou em formato desconhecido nunca
+     * corresponde à versão atual, portanto resulta em 412.
+     */
+    static Long versaoDoETag(Long id, String ifMatch) {
+        String etag = ifMatch.trim();
+        if (etag.length() > 2 && etag.startsWith("\"") && etag.endsWith("\"")) {
+            try {
+                return Long.valueOf(etag.substring(1, etag.length() - 1));
+            } catch (NumberFormatException e) {
+                // Tratado abaixo como versão divergente
+            }
+        }
+        throw new ClienteVersaoDivergenteException("O cliente com ID " + id + " não está na versão " + etag + ".");
+    }
+}
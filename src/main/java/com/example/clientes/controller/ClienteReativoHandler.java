@@ -0,0 +1,215 @@
+package com.example.clientes.controller;
+
+import com.example.clientes.config.ReativoConfig;
+import com.example.clientes.exception.Problemas;
+import com.example.clientes.model.Cliente;
+import com.example.clientes.service.ClienteReativoService;
+import com.example.clientes.service.ClienteRegras;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Funções de tratamento das rotas da API reativa de clientes (perfil {@value ReativoConfig#PERFIL}), com o mesmo
+ * contrato das rotas correspondentes do {@link ClienteController}: cabeçalhos ETag, If-Match e If-None-Match,
+ * cursores de paginação e corpo das respostas de erro ({@link Problemas}).
+ */
+@Component
+@Profile(ReativoConfig.PERFIL)
+public class ClienteReativoHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClienteReativoHandler.class);
+
+    /**
+     * Quantidade de clientes solicitada ao banco por vez na listagem completa. O fluxo é transmitido conforme o
+     * cliente HTTP consome a resposta, e o banco é lido em lotes deste tamanho, sem materializar a tabela.
+     */
+    static final int LOTE_LEITURA_LISTAGEM = 256;
+
+    @Autowired
+    private ClienteReativoService clienteReativoService;
+
+    /**
+     * Cria um novo cliente.
+     * @param request Requisição com os dados do cliente.
+     * @return Cliente criado.
+     */
+    public Mono<ServerResponse> criarCliente(ServerRequest request) {
+        logger.debug("Requisição para criar cliente recebida");
+        return request.bodyToMono(Cliente.class)
+                .flatMap(clienteReativoService::criarCliente)
+                .flatMap(cliente -> ServerResponse.ok().bodyValue(cliente))
+                .onErrorResume(erro -> responderErro(request, erro));
+    }
+
+    /**
+     * Altera um cliente existente, com o mesmo tratamento do cabeçalho If-Match do {@link ClienteController}.
+     * @param request Requisição com o ID e os dados do cliente.
+     * @return Cliente alterado, com o ETag da nova versão.
+     */
+    public Mono<ServerResponse> alterarCliente(ServerRequest request) {
+        return Mono.fromCallable(() -> idDaRota(request))
+                .flatMap(id -> {
+                    logger.debug("Requisição para alterar cliente com ID {} recebida", id);
+                    Long versaoEsperada = ClienteETag.versaoEsperada(id, request.headers().firstHeader("If-Match"));
+                    return request.bodyToMono(Cliente.class)
+                            .flatMap(cliente -> clienteReativoService.alterarCliente(id, cliente, versaoEsperada));
+                })
+                .flatMap(cliente -> ServerResponse.ok().eTag(ClienteETag.etag(cliente)).bodyValue(cliente))
+                .onErrorResume(erro -> responderErro(request, erro));
+    }
+
+    /**
+     * Exclui um cliente pelo ID.
+     * @param request Requisição com o ID do cliente.
+     * @return Mensagem de confirmação.
+     */
+    public Mono<ServerResponse> excluirCliente(ServerRequest request) {
+        return Mono.fromCallable(() -> idDaRota(request))
+                .flatMap(id -> {
+                    logger.debug("Requisição para excluir cliente com ID {} recebida", id);
+                    return clienteReativoService.excluirCliente(id);
+                })
+                .then(ServerResponse.ok().contentType(MediaType.TEXT_PLAIN).bodyValue("Cliente excluído com sucesso."))
+                .onErrorResume(erro -> responderErro(request, erro));
+    }
+
+    /**
+     * Busca um cliente pelo ID, com ETag e resposta 304 quando o If-None-Match corresponde à versão atual.
+     * @param request Requisição com o ID do cliente.
+     * @return Cliente encontrado, ou 304 se a versão do cliente não mudou.
+     */
+    public Mono<ServerResponse> buscarClientePorId(ServerRequest request) {
+        return Mono.fromCallable(() -> idDaRota(request))
+                .flatMap(id -> {
+                    logger.debug("Requisição para buscar cliente com ID {} recebida", id);
+                    return clienteReativoService.buscarClientePorId(id)
+                            .flatMap(cliente -> {
+                                String etag = ClienteETag.etag(cliente);
+                                return request.checkNotModified(etag)
+                                        .switchIfEmpty(Mono.defer(() -> ServerResponse.ok().eTag(etag).bodyValue(cliente)));
+                            })
+                            // ID inexistente: 404 sem lançar exceção, como no ClienteController
+                            .switchIfEmpty(Mono.defer(() -> responderProblema(Problemas.clienteNaoEncontrado(
+                                    ClienteRegras.mensagemNaoEncontrado(id), request.path()))));
+                })
+                .onErrorResume(erro -> responderErro(request, erro));
+    }
+
+    /**
+     * Lista os clientes, com os mesmos parâmetros do {@link ClienteController}. Sem parâmetros, transmite todos os
+     * clientes como fluxo: em JSON (um array) ou, com {@code Accept: application/x-ndjson}, um objeto por linha.
+     * A leitura do banco acompanha a demanda da conexão (contrapressão), em lotes de {@link #LOTE_LEITURA_LISTAGEM}.
+     * @param request Requisição com os parâmetros modifiedSince, afterId e limit (opcionais).
+     * @return Clientes, ou 204 se não houver clientes.
+     */
+    public Mono<ServerResponse> listarClientes(ServerRequest request) {
+        return Mono.fromCallable(() -> new ParametrosListagem(request))
+                .flatMap(parametros -> {
+                    if (parametros.modifiedSince() != null) {
+                        logger.debug("Requisição para listar clientes alterados desde {} após o ID {} recebida",
+                                parametros.modifiedSince(), parametros.afterId());
+                        return clienteReativoService.listarClientesModificados(parametros.modifiedSince(),
+                                        parametros.afterId(), parametros.limit())
+                                .collectList()
+                                .flatMap(clientes -> responderPagina(clientes, true));
+                    }
+                    if (parametros.afterId() == null && parametros.limit() == null) {
+                        logger.debug("Requisição para listar todos os clientes recebida");
+                        return clienteReativoService.existemClientes()
+                                .flatMap(existem -> existem
+                                        ? responderFluxo(request, clienteReativoService.listarClientes())
+                                        : ServerResponse.noContent().build());
+                    }
+                    logger.debug("Requisição para listar clientes após o ID {} recebida", parametros.afterId());
+                    return clienteReativoService.listarClientes(parametros.afterId(), parametros.limit())
+                            .collectList()
+                            .flatMap(clientes -> responderPagina(clientes, false));
+                })
+                .onErrorResume(erro -> responderErro(request, erro));
+    }
+
+    private static Mono<ServerResponse> responderFluxo(ServerRequest request, Flux<Cliente> clientes) {
+        MediaType tipo = request.headers().accept().stream().anyMatch(MediaType.APPLICATION_NDJSON::equalsTypeAndSubtype)
+                ? MediaType.APPLICATION_NDJSON
+                : MediaType.APPLICATION_JSON;
+        return ServerResponse.ok().contentType(tipo).body(clientes.limitRate(LOTE_LEITURA_LISTAGEM), Cliente.class);
+    }
+
+    private static Mono<ServerResponse> responderPagina(List<Cliente> clientes, boolean porDataDeAlteracao) {
+        if (clientes.isEmpty()) {
+            return ServerResponse.noContent().build();
+        }
+        Cliente ultimo = clientes.get(clientes.size() - 1);
+        ServerResponse.BodyBuilder resposta = ServerResponse.ok()
+                .header(ClienteController.CABECALHO_PROXIMO_CURSOR, String.valueOf(ultimo.getId()));
+        if (porDataDeAlteracao) {
+            resposta.header(ClienteController.CABECALHO_PROXIMA_DATA, ultimo.getAtualizadoEm().toString());
+        }
+        return resposta.bodyValue(clientes);
+    }
+
+    private static Long idDaRota(ServerRequest request) {
+        return converter("id", request.pathVariable("id"), Long::valueOf);
+    }
+
+    /**
+     * Resposta de erro com o mesmo status e corpo ({@link Problemas}) do {@code GlobalExceptionHandler}.
+     */
+    private static Mono<ServerResponse> responderErro(ServerRequest request, Throwable erro) {
+        ProblemDetail problema;
+        if (erro instanceof ServerWebInputException entradaInvalida) {
+            problema = Problemas.problema(HttpStatus.BAD_REQUEST, Problemas.TIPO_DADOS_INVALIDOS, "Dados inválidos",
+                    entradaInvalida.getReason(), request.path());
+        } else {
+            problema = Problemas.paraExcecao(erro, request.path());
+            if (problema.getStatus() == HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+                logger.error("Erro ao processar a requisição {} {}", request.method(), request.path(), erro);
+            }
+        }
+        return responderProblema(problema);
+    }
+
+    private static Mono<ServerResponse> responderProblema(ProblemDetail problema) {
+        return ServerResponse.status(problema.getStatus())
+                .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+                .bodyValue(problema);
+    }
+
+    private static <T> T converter(String parametro, String valor, Function<String, T> conversor) {
+        if (valor == null) {
+            return null;
+        }
+        try {
+            return conversor.apply(valor);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Valor inválido para o parâmetro " + parametro + ": " + valor + ".");
+        }
+    }
+
+    /**
+     * Parâmetros de consulta da listagem, convertidos como no {@code @RequestParam} do {@link ClienteController}.
+     */
+    private record ParametrosListagem(Instant modifiedSince, Long afterId, Integer limit) {
+
+        ParametrosListagem(ServerRequest request) {
+            this(converter("modifiedSince", request.queryParam("modifiedSince").orElse(null), Instant::parse),
+                    converter("afterId", request.queryParam("afterId").orElse(null), Long::valueOf),
+                    converter("limit", request.queryParam("limit").orElse(null), Integer::valueOf));
+        }
+    }
+}
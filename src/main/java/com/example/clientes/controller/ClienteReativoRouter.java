@@ -0,0 +1,37 @@
+package com.example.clientes.controller;
+
+import com.example.clientes.config.ReativoConfig;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.DELETE;
+import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
+import static org.springframework.web.reactive.function.server.RequestPredicates.POST;
+import static org.springframework.web.reactive.function.server.RequestPredicates.PUT;
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+/**
+ * Rotas da API reativa de clientes (perfil {@value ReativoConfig#PERFIL}): as mesmas URLs do CRUD e da listagem
+ * do {@link ClienteController}, atendidas pelo {@link ClienteReativoHandler}.
+ */
+@Configuration
+@Profile(ReativoConfig.PERFIL)
+public class ClienteReativoRouter {
+
+    /**
+     * Mapeamento das rotas para as funções de tratamento.
+     * @param handler Funções de tratamento das rotas.
+     * @return RouterFunction
+     */
+    @Bean
+    public RouterFunction<ServerResponse> rotasClientes(ClienteReativoHandler handler) {
+        return route(POST("/api/clientes"), handler::criarCliente)
+                .andRoute(GET("/api/clientes"), handler::listarClientes)
+                .andRoute(GET("/api/clientes/{id}"), handler::buscarClientePorId)
+                .andRoute(PUT("/api/clientes/{id}"), handler::alterarCliente)
+                .andRoute(DELETE("/api/clientes/{id}"), handler::excluirCliente);
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.clientes.exception;
+
+/**
+ * Exceção personalizada para casos onde os dados de um cliente violam uma restrição de unicidade, como o e-mail.
+ */
+public class ClienteDuplicadoException extends ClienteException {
+
+    /**
+     * Construtor que aceita uma mensagem personalizada.
+     * @param mensagem Mensagem descritiva do erro.
+     */
+    public ClienteDuplicadoException(String mensagem) {
+        super(mensagem);
+    }
+}
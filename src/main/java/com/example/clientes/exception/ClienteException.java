@@ -0,0 +1,18 @@
+package com.example.clientes.exception;
+
+/**
+ * Base das exceções de regra de negócio de Cliente (cliente inexistente, duplicado ou em outra versão).
+ * <p>
+ * Essas exceções representam respostas esperadas da API (404, 409 e 412), não defeitos, e algumas são frequentes,
+ * como buscas por IDs inexistentes. Por isso não registram a pilha de chamadas nem aceitam exceções suprimidas:
+ * criá-las custa o mesmo que criar um objeto comum.
+ */
+public abstract class ClienteException extends RuntimeException {
+
+    /**
+     * @param mensagem Mensagem descritiva do erro, devolvida no corpo da resposta.
+     */
+    protected ClienteException(String mensagem) {
+        super(mensagem, null, false, false);
+    }
+}
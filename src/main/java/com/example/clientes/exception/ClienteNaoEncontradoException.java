@@ -3,7 +3,7 @@ package com.example.clientes.exception;
 /**
  * Exceção personalizada para casos onde um cliente não é encontrado.
  */
-public class ClienteNaoEncontradoException extends RuntimeException {
+public class ClienteNaoEncontradoException extends ClienteException {
 
     /**
      * Construtor que aceita uma mensagem personalizada.
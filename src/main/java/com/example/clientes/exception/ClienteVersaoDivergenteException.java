@@ -0,0 +1,16 @@
+package com.example.clientes.exception;
+
+/**
+ * Exceção personalizada para alterações condicionais (If-Match) em que o cliente não está mais na versão informada,
+ * ou seja, foi alterado por outra requisição desde a leitura.
+ */
+public class ClienteVersaoDivergenteException extends ClienteException {
+
+    /**
+     * Construtor que aceita uma mensagem personalizada.
+     * @param mensagem Mensagem descritiva do erro.
+     */
+    public ClienteVersaoDivergenteException(String mensagem) {
+        super(mensagem);
+    }
+}
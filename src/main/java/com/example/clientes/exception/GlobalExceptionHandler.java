@@ -1,81 +1,94 @@
 package com.example.clientes.exception;
 
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
-import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 
 /**
  * Manipulador global de exceções para capturar e retornar mensagens amigáveis de erro.
+ * Os erros são devolvidos no formato Problem Details ({@link Problemas}); as exceções do próprio Spring MVC
+ * (rota inexistente, método não suportado, corpo ilegível etc.) são tratadas pela classe base, com o status adequado.
  */
 @ControllerAdvice
-public class GlobalExceptionHandler {
+public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
     /**
-     * Trata exceções de Cliente não encontrado.
+     * Trata as exceções de regra de negócio de Cliente (não encontrado, versão divergente e duplicado).
      * @param ex Exceção lançada.
-     * @param request Detalhes da requisição.
+     * @param request Requisição.
      * @return Resposta formatada.
      */
-    @ExceptionHandler(ClienteNaoEncontradoException.class)
-    public ResponseEntity<Map<String, Object>> handleClienteNaoEncontradoException(
-            ClienteNaoEncontradoException ex, WebRequest request) {
-
-        Map<String, Object> body = new HashMap<>();
-        body.put("timestamp", LocalDateTime.now());
-        body.put("status", HttpStatus.NOT_FOUND.value());
-        body.put("error", "Cliente não encontrado");
-        body.put("message", ex.getMessage());
-        body.put("path", request.getDescription(false));
-
-        return new ResponseEntity<>(body, HttpStatus.NOT_FOUND);
+    @ExceptionHandler(ClienteException.class)
+    public ResponseEntity<ProblemDetail> handleClienteException(ClienteException ex, HttpServletRequest request) {
+        return resposta(Problemas.paraExcecao(ex, request.getRequestURI()));
     }
 
     /**
-     * Trata exceções de validação (ex: campos inválidos).
+     * Trata exceções de validação (ex: campos inválidos). Os erros de cada campo ficam na propriedade errors.
      * @param ex Exceção lançada.
+     * @param headers Cabeçalhos da resposta.
+     * @param status Status da resposta.
+     * @param request Requisição.
      * @return Resposta formatada.
      */
-    @ExceptionHandler(MethodArgumentNotValidException.class)
-    public ResponseEntity<Map<String, Object>> handleValidationExceptions(
-            MethodArgumentNotValidException ex) {
+    @Override
+    protected ResponseEntity<Object> handleMethodArgumentNotValid(
+            MethodArgumentNotValidException ex, HttpHeaders headers, HttpStatusCode status, WebRequest request) {
 
         Map<String, Object> errors = new HashMap<>();
         ex.getBindingResult().getFieldErrors().forEach(error ->
                 errors.put(error.getField(), error.getDefaultMessage())
         );
 
-        Map<String, Object> body = new HashMap<>();
-        body.put("timestamp", LocalDateTime.now());
-        body.put("status", HttpStatus.BAD_REQUEST.value());
-        body.put("errors", errors);
+        ProblemDetail problema = Problemas.problema(HttpStatus.BAD_REQUEST, Problemas.TIPO_DADOS_INVALIDOS,
+                "Dados inválidos", "Um ou mais campos são inválidos.",
+                ((ServletWebRequest) request).getRequest().getRequestURI());
+        problema.setProperty("errors", errors);
+        return ResponseEntity.badRequest().headers(headers).body(problema);
+    }
 
-        return new ResponseEntity<>(body, HttpStatus.BAD_REQUEST);
+    /**
+     * Trata exceções de dados inválidos lançadas pelas regras de negócio (ex: e-mail ou telefone mal formatados).
+     * @param ex Exceção lançada.
+     * @param request Requisição.
+     * @return Resposta formatada.
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ProblemDetail> handleIllegalArgumentException(
+            IllegalArgumentException ex, HttpServletRequest request) {
+        return resposta(Problemas.paraExcecao(ex, request.getRequestURI()));
     }
 
     /**
-     * Trata exceções gerais.
+     * Trata exceções gerais. A exceção é registrada no log com a causa e a pilha de chamadas; a resposta não
+     * expõe a mensagem dela.
      * @param ex Exceção lançada.
-     * @param request Detalhes da requisição.
+     * @param request Requisição.
      * @return Resposta formatada.
      */
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<Map<String, Object>> handleGlobalException(
-            Exception ex, WebRequest request) {
-
-        Map<String, Object> body = new HashMap<>();
-        body.put("timestamp", LocalDateTime.now());
-        body.put("status", HttpStatus.INTERNAL_SERVER_ERROR.value());
-        body.put("error", "Erro interno no servidor");
-        body.put("message", ex.getMessage());
-        body.put("path", request.getDescription(false));
+    public ResponseEntity<ProblemDetail> handleGlobalException(Exception ex, HttpServletRequest request) {
+        logger.error("Erro ao processar a requisição {} {}", request.getMethod(), request.getRequestURI(), ex);
+        return resposta(Problemas.erroInterno(request.getRequestURI()));
+    }
 
-        return new ResponseEntity<>(body, HttpStatus.INTERNAL_SERVER_ERROR);
+    private static ResponseEntity<ProblemDetail> resposta(ProblemDetail problema) {
+        return ResponseEntity.status(problema.getStatus()).body(problema);
     }
 }
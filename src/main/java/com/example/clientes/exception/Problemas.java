@@ -0,0 +1,90 @@
+package com.example.clientes.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+
+import java.net.URI;
+
+/**
+ * Corpos de resposta de erro no formato RFC 9457 (Problem Details, sucessor da RFC 7807), servidos como
+ * {@code application/problem+json} pela API servlet ({@link GlobalExceptionHandler}) e pela reativa.
+ * <p>
+ * O campo {@code type} identifica o erro de forma estável para os consumidores, {@code title} o descreve,
+ * {@code detail} traz a mensagem da exceção e {@code instance} o caminho da requisição.
+ */
+public final class Problemas {
+
+    public static final URI TIPO_CLIENTE_NAO_ENCONTRADO = URI.create("urn:problema:cliente-nao-encontrado");
+    public static final URI TIPO_VERSAO_DIVERGENTE = URI.create("urn:problema:versao-divergente");
+    public static final URI TIPO_CLIENTE_DUPLICADO = URI.create("urn:problema:cliente-duplicado");
+    public static final URI TIPO_DADOS_INVALIDOS = URI.create("urn:problema:dados-invalidos");
+
+    private Problemas() {
+    }
+
+    /**
+     * Corpo de erro correspondente à exceção, com o mesmo mapeamento do {@link GlobalExceptionHandler}:
+     * exceções de Cliente, dados inválidos ({@link IllegalArgumentException}) ou erro interno.
+     * @param ex Exceção lançada.
+     * @param caminho Caminho da requisição.
+     * @return Corpo de erro, com o status da resposta.
+     */
+    public static ProblemDetail paraExcecao(Throwable ex, String caminho) {
+        if (ex instanceof ClienteNaoEncontradoException) {
+            return clienteNaoEncontrado(ex.getMessage(), caminho);
+        }
+        if (ex instanceof ClienteVersaoDivergenteException) {
+            return problema(HttpStatus.PRECONDITION_FAILED, TIPO_VERSAO_DIVERGENTE, "Versão divergente", ex.getMessage(), caminho);
+        }
+        if (ex instanceof ClienteDuplicadoException) {
+            return problema(HttpStatus.CONFLICT, TIPO_CLIENTE_DUPLICADO, "Cliente duplicado", ex.getMessage(), caminho);
+        }
+        if (ex instanceof IllegalArgumentException) {
+            return problema(HttpStatus.BAD_REQUEST, TIPO_DADOS_INVALIDOS, "Dados inválidos", ex.getMessage(), caminho);
+        }
+        return erroInterno(caminho);
+    }
+
+    /**
+     * Corpo de erro de cliente não encontrado, usado também sem exceção nas buscas por ID.
+     * @param detalhe Mensagem de erro.
+     * @param caminho Caminho da requisição.
+     * @return Corpo de erro com status 404.
+     */
+    public static ProblemDetail clienteNaoEncontrado(String detalhe, String caminho) {
+        return problema(HttpStatus.NOT_FOUND, TIPO_CLIENTE_NAO_ENCONTRADO, "Cliente não encontrado", detalhe, caminho);
+    }
+
+    /**
+     * Corpo de erro interno. A mensagem da exceção não é exposta, pois pode conter detalhes do banco.
+     * @param caminho Caminho da requisição.
+     * @return Corpo de erro com status 500.
+     */
+    public static ProblemDetail erroInterno(String caminho) {
+        return problema(HttpStatus.INTERNAL_SERVER_ERROR, null, "Erro interno no servidor",
+                "Erro inesperado ao processar a requisição.", caminho);
+    }
+
+    /**
+     * Monta um corpo de erro.
+     * @param status Status da resposta.
+     * @param tipo Identificador do tipo de erro, ou null para {@code about:blank}.
+     * @param titulo Descrição curta do tipo de erro.
+     * @param detalhe Descrição desta ocorrência.
+     * @param caminho Caminho da requisição.
+     * @return Corpo de erro.
+     */
+    public static ProblemDetail problema(HttpStatus status, URI tipo, String titulo, String detalhe, String caminho) {
+        ProblemDetail problema = ProblemDetail.forStatusAndDetail(status, detalhe);
+        if (tipo != null) {
+            problema.setType(tipo);
+        }
+        problema.setTitle(titulo);
+        try {
+            problema.setInstance(URI.create(caminho));
+        } catch (IllegalArgumentException e) {
+            // Caminho que não é uma URI válida: o erro é devolvido sem o campo instance
+        }
+        return problema;
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.clientes.metrics;
+
+import com.example.clientes.exception.ClienteDuplicadoException;
+import com.example.clientes.exception.ClienteNaoEncontradoException;
+import com.example.clientes.exception.ClienteVersaoDivergenteException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede a duração de cada operação pública do {@code ClienteService} no timer {@value #TIMER_OPERACAO},
+ * com histograma de percentis e as tags {@code operacao} (nome do método) e {@code resultado}.
+ * <p>
+ * É o interceptador mais externo do serviço: mede inclusive as leituras atendidas pelo cache e
+ * as falhas que só ocorrem no commit da transação.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ClienteServiceMetricasAspect {
+
+    /** Nome do timer das operações do serviço de clientes. */
+    public static final String TIMER_OPERACAO = "clientes.operacao";
+
+    /**
+     * Resultado de uma operação, usado como valor da tag {@code resultado}.
+     */
+    public enum Resultado {
+        OK("ok"), NOT_FOUND("not_found"), VALIDATION_ERROR("validation_error"), DB_ERROR("db_error");
+
+        private final String tag;
+
+        Resultado(String tag) {
+            this.tag = tag;
+        }
+
+        public String getTag() {
+            return tag;
+        }
+    }
+
+    private final MeterRegistry registry;
+
+    // Timers já registrados por operação, indexados pelo ordinal do resultado, para não recriá-los a cada chamada
+    private final Map<String, Timer[]> timers = new ConcurrentHashMap<>();
+
+    public ClienteServiceMetricasAspect(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Around("execution(public * com.example.clientes.service.ClienteService.*(..))")
+    public Object medir(ProceedingJoinPoint joinPoint) throws Throwable {
+        long inicio = System.nanoTime();
+        Resultado resultado = Resultado.OK;
+        try {
+            Object retorno = joinPoint.proceed();
+            if (retorno instanceof Optional<?> opcional && opcional.isEmpty()) {
+                resultado = Resultado.NOT_FOUND;
+            }
+            return retorno;
+        } catch (Throwable e) {
+            resultado = classificar(e);
+            throw e;
+        } finally {
+            timer(joinPoint.getSignature().getName(), resultado).record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static Resultado classificar(Throwable e) {
+        if (e instanceof ClienteNaoEncontradoException) {
+            return Resultado.NOT_FOUND;
+        }
+        if (e instanceof IllegalArgumentException || e instanceof ClienteDuplicadoException
+                || e instanceof ClienteVersaoDivergenteException) {
+            return Resultado.VALIDATION_ERROR;
+        }
+        return Resultado.DB_ERROR;
+    }
+
+    private Timer timer(String operacao, Resultado resultado) {
+        return timers.computeIfAbsent(operacao, this::registrarTimers)[resultado.ordinal()];
+    }
+
+    private Timer[] registrarTimers(String operacao) {
+        Resultado[] resultados = Resultado.values();
+        Timer[] porResultado = new Timer[resultados.length];
+        for (Resultado resultado : resultados) {
+            porResultado[resultado.ordinal()] = Timer.builder(TIMER_OPERACAO)
+                    .description("Duração das operações do serviço de clientes")
+                    .tag("operacao", operacao)
+                    .tag("resultado", resultado.getTag())
+                    .publishPercentileHistogram()
+                    .register(registry);
+        }
+        return porResultado;
+    }
+}
@@ -1,24 +1,59 @@
 package com.example.clientes.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
+import org.hibernate.annotations.DynamicUpdate;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 
 /**
  * Entidade Cliente que representa um cliente no sistema.
+ * <p>
+ * Com {@code @DynamicUpdate}, os UPDATEs gerados pelo Hibernate incluem apenas as colunas alteradas.
  */
 @Entity
+@DynamicUpdate
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_cliente_email", columnNames = "email"), // Também indexa a busca por e-mail
+        indexes = @Index(name = "idx_cliente_atualizado_em", columnList = "atualizado_em, id")) // Sincronização por data de alteração
 public class Cliente {
 
+    // Sequência com otimizador pooled: o Hibernate reserva blocos de IDs e pode agrupar os INSERTs em lotes JDBC
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "cliente_seq")
+    @SequenceGenerator(name = "cliente_seq", sequenceName = "cliente_seq", allocationSize = 50)
     private Long id;
 
     private String nome;
     private String email;
     private String telefone;
 
+    // Versão para controle de concorrência otimista, exposta na API como ETag e não no corpo JSON
+    @Version
+    @JsonIgnore
+    private Long versao;
+
+    // Datas de criação e de última alteração, preenchidas automaticamente e somente leitura na API
+    @Column(name = "criado_em", nullable = false, updatable = false)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Instant criadoEm;
+
+    @Column(name = "atualizado_em", nullable = false)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Instant atualizadoEm;
+
     // Construtor padrão
     public Cliente() {
     }
@@ -30,6 +65,25 @@ public class Cliente {
         this.telefone = telefone;
     }
 
+    /**
+     * Instante atual com a precisão das colunas de data (microssegundos), para que o valor em memória
+     * seja igual ao gravado no banco.
+     */
+    public static Instant agora() {
+        return Instant.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
+    @PrePersist
+    void preencherDatasCriacao() {
+        criadoEm = agora();
+        atualizadoEm = criadoEm;
+    }
+
+    @PreUpdate
+    void preencherDataAlteracao() {
+        atualizadoEm = agora();
+    }
+
     // Getters e Setters
     public Long getId() {
         return id;
@@ -62,4 +116,28 @@ public class Cliente {
     public void setTelefone(String telefone) {
         this.telefone = telefone;
     }
+
+    public Long getVersao() {
+        return versao;
+    }
+
+    public void setVersao(Long versao) {
+        this.versao = versao;
+    }
+
+    public Instant getCriadoEm() {
+        return criadoEm;
+    }
+
+    public void setCriadoEm(Instant criadoEm) {
+        this.criadoEm = criadoEm;
+    }
+
+    public Instant getAtualizadoEm() {
+        return atualizadoEm;
+    }
+
+    public void setAtualizadoEm(Instant atualizadoEm) {
+        this.atualizadoEm = atualizadoEm;
+    }
 }
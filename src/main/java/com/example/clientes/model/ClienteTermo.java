@@ -0,0 +1,61 @@
+package com.example.clientes.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+/**
+ * Termo do índice de busca por nome: cada palavra do nome de um cliente, sem acentos e em minúsculas.
+ * O índice (termo, cliente_id) permite buscas por prefixo sem percorrer a tabela de clientes.
+ */
+@Entity
+@Table(name = "cliente_termo", indexes = @Index(name = "idx_cliente_termo_termo", columnList = "termo, cliente_id"))
+public class ClienteTermo {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "cliente_termo_seq")
+    @SequenceGenerator(name = "cliente_termo_seq", sequenceName = "cliente_termo_seq", allocationSize = 50)
+    private Long id;
+
+    // Os termos são removidos pelo banco junto com o cliente, sem comandos adicionais na exclusão
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "cliente_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Cliente cliente;
+
+    @Column(nullable = false)
+    private String termo;
+
+    // Construtor padrão
+    public ClienteTermo() {
+    }
+
+    // Construtor com parâmetros
+    public ClienteTermo(Cliente cliente, String termo) {
+        this.cliente = cliente;
+        this.termo = termo;
+    }
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public Cliente getCliente() {
+        return cliente;
+    }
+
+    public String getTermo() {
+        return termo;
+    }
+}
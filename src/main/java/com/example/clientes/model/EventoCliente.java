@@ -0,0 +1,123 @@
+package com.example.clientes.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.time.Instant;
+
+/**
+ * Evento de alteração de um cliente (outbox), gravado na mesma transação da criação, alteração ou exclusão.
+ * Consumidores leem os eventos em ordem de {@code sequencia} para acompanhar as mudanças sem reler a tabela
+ * de clientes. Eventos de criação e alteração trazem os dados do cliente após a mudança.
+ */
+@Entity
+@Table(name = "evento_cliente", indexes = @Index(name = "idx_evento_cliente_registrado_em", columnList = "registrado_em"))
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class EventoCliente {
+
+    /**
+     * Tipo de mudança ocorrida no cliente.
+     */
+    public enum Tipo {
+        CRIADO, ALTERADO, EXCLUIDO
+    }
+
+    // Sequência sem reserva de blocos: com várias instâncias da aplicação, blocos de 50 dariam a cada uma uma faixa
+    // própria, e eventos novos de uma instância poderiam receber números menores que os já lidos de outra
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "evento_cliente_seq")
+    @SequenceGenerator(name = "evento_cliente_seq", sequenceName = "evento_cliente_seq", allocationSize = 1)
+    private Long sequencia;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Tipo tipo;
+
+    @Column(name = "cliente_id", nullable = false)
+    private Long clienteId;
+
+    private Long versao;
+    private String nome;
+    private String email;
+    private String telefone;
+
+    // Preenchido pelo relógio do banco, o mesmo para todas as instâncias da aplicação; não é lido de volta após o INSERT
+    @ColumnDefault("current_timestamp")
+    @Column(name = "registrado_em", nullable = false, insertable = false, updatable = false)
+    private Instant registradoEm;
+
+    // Construtor padrão
+    public EventoCliente() {
+    }
+
+    // Construtor com parâmetros; a data de registro é preenchida pelo banco
+    public EventoCliente(Tipo tipo, Long clienteId) {
+        this.tipo = tipo;
+        this.clienteId = clienteId;
+    }
+
+    // Construtor com parâmetros
+    public EventoCliente(Tipo tipo, Long clienteId, Instant registradoEm) {
+        this.tipo = tipo;
+        this.clienteId = clienteId;
+        this.registradoEm = registradoEm;
+    }
+
+    /**
+     * Cria um evento de criação ou alteração com os dados atuais do cliente.
+     * @param tipo    Tipo da mudança.
+     * @param cliente Cliente após a mudança.
+     * @return Evento ainda não persistido.
+     */
+    public static EventoCliente de(Tipo tipo, Cliente cliente) {
+        EventoCliente evento = new EventoCliente(tipo, cliente.getId());
+        evento.versao = cliente.getVersao();
+        evento.nome = cliente.getNome();
+        evento.email = cliente.getEmail();
+        evento.telefone = cliente.getTelefone();
+        return evento;
+    }
+
+    // Getters
+    public Long getSequencia() {
+        return sequencia;
+    }
+
+    public Tipo getTipo() {
+        return tipo;
+    }
+
+    public Long getClienteId() {
+        return clienteId;
+    }
+
+    public Long getVersao() {
+        return versao;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getTelefone() {
+        return telefone;
+    }
+
+    public Instant getRegistradoEm() {
+        return registradoEm;
+    }
+}
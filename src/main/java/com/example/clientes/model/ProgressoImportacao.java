@@ -0,0 +1,42 @@
+package com.example.clientes.model;
+
+/**
+ * Andamento de uma importação de clientes, informado periodicamente no relatório da importação e ao final dela.
+ */
+public class ProgressoImportacao {
+
+    private final long processados;
+    private final long gravados;
+    private final long rejeitados;
+    private final boolean concluido;
+
+    // Construtor com parâmetros
+    public ProgressoImportacao(long processados, long gravados, long rejeitados, boolean concluido) {
+        this.processados = processados;
+        this.gravados = gravados;
+        this.rejeitados = rejeitados;
+        this.concluido = concluido;
+    }
+
+    // Getters
+
+    /** Quantidade de registros lidos até o momento. */
+    public long getProcessados() {
+        return processados;
+    }
+
+    /** Quantidade de clientes já gravados no banco. */
+    public long getGravados() {
+        return gravados;
+    }
+
+    /** Quantidade de registros rejeitados, cada um informado em uma {@link RejeicaoImportacao}. */
+    public long getRejeitados() {
+        return rejeitados;
+    }
+
+    /** Indica o último andamento, enviado ao fim da importação. */
+    public boolean isConcluido() {
+        return concluido;
+    }
+}
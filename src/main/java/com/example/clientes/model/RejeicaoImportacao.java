@@ -0,0 +1,36 @@
+package com.example.clientes.model;
+
+import com.example.clientes.model.ResultadoItemLote.Status;
+
+/**
+ * Registro rejeitado em uma importação de clientes, informado no relatório da importação.
+ */
+public class RejeicaoImportacao {
+
+    private final long linha;
+    private final Status status;
+    private final String mensagem;
+
+    // Construtor com parâmetros
+    public RejeicaoImportacao(long linha, Status status, String mensagem) {
+        this.linha = linha;
+        this.status = status;
+        this.mensagem = mensagem;
+    }
+
+    // Getters
+
+    /** Número da linha do arquivo em que o registro começa (a partir de 1, incluindo o cabeçalho do CSV). */
+    public long getLinha() {
+        return linha;
+    }
+
+    /** {@code INVALIDO} para registros ilegíveis ou com dados inválidos, {@code ERRO} para falhas na gravação. */
+    public Status getStatus() {
+        return status;
+    }
+
+    public String getMensagem() {
+        return mensagem;
+    }
+}
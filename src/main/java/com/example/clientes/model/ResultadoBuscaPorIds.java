@@ -0,0 +1,27 @@
+package com.example.clientes.model;
+
+import java.util.List;
+
+/**
+ * Resultado da busca de vários clientes por ID: os clientes encontrados e os IDs sem cliente correspondente.
+ */
+public class ResultadoBuscaPorIds {
+
+    private final List<Cliente> clientes;
+    private final List<Long> naoEncontrados;
+
+    // Construtor com parâmetros
+    public ResultadoBuscaPorIds(List<Cliente> clientes, List<Long> naoEncontrados) {
+        this.clientes = clientes;
+        this.naoEncontrados = naoEncontrados;
+    }
+
+    // Getters
+    public List<Cliente> getClientes() {
+        return clientes;
+    }
+
+    public List<Long> getNaoEncontrados() {
+        return naoEncontrados;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.clientes.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Resultado do processamento de um item em uma operação em lote.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ResultadoItemLote {
+
+    /**
+     * Situação final de um item do lote.
+     */
+    public enum Status {
+        CRIADO, ALTERADO, EXCLUIDO, NAO_ENCONTRADO, INVALIDO, ERRO
+    }
+
+    private final int indice;
+    private final Long id;
+    private final Status status;
+    private final String mensagem;
+
+    // Construtor com parâmetros
+    public ResultadoItemLote(int indice, Long id, Status status, String mensagem) {
+        this.indice = indice;
+        this.id = id;
+        this.status = status;
+        this.mensagem = mensagem;
+    }
+
+    // Getters
+    public int getIndice() {
+        return indice;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public String getMensagem() {
+        return mensagem;
+    }
+}
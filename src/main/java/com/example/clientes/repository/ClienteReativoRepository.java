@@ -0,0 +1,249 @@
+package com.example.clientes.repository;
+
+import com.example.clientes.config.ReativoConfig;
+import com.example.clientes.model.Cliente;
+import com.example.clientes.model.ClienteTermo;
+import com.example.clientes.model.EventoCliente;
+import com.example.clientes.model.EventoCliente.Tipo;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Repositório reativo (R2DBC) da tabela de clientes, do índice de busca por nome ({@code cliente_termo}) e dos
+ * eventos de alteração ({@code evento_cliente}), usado pela API do perfil {@value ReativoConfig#PERFIL}.
+ * <p>
+ * Os comandos são escritos em SQL sobre o mesmo esquema gerado pelo Hibernate para {@link Cliente},
+ * {@link ClienteTermo} e {@link EventoCliente}: os IDs vêm das sequências de cada tabela (um valor por linha, sem
+ * conflito com os blocos reservados pelo Hibernate), e a versão e a data de alteração são atualizadas no próprio
+ * UPDATE, como nos comandos do {@link ClienteRepository}.
+ */
+@Repository
+@Profile(ReativoConfig.PERFIL)
+public class ClienteReativoRepository {
+
+    private static final String COLUNAS = "id, nome, email, telefone, versao, criado_em, atualizado_em";
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    /**
+     * Busca um cliente pelo ID.
+     * @param id ID do cliente.
+     * @return Cliente encontrado, ou vazio se não encontrado.
+     */
+    public Mono<Cliente> findById(Long id) {
+        return databaseClient.sql("select " + COLUNAS + " from cliente where id = :id")
+                .bind("id", id)
+                .map(ClienteReativoRepository::paraCliente)
+                .one();
+    }
+
+    /**
+     * Lê todos os clientes em ordem de ID. As linhas são emitidas conforme a demanda do consumidor.
+     * @return Clientes ordenados por ID.
+     */
+    public Flux<Cliente> findAllByOrderByIdAsc() {
+        return databaseClient.sql("select " + COLUNAS + " from cliente order by id")
+                .map(ClienteReativoRepository::paraCliente)
+                .all();
+    }
+
+    /**
+     * Indica se há ao menos um cliente cadastrado.
+     * @return true se a tabela não estiver vazia.
+     */
+    public Mono<Boolean> existsAny() {
+        return databaseClient.sql("select 1 from cliente limit 1")
+                .map(linha -> Boolean.TRUE)
+                .first()
+                .defaultIfEmpty(Boolean.FALSE);
+    }
+
+    /**
+     * Busca uma página de clientes por keyset: apenas os registros com ID maior que o cursor informado.
+     * @param afterId ID do último cliente da página anterior.
+     * @param limite Quantidade máxima de registros.
+     * @return Clientes ordenados por ID.
+     */
+    public Flux<Cliente> findByIdGreaterThanOrderByIdAsc(long afterId, int limite) {
+        return databaseClient.sql("select " + COLUNAS + " from cliente where id > :afterId order by id limit :limite")
+                .bind("afterId", afterId)
+                .bind("limite", limite)
+                .map(ClienteReativoRepository::paraCliente)
+                .all();
+    }
+
+    /**
+     * Busca uma página de clientes alterados a partir de uma data, por keyset em (atualizado_em, id).
+     * Mesma consulta de {@link ClienteRepository#findModificadosDesde}.
+     * @param desde Data de alteração do último cliente recebido (ou data inicial da sincronização).
+     * @param afterId ID do último cliente recebido com essa data (0 na primeira página).
+     * @param ate Data de alteração máxima dos registros retornados.
+     * @param limite Quantidade máxima de registros.
+     * @return Clientes ordenados por data de alteração e ID.
+     */
+    public Flux<Cliente> findModificadosDesde(Instant desde, long afterId, Instant ate, int limite) {
+        return databaseClient.sql("select " + COLUNAS + " from cliente"
+                        + " where (atualizado_em > :desde or (atualizado_em = :desde and id > :afterId))"
+                        + " and atualizado_em <= :ate order by atualizado_em, id limit :limite")
+                .bind("desde", desde)
+                .bind("afterId", afterId)
+                .bind("ate", ate)
+                .bind("limite", limite)
+                .map(ClienteReativoRepository::paraCliente)
+                .all();
+    }
+
+    /**
+     * Insere um cliente na versão 0, com as datas de criação e de alteração iguais.
+     * @param cliente Dados do cliente, já normalizados.
+     * @param criadoEm Data de criação.
+     * @return Cliente gravado, com ID, versão e datas preenchidos.
+     */
+    public Mono<Cliente> inserir(Cliente cliente, Instant criadoEm) {
+        DatabaseClient.GenericExecuteSpec comando = databaseClient.sql("insert into cliente (" + COLUNAS + ")"
+                        + " values (next value for cliente_seq, :nome, :email, :telefone, 0, :agora, :agora)")
+                .bind("agora", criadoEm);
+        return dados(comando, cliente.getNome(), cliente.getEmail(), cliente.getTelefone())
+                .filter(instrucao -> instrucao.returnGeneratedValues("id"))
+                .map(linha -> linha.get("id", Long.class))
+                .one()
+                .map(id -> {
+                    cliente.setId(id);
+                    cliente.setVersao(0L);
+                    cliente.setCriadoEm(criadoEm);
+                    cliente.setAtualizadoEm(criadoEm);
+                    return cliente;
+                });
+    }
+
+    /**
+     * Atualiza os dados de um cliente em um único comando, incrementando a versão. O UPDATE é consultado como
+     * tabela de alterações do H2 ({@code OLD TABLE}), que devolve o registro anterior na mesma ida ao banco.
+     * @param id ID do cliente.
+     * @param versao Versão esperada, ou null para atualizar em qualquer versão.
+     * @param nome Novo nome.
+     * @param email Novo e-mail, já normalizado.
+     * @param telefone Novo telefone, já formatado.
+     * @param atualizadoEm Data da alteração.
+     * @return Cliente antes da alteração, ou vazio se o cliente não existir ou estiver em outra versão.
+     */
+    public Mono<Cliente> atualizar(Long id, Long versao, String nome, String email, String telefone, Instant atualizadoEm) {
+        String condicaoVersao = versao != null ? " and versao = :versao" : "";
+        DatabaseClient.GenericExecuteSpec comando = databaseClient.sql("select " + COLUNAS + " from old table (update cliente"
+                        + " set nome = :nome, email = :email, telefone = :telefone, versao = versao + 1,"
+                        + " atualizado_em = :atualizadoEm where id = :id" + condicaoVersao + ")")
+                .bind("id", id)
+                .bind("atualizadoEm", atualizadoEm);
+        comando = dados(comando, nome, email, telefone);
+        if (versao != null) {
+            comando = comando.bind("versao", versao);
+        }
+        return comando.map(ClienteReativoRepository::paraCliente).one();
+    }
+
+    /**
+     * Inclui no índice de busca os termos do nome de um cliente, em um único INSERT. Deve ser executado na
+     * transação da gravação do cliente.
+     * @param id ID do cliente.
+     * @param termos Termos do nome ({@link com.example.clientes.utils.FormatadorUtils#extrairTermos(String)}).
+     * @return Conclusão da inclusão.
+     */
+    public Mono<Void> indexar(Long id, List<String> termos) {
+        if (termos.isEmpty()) {
+            return Mono.empty();
+        }
+        StringBuilder sql = new StringBuilder("insert into cliente_termo (id, cliente_id, termo) values ");
+        for (int i = 0; i < termos.size(); i++) {
+            sql.append(i == 0 ? "" : ", ").append("(next value for cliente_termo_seq, :id, :termo").append(i).append(')');
+        }
+        DatabaseClient.GenericExecuteSpec comando = databaseClient.sql(sql.toString()).bind("id", id);
+        for (int i = 0; i < termos.size(); i++) {
+            comando = comando.bind("termo" + i, termos.get(i));
+        }
+        return comando.then();
+    }
+
+    /**
+     * Remove do índice de busca os termos de um cliente. Deve ser executado na transação da gravação do cliente.
+     * @param id ID do cliente.
+     * @return Conclusão da remoção.
+     */
+    public Mono<Void> excluirTermos(Long id) {
+        return databaseClient.sql("delete from cliente_termo where cliente_id = :id")
+                .bind("id", id)
+                .then();
+    }
+
+    /**
+     * Registra um evento de criação ou alteração (outbox) com os dados atuais do cliente. Deve ser executado na
+     * transação da mudança no cliente.
+     * @param tipo Tipo da mudança.
+     * @param cliente Cliente após a mudança.
+     * @return Conclusão do registro.
+     */
+    public Mono<Void> registrarEvento(Tipo tipo, Cliente cliente) {
+        return dados(evento(tipo, cliente.getId()).bind("versao", cliente.getVersao()), cliente.getNome(),
+                cliente.getEmail(), cliente.getTelefone()).then();
+    }
+
+    /**
+     * Registra o evento de exclusão (outbox) de um cliente. Deve ser executado na transação da exclusão.
+     * @param id ID do cliente excluído.
+     * @return Conclusão do registro.
+     */
+    public Mono<Void> registrarExclusao(Long id) {
+        return dados(evento(Tipo.EXCLUIDO, id).bindNull("versao", Long.class), null, null, null).then();
+    }
+
+    private DatabaseClient.GenericExecuteSpec evento(Tipo tipo, Long clienteId) {
+        return databaseClient.sql("insert into evento_cliente"
+                        + " (sequencia, tipo, cliente_id, versao, nome, email, telefone, registrado_em)"
+                        // O driver R2DBC do H2 envia textos como CLOB, que o H2 não converte para ENUM
+                        + " values (next value for evento_cliente_seq, cast(:tipo as varchar), :clienteId, :versao,"
+                        + " :nome, :email, :telefone, current_timestamp)")
+                .bind("tipo", tipo.name())
+                .bind("clienteId", clienteId);
+    }
+
+    /**
+     * Exclui um cliente e seus termos de busca (que referenciam o cliente por chave estrangeira).
+     * Deve ser executado em uma transação.
+     * @param id ID do cliente.
+     * @return Quantidade de clientes excluídos (0 se o cliente não existir).
+     */
+    public Mono<Long> excluir(Long id) {
+        return excluirTermos(id)
+                .then(databaseClient.sql("delete from cliente where id = :id")
+                        .bind("id", id)
+                        .fetch().rowsUpdated());
+    }
+
+    private static DatabaseClient.GenericExecuteSpec dados(DatabaseClient.GenericExecuteSpec comando, String nome,
+                                                           String email, String telefone) {
+        return texto(texto(texto(comando, "nome", nome), "email", email), "telefone", telefone);
+    }
+
+    private static DatabaseClient.GenericExecuteSpec texto(DatabaseClient.GenericExecuteSpec comando, String parametro,
+                                                           String valor) {
+        return valor != null ? comando.bind(parametro, valor) : comando.bindNull(parametro, String.class);
+    }
+
+    private static Cliente paraCliente(Readable linha) {
+        Cliente cliente = new Cliente(linha.get("nome", String.class), linha.get("email", String.class),
+                linha.get("telefone", String.class));
+        cliente.setId(linha.get("id", Long.class));
+        cliente.setVersao(linha.get("versao", Long.class));
+        cliente.setCriadoEm(linha.get("criado_em", Instant.class));
+        cliente.setAtualizadoEm(linha.get("atualizado_em", Instant.class));
+        return cliente;
+    }
+}
@@ -1,12 +1,148 @@
 package com.example.clientes.repository;
 
 import com.example.clientes.model.Cliente;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 /**
  * Repositório JPA para realizar operações no banco de dados.
  */
 @Repository
 public interface ClienteRepository extends JpaRepository<Cliente, Long> {
+
+    /**
+     * Estado de um cliente antes de uma alteração, devolvido pelo próprio comando UPDATE. A data de criação vem da
+     * consulta nativa como {@code timestamp with time zone}, por isso o tipo {@link OffsetDateTime}.
+     */
+    interface EstadoAnterior {
+        String getNome();
+        Long getVersao();
+        OffsetDateTime getCriadoEm();
+    }
+
+    /**
+     * Busca uma página de clientes por keyset: apenas os registros com ID maior que o cursor informado.
+     * @param afterId ID do último cliente da página anterior.
+     * @param limit Quantidade máxima de registros.
+     * @return Clientes ordenados por ID.
+     */
+    List<Cliente> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+
+    /**
+     * Busca uma página de clientes alterados a partir de uma data, por keyset em (atualizadoEm, id): os registros
+     * alterados depois de {@code desde}, ou no mesmo instante com ID maior que {@code afterId}.
+     * @param desde Data de alteração do último cliente recebido (ou data inicial da sincronização).
+     * @param afterId ID do último cliente recebido com essa data (0 na primeira página).
+     * @param ate Data de alteração máxima dos registros retornados.
+     * @param limit Quantidade máxima de registros.
+     * @return Clientes ordenados por data de alteração e ID.
+     */
+    @Query("select c from Cliente c where (c.atualizadoEm > :desde or (c.atualizadoEm = :desde and c.id > :afterId)) "
+            + "and c.atualizadoEm <= :ate order by c.atualizadoEm, c.id")
+    List<Cliente> findModificadosDesde(@Param("desde") Instant desde, @Param("afterId") Long afterId,
+                                       @Param("ate") Instant ate, Limit limit);
+
+    /**
+     * Busca um cliente pelo e-mail, usando o índice único da coluna.
+     * @param email E-mail já normalizado.
+     * @return Cliente encontrado, ou Optional.empty() se não encontrado.
+     */
+    Optional<Cliente> findByEmail(String email);
+
+    /**
+     * Percorre todos os clientes em ordem de ID sem materializar a tabela inteira em memória.
+     * Deve ser consumido dentro de uma transação e fechado ao final.
+     * @return Stream de clientes.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select c from Cliente c order by c.id")
+    Stream<Cliente> streamAllByOrderByIdAsc();
+
+    /**
+     * Retorna, dentre os IDs informados, apenas os que existem no banco.
+     * @param ids IDs a verificar.
+     * @return IDs existentes.
+     */
+    @Query("select c.id from Cliente c where c.id in :ids")
+    List<Long> findIdsExistentes(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Retorna, dentre os e-mails informados, apenas os que já estão cadastrados.
+     * @param emails E-mails a verificar.
+     * @return E-mails existentes.
+     */
+    @Query("select c.email from Cliente c where c.email in :emails")
+    List<String> findEmailsExistentes(@Param("emails") Collection<String> emails);
+
+    /**
+     * Atualiza os dados de um cliente em um único comando UPDATE, sem leitura prévia, incrementando a versão.
+     * O comando é consultado como tabela de alterações do H2 ({@code OLD TABLE}), que devolve o nome, a versão e a
+     * data de criação anteriores na mesma ida ao banco.
+     * @param id ID do cliente.
+     * @param nome Novo nome.
+     * @param email Novo e-mail, já formatado.
+     * @param telefone Novo telefone, já formatado.
+     * @param atualizadoEm Data da alteração.
+     * @return Estado do cliente antes da alteração, ou Optional.empty() se o cliente não existir.
+     */
+    @Query(value = "select nome as \"nome\", versao as \"versao\", criado_em as \"criadoEm\" from old table ("
+            + "update cliente set nome = :nome, email = :email, telefone = :telefone, "
+            + "versao = versao + 1, atualizado_em = :atualizadoEm where id = :id)", nativeQuery = true)
+    Optional<EstadoAnterior> atualizarCliente(@Param("id") Long id, @Param("nome") String nome,
+                                              @Param("email") String email, @Param("telefone") String telefone,
+                                              @Param("atualizadoEm") Instant atualizadoEm);
+
+    /**
+     * Atualiza os dados de um cliente somente se ele estiver na versão informada, incrementando a versão, como
+     * {@link #atualizarCliente(Long, String, String, String, Instant)}.
+     * @param id ID do cliente.
+     * @param versao Versão esperada.
+     * @param nome Novo nome.
+     * @param email Novo e-mail, já formatado.
+     * @param telefone Novo telefone, já formatado.
+     * @param atualizadoEm Data da alteração.
+     * @return Estado do cliente antes da alteração, ou Optional.empty() se o cliente não existir ou estiver em outra
+     *         versão.
+     */
+    @Query(value = "select nome as \"nome\", versao as \"versao\", criado_em as \"criadoEm\" from old table ("
+            + "update cliente set nome = :nome, email = :email, telefone = :telefone, "
+            + "versao = versao + 1, atualizado_em = :atualizadoEm where id = :id and versao = :versao)", nativeQuery = true)
+    Optional<EstadoAnterior> atualizarClienteNaVersao(@Param("id") Long id, @Param("versao") Long versao,
+                                                      @Param("nome") String nome, @Param("email") String email,
+                                                      @Param("telefone") String telefone,
+                                                      @Param("atualizadoEm") Instant atualizadoEm);
+
+    /**
+     * Busca apenas a versão atual de um cliente.
+     * @param id ID do cliente.
+     * @return Versão, ou Optional.empty() se o cliente não existir.
+     */
+    @Query("select c.versao from Cliente c where c.id = :id")
+    Optional<Long> findVersaoById(@Param("id") Long id);
+
+    /**
+     * Exclui um cliente em um único comando DELETE, sem leitura prévia.
+     * @param id ID do cliente.
+     * @return Quantidade de registros excluídos (0 se o cliente não existir).
+     */
+    @Modifying
+    @Query("delete from Cliente c where c.id = :id")
+    int excluirClientePorId(@Param("id") Long id);
 }
@@ -0,0 +1,24 @@
+package com.example.clientes.repository;
+
+import com.example.clientes.model.ClienteTermo;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repositório JPA dos termos do índice de busca por nome.
+ */
+@Repository
+public interface ClienteTermoRepository extends JpaRepository<ClienteTermo, Long> {
+
+    /**
+     * Remove todos os termos de um cliente.
+     * @param clienteId ID do cliente.
+     * @return Quantidade de termos removidos.
+     */
+    @Modifying
+    @Query("delete from ClienteTermo t where t.cliente.id = :clienteId")
+    int excluirPorCliente(@Param("clienteId") Long clienteId);
+}
@@ -0,0 +1,36 @@
+package com.example.clientes.repository;
+
+import com.example.clientes.model.EventoCliente;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Repositório JPA dos eventos de alteração de clientes (outbox).
+ */
+@Repository
+public interface EventoClienteRepository extends JpaRepository<EventoCliente, Long> {
+
+    /**
+     * Busca os eventos posteriores a uma sequência.
+     * @param sequencia Última sequência já recebida pelo consumidor.
+     * @param limit     Quantidade máxima de eventos.
+     * @return Eventos ordenados por sequência.
+     */
+    List<EventoCliente> findBySequenciaGreaterThanOrderBySequenciaAsc(Long sequencia, Limit limit);
+
+    /**
+     * Exclui os eventos registrados antes do instante informado.
+     * @param limite Instante limite.
+     * @return Quantidade de eventos excluídos.
+     */
+    @Modifying
+    @Query("delete from EventoCliente e where e.registradoEm < :limite")
+    int excluirRegistradosAntesDe(@Param("limite") Instant limite);
+}
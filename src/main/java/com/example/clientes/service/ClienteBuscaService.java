@@ -0,0 +1,168 @@
+package com.example.clientes.service;
+
+import com.example.clientes.model.Cliente;
+import com.example.clientes.model.ClienteTermo;
+import com.example.clientes.repository.ClienteTermoRepository;
+import com.example.clientes.utils.FormatadorUtils;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Serviço do índice de busca por nome.
+ * <p>
+ * O índice é a tabela {@code cliente_termo}, com uma linha por palavra normalizada do nome de cada cliente
+ * (ver {@link FormatadorUtils#extrairTermos(String)}). Ele é mantido pelos métodos de escrita de
+ * {@link ClienteService} e {@link ClienteLoteService}, dentro da mesma transação da gravação do cliente;
+ * a exclusão dos termos junto com o cliente é feita pelo banco (ON DELETE CASCADE).
+ */
+@Service
+public class ClienteBuscaService {
+
+    /** Quantidade de clientes retornada quando o limite não é informado. */
+    public static final int LIMITE_PADRAO = 20;
+
+    /** Quantidade máxima de clientes retornada por busca. */
+    public static final int LIMITE_MAXIMO = 100;
+
+    /** Quantidade máxima de termos da consulta considerados; os demais são ignorados. */
+    public static final int MAXIMO_TERMOS_CONSULTA = 5;
+
+    /**
+     * Tamanho mínimo de um termo da consulta; termos menores são ignorados. Um prefixo de uma letra corresponde a
+     * uma fração grande dos clientes e quase não restringe a busca.
+     */
+    public static final int TAMANHO_MINIMO_TERMO = 2;
+
+    @Autowired
+    private ClienteTermoRepository clienteTermoRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Quantidade máxima de clientes de um termo para que ele seja considerado raro; a busca lê até esta quantidade
+     * de IDs de cada termo para escolher a forma de consulta.
+     */
+    @Value("${clientes.busca.limite-termo-raro:2000}")
+    private int limiteTermoRaro;
+
+    /**
+     * Inclui no índice os termos do nome de um cliente recém-criado. Deve ser chamado na transação da criação.
+     * @param cliente Cliente já persistido.
+     */
+    public void indexar(Cliente cliente) {
+        indexar(List.of(cliente));
+    }
+
+    /**
+     * Inclui no índice os termos dos nomes de vários clientes recém-criados, em comandos agrupados.
+     * @param clientes Clientes já persistidos.
+     */
+    public void indexar(Collection<Cliente> clientes) {
+        List<ClienteTermo> termos = new ArrayList<>();
+        for (Cliente cliente : clientes) {
+            for (String termo : FormatadorUtils.extrairTermos(cliente.getNome())) {
+                termos.add(new ClienteTermo(cliente, termo));
+            }
+        }
+        if (!termos.isEmpty()) {
+            clienteTermoRepository.saveAll(termos);
+        }
+    }
+
+    /**
+     * Substitui os termos de um cliente cujo nome foi alterado. Deve ser chamado na transação da alteração.
+     * @param id   ID do cliente.
+     * @param nome Novo nome.
+     */
+    public void reindexar(Long id, String nome) {
+        clienteTermoRepository.excluirPorCliente(id);
+        List<ClienteTermo> termos = new ArrayList<>();
+        for (String termo : FormatadorUtils.extrairTermos(nome)) {
+            termos.add(new ClienteTermo(entityManager.getReference(Cliente.class, id), termo));
+        }
+        if (!termos.isEmpty()) {
+            clienteTermoRepository.saveAll(termos);
+        }
+    }
+
+    /**
+     * Busca clientes cujo nome contém palavras que começam com cada termo da consulta,
+     * sem diferenciar maiúsculas, minúsculas e acentos. Ex.: "jo sil" encontra "João da Silva".
+     * Termos com menos de {@link #TAMANHO_MINIMO_TERMO} caracteres são ignorados.
+     * <p>
+     * Os clientes são lidos em ordem de ID e cada termo é verificado por EXISTS no índice, de modo que a leitura para
+     * ao atingir o limite. Com um termo raro essa leitura percorreria quase toda a tabela; por isso os IDs de cada
+     * termo são lidos antes, até {@code clientes.busca.limite-termo-raro}, e, se algum termo couber nesse limite, a busca se
+     * restringe aos seus clientes.
+     * @param consulta Texto da busca.
+     * @param limite   Quantidade máxima de clientes, ajustada para o intervalo [1, LIMITE_MAXIMO].
+     * @return Clientes encontrados, ordenados por ID.
+     */
+    public List<Cliente> buscar(String consulta, Integer limite) {
+        List<String> termos = FormatadorUtils.extrairTermos(consulta).stream()
+                .filter(termo -> termo.length() >= TAMANHO_MINIMO_TERMO)
+                .limit(MAXIMO_TERMOS_CONSULTA)
+                .toList();
+        if (termos.isEmpty()) {
+            return List.of();
+        }
+        int tamanho = limite != null ? Math.min(Math.max(limite, 1), LIMITE_MAXIMO) : LIMITE_PADRAO;
+
+        // Os termos mais longos costumam ser os mais raros e são verificados primeiro
+        List<String> porTamanho = termos.stream().sorted(Comparator.comparingInt(String::length).reversed()).toList();
+        for (String termo : porTamanho) {
+            List<Long> ids = entityManager.createQuery(
+                            "select t.cliente.id from ClienteTermo t where t.termo like :termo", Long.class)
+                    .setParameter("termo", termo + "%")
+                    .setMaxResults(limiteTermoRaro + 1)
+                    .getResultList();
+            if (ids.isEmpty()) {
+                return List.of();
+            }
+            if (ids.size() <= limiteTermoRaro) {
+                List<String> demais = new ArrayList<>(termos);
+                demais.remove(termo);
+                return consultar(ids, demais, tamanho);
+            }
+        }
+        return consultar(null, termos, tamanho);
+    }
+
+    /**
+     * Consulta os clientes, em ordem de ID, que estão entre os IDs informados e têm os termos informados.
+     * @param ids    IDs candidatos, ou null para considerar todos os clientes.
+     * @param termos Termos que o nome deve conter, verificados por EXISTS no índice.
+     * @param limite Quantidade máxima de clientes.
+     */
+    private List<Cliente> consultar(List<Long> ids, List<String> termos, int limite) {
+        List<String> condicoes = new ArrayList<>();
+        if (ids != null) {
+            condicoes.add("c.id in :ids");
+        }
+        for (int i = 0; i < termos.size(); i++) {
+            condicoes.add("exists (select 1 from ClienteTermo t" + i + " where t" + i + ".cliente = c and t" + i
+                    + ".termo like :termo" + i + ")");
+        }
+        String jpql = "select c from Cliente c where " + String.join(" and ", condicoes) + " order by c.id";
+
+        TypedQuery<Cliente> query = entityManager.createQuery(jpql, Cliente.class);
+        if (ids != null) {
+            query.setParameter("ids", ids);
+        }
+        for (int i = 0; i < termos.size(); i++) {
+            // Os termos só contêm letras e dígitos, portanto não há curingas a escapar
+            query.setParameter("termo" + i, termos.get(i) + "%");
+        }
+        return query.setMaxResults(limite).getResultList();
+    }
+}
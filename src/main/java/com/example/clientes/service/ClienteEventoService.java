@@ -0,0 +1,133 @@
+package com.example.clientes.service;
+
+import com.example.clientes.model.Cliente;
+import com.example.clientes.model.EventoCliente;
+import com.example.clientes.model.EventoCliente.Tipo;
+import com.example.clientes.repository.EventoClienteRepository;
+import jakarta.transaction.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Serviço dos eventos de alteração de clientes (outbox).
+ * <p>
+ * Os eventos são gravados pelos métodos de escrita de {@link ClienteService} e {@link ClienteLoteService}, dentro
+ * da mesma transação da mudança no cliente, e consultados pelos consumidores em ordem de sequência.
+ * <p>
+ * A sequência é obtida do banco a cada evento, sem blocos reservados por instância, de modo que os números seguem
+ * a ordem de gravação mesmo com várias instâncias da aplicação; a data de registro também vem do banco. Como o
+ * número é obtido antes do commit, uma transação ainda aberta pode publicar um evento com sequência menor que a de
+ * eventos já visíveis: a ordem só é garantida até o atraso de commit. Para que o consumidor não perca esse evento ao
+ * avançar o cursor, a consulta para no primeiro evento registrado há menos de {@code clientes.eventos.atraso-leitura},
+ * que deve ser maior que a duração das transações de escrita somada à diferença entre os relógios do banco e da
+ * aplicação; um evento de uma transação mais longa que o atraso pode ser ultrapassado pelo cursor.
+ * Eventos mais antigos que {@code clientes.eventos.retencao} são excluídos periodicamente.
+ */
+@Service
+public class ClienteEventoService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClienteEventoService.class);
+
+    /** Quantidade de eventos retornada quando o limite não é informado. */
+    public static final int LIMITE_PADRAO = 100;
+
+    /** Quantidade máxima de eventos retornada por consulta. */
+    public static final int LIMITE_MAXIMO = 1000;
+
+    @Autowired
+    private EventoClienteRepository eventoClienteRepository;
+
+    @Value("${clientes.eventos.atraso-leitura:2s}")
+    private Duration atrasoLeitura;
+
+    @Value("${clientes.eventos.retencao:7d}")
+    private Duration retencao;
+
+    /**
+     * Registra a criação ou alteração de um cliente. Deve ser chamado na transação da mudança.
+     * @param tipo    Tipo da mudança.
+     * @param cliente Cliente após a mudança.
+     */
+    public void registrar(Tipo tipo, Cliente cliente) {
+        eventoClienteRepository.save(EventoCliente.de(tipo, cliente));
+    }
+
+    /**
+     * Registra a criação ou alteração de vários clientes, em comandos agrupados. Deve ser chamado na transação da mudança.
+     * @param tipo     Tipo da mudança.
+     * @param clientes Clientes após a mudança.
+     */
+    public void registrar(Tipo tipo, Collection<Cliente> clientes) {
+        List<EventoCliente> eventos = new ArrayList<>(clientes.size());
+        for (Cliente cliente : clientes) {
+            eventos.add(EventoCliente.de(tipo, cliente));
+        }
+        if (!eventos.isEmpty()) {
+            eventoClienteRepository.saveAll(eventos);
+        }
+    }
+
+    /**
+     * Registra a exclusão de clientes. Deve ser chamado na transação da exclusão.
+     * @param ids IDs dos clientes excluídos.
+     */
+    public void registrarExclusoes(Collection<Long> ids) {
+        List<EventoCliente> eventos = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            eventos.add(new EventoCliente(Tipo.EXCLUIDO, id));
+        }
+        if (!eventos.isEmpty()) {
+            eventoClienteRepository.saveAll(eventos);
+        }
+    }
+
+    /**
+     * Lista os eventos posteriores à sequência informada.
+     * <p>
+     * A página é lida em ordem de sequência, sem filtro de data, e cortada no primeiro evento registrado há menos de
+     * {@code clientes.eventos.atraso-leitura}: os eventos seguintes, mesmo que mais antigos, ficam para a próxima
+     * leitura. Filtrar por data na consulta poderia retornar uma sequência maior que a de um evento ainda recente, e o
+     * cursor do consumidor passaria por ele.
+     * @param sequencia Última sequência já recebida, ou null para ler desde o início.
+     * @param limite    Quantidade de eventos desejada, ajustada para o intervalo [1, LIMITE_MAXIMO].
+     * @return Eventos em ordem de sequência.
+     */
+    public List<EventoCliente> listarEventos(Long sequencia, Integer limite) {
+        int tamanho = limite != null ? Math.min(Math.max(limite, 1), LIMITE_MAXIMO) : LIMITE_PADRAO;
+        List<EventoCliente> eventos = eventoClienteRepository.findBySequenciaGreaterThanOrderBySequenciaAsc(
+                sequencia == null ? 0L : sequencia, Limit.of(tamanho));
+        Instant corte = Instant.now().minus(atrasoLeitura);
+        for (int i = 0; i < eventos.size(); i++) {
+            Instant registradoEm = eventos.get(i).getRegistradoEm();
+            // Sem data, o evento acabou de ser gravado nesta mesma sessão
+            if (registradoEm == null || registradoEm.isAfter(corte)) {
+                return eventos.subList(0, i);
+            }
+        }
+        return eventos;
+    }
+
+    /**
+     * Exclui os eventos mais antigos que o período de retenção.
+     */
+    @Transactional
+    @Scheduled(fixedDelayString = "${clientes.eventos.intervalo-limpeza:1h}",
+            initialDelayString = "${clientes.eventos.intervalo-limpeza:1h}")
+    public void excluirEventosAntigos() {
+        int excluidos = eventoClienteRepository.excluirRegistradosAntesDe(Instant.now().minus(retencao));
+        if (excluidos > 0) {
+            logger.info("{} eventos de clientes anteriores ao período de retenção excluídos", excluidos);
+        }
+    }
+}
@@ -0,0 +1,427 @@
+package com.example.clientes.service;
+
+import com.example.clientes.config.CacheConfig;
+import com.example.clientes.model.Cliente;
+import com.example.clientes.model.EventoCliente.Tipo;
+import com.example.clientes.model.ProgressoImportacao;
+import com.example.clientes.model.RejeicaoImportacao;
+import com.example.clientes.model.ResultadoItemLote;
+import com.example.clientes.model.ResultadoItemLote.Status;
+import com.example.clientes.repository.ClienteRepository;
+import com.example.clientes.utils.FormatadorUtils;
+import com.example.clientes.utils.LeitorImportacao;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Serviço de operações em lote sobre clientes.
+ * <p>
+ * Os itens são validados individualmente e gravados em transações de até {@link #TAMANHO_LOTE} itens,
+ * aproveitando o agrupamento de comandos JDBC. Se a gravação de um lote falhar, seus itens são
+ * regravados um a um para que apenas os itens com problema sejam rejeitados. Após cada lote, os IDs
+ * afetados são removidos do cache de clientes. Cada item gravado gera um evento de alteração (outbox) na
+ * mesma transação.
+ */
+@Service
+public class ClienteLoteService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClienteLoteService.class);
+
+    /** Quantidade máxima de itens aceitos em uma única requisição em lote. */
+    public static final int MAXIMO_ITENS = 10_000;
+
+    /** Quantidade de itens gravados por transação. */
+    public static final int TAMANHO_LOTE = 500;
+
+    /** Intervalo, em registros lidos, entre os andamentos informados durante uma importação. */
+    public static final int INTERVALO_PROGRESSO_IMPORTACAO = 10_000;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    @Autowired
+    private ClienteBuscaService clienteBuscaService;
+
+    @Autowired
+    private ClienteEventoService clienteEventoService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Cria vários clientes.
+     * @param clientes Clientes a serem criados.
+     * @return Resultado de cada item, na mesma ordem da entrada.
+     */
+    public List<ResultadoItemLote> criarClientes(List<Cliente> clientes) {
+        validarTamanho(clientes.size());
+        ResultadoItemLote[] resultados = new ResultadoItemLote[clientes.size()];
+        List<Integer> pendentes = new ArrayList<>(TAMANHO_LOTE);
+
+        for (int i = 0; i < clientes.size(); i++) {
+            Cliente cliente = clientes.get(i);
+            String erro = formatar(cliente);
+            if (erro != null) {
+                resultados[i] = new ResultadoItemLote(i, null, Status.INVALIDO, erro);
+                continue;
+            }
+            cliente.setId(null);
+            pendentes.add(i);
+            if (pendentes.size() == TAMANHO_LOTE) {
+                gravarNovos(clientes, pendentes, resultados);
+                pendentes.clear();
+            }
+        }
+        if (!pendentes.isEmpty()) {
+            gravarNovos(clientes, pendentes, resultados);
+        }
+
+        logger.info("Lote de criação processado, total de itens: {}", clientes.size());
+        return Arrays.asList(resultados);
+    }
+
+    /**
+     * Importa clientes lidos incrementalmente de um arquivo, sem limite de quantidade. Como na criação em lote, os
+     * registros são validados um a um e gravados em transações de até {@link #TAMANHO_LOTE} clientes, com o contexto
+     * de persistência limpo após cada transação; apenas o lote em preparação fica em memória. Os registros
+     * rejeitados e o andamento (a cada {@link #INTERVALO_PROGRESSO_IMPORTACAO} registros) são entregues aos
+     * consumidores à medida que ocorrem, e os clientes já gravados permanecem se a importação for interrompida.
+     * @param registros Registros lidos do arquivo.
+     * @param aoRejeitar Destino de cada registro rejeitado.
+     * @param aoProgredir Destino dos andamentos intermediários.
+     * @return Andamento final da importação.
+     */
+    public ProgressoImportacao importarClientes(Iterator<LeitorImportacao.Item> registros,
+                                                Consumer<RejeicaoImportacao> aoRejeitar,
+                                                Consumer<ProgressoImportacao> aoProgredir) {
+        List<Cliente> lote = new ArrayList<>(TAMANHO_LOTE);
+        List<Long> linhas = new ArrayList<>(TAMANHO_LOTE);
+        long processados = 0;
+        long gravados = 0;
+        long rejeitados = 0;
+
+        while (registros.hasNext()) {
+            LeitorImportacao.Item registro = registros.next();
+            processados++;
+            String erro = registro.erro() != null ? registro.erro() : formatar(registro.cliente());
+            if (erro != null) {
+                aoRejeitar.accept(new RejeicaoImportacao(registro.linha(), Status.INVALIDO, erro));
+                rejeitados++;
+            } else {
+                lote.add(registro.cliente());
+                linhas.add(registro.linha());
+            }
+            boolean informarProgresso = processados % INTERVALO_PROGRESSO_IMPORTACAO == 0;
+            if (lote.size() == TAMANHO_LOTE || (informarProgresso && !lote.isEmpty())) {
+                int falhas = gravarImportados(lote, linhas, aoRejeitar);
+                gravados += lote.size() - falhas;
+                rejeitados += falhas;
+                lote.clear();
+                linhas.clear();
+            }
+            if (informarProgresso) {
+                logger.info("Importação de clientes em andamento: {} registros lidos, {} gravados, {} rejeitados",
+                        processados, gravados, rejeitados);
+                aoProgredir.accept(new ProgressoImportacao(processados, gravados, rejeitados, false));
+            }
+        }
+        if (!lote.isEmpty()) {
+            int falhas = gravarImportados(lote, linhas, aoRejeitar);
+            gravados += lote.size() - falhas;
+            rejeitados += falhas;
+        }
+
+        logger.info("Importação de clientes concluída: {} registros lidos, {} gravados, {} rejeitados",
+                processados, gravados, rejeitados);
+        return new ProgressoImportacao(processados, gravados, rejeitados, true);
+    }
+
+    /**
+     * Grava um lote da importação, informando os clientes que não puderam ser gravados.
+     * <p>
+     * Clientes com e-mail já cadastrado ou repetido no lote são rejeitados antes da gravação, com uma consulta por
+     * lote: um único e-mail duplicado faria a transação do lote falhar e os demais clientes serem gravados um a um,
+     * o que tornaria a reimportação de um arquivo exportado centenas de vezes mais lenta.
+     * @return Quantidade de clientes não gravados.
+     */
+    private int gravarImportados(List<Cliente> lote, List<Long> linhas, Consumer<RejeicaoImportacao> aoRejeitar) {
+        Set<String> existentes = new HashSet<>(clienteRepository.findEmailsExistentes(
+                lote.stream().map(Cliente::getEmail).collect(Collectors.toSet())));
+        Set<String> emailsDoLote = new HashSet<>();
+        List<Integer> indices = new ArrayList<>(lote.size());
+        int falhas = 0;
+        for (int i = 0; i < lote.size(); i++) {
+            String email = lote.get(i).getEmail();
+            if (existentes.contains(email) || !emailsDoLote.add(email)) {
+                aoRejeitar.accept(new RejeicaoImportacao(linhas.get(i), Status.ERRO,
+                        ClienteRegras.emailDuplicado(email).getMessage()));
+                falhas++;
+            } else {
+                indices.add(i);
+            }
+        }
+        if (indices.isEmpty()) {
+            return falhas;
+        }
+
+        ResultadoItemLote[] resultados = new ResultadoItemLote[lote.size()];
+        gravarNovos(lote, indices, resultados);
+        for (int i : indices) {
+            if (resultados[i].getStatus() == Status.ERRO) {
+                aoRejeitar.accept(new RejeicaoImportacao(linhas.get(i), Status.ERRO, resultados[i].getMensagem()));
+                falhas++;
+            }
+        }
+        return falhas;
+    }
+
+    /**
+     * Altera o nome, o e-mail e o telefone de vários clientes, identificados pelo ID de cada item.
+     * @param clientes Clientes com os dados atualizados.
+     * @return Resultado de cada item, na mesma ordem da entrada.
+     */
+    public List<ResultadoItemLote> alterarClientes(List<Cliente> clientes) {
+        validarTamanho(clientes.size());
+        ResultadoItemLote[] resultados = new ResultadoItemLote[clientes.size()];
+        List<Integer> pendentes = new ArrayList<>(TAMANHO_LOTE);
+
+        for (int i = 0; i < clientes.size(); i++) {
+            Cliente cliente = clientes.get(i);
+            String erro = cliente != null && cliente.getId() == null ? "ID do cliente é obrigatório." : formatar(cliente);
+            if (erro != null) {
+                resultados[i] = new ResultadoItemLote(i, cliente != null ? cliente.getId() : null, Status.INVALIDO, erro);
+                continue;
+            }
+            pendentes.add(i);
+            if (pendentes.size() == TAMANHO_LOTE) {
+                gravarAlteracoes(clientes, pendentes, resultados);
+                pendentes.clear();
+            }
+        }
+        if (!pendentes.isEmpty()) {
+            gravarAlteracoes(clientes, pendentes, resultados);
+        }
+
+        logger.info("Lote de alteração processado, total de itens: {}", clientes.size());
+        return Arrays.asList(resultados);
+    }
+
+    /**
+     * Exclui vários clientes.
+     * @param ids IDs dos clientes a serem excluídos.
+     * @return Resultado de cada item, na mesma ordem da entrada.
+     */
+    public List<ResultadoItemLote> excluirClientes(List<Long> ids) {
+        validarTamanho(ids.size());
+        ResultadoItemLote[] resultados = new ResultadoItemLote[ids.size()];
+        List<Integer> pendentes = new ArrayList<>(TAMANHO_LOTE);
+
+        for (int i = 0; i < ids.size(); i++) {
+            if (ids.get(i) == null) {
+                resultados[i] = new ResultadoItemLote(i, null, Status.INVALIDO, "ID do cliente é obrigatório.");
+                continue;
+            }
+            pendentes.add(i);
+            if (pendentes.size() == TAMANHO_LOTE) {
+                gravarExclusoes(ids, pendentes, resultados);
+                pendentes.clear();
+            }
+        }
+        if (!pendentes.isEmpty()) {
+            gravarExclusoes(ids, pendentes, resultados);
+        }
+
+        logger.info("Lote de exclusão processado, total de itens: {}", ids.size());
+        return Arrays.asList(resultados);
+    }
+
+    private void gravarNovos(List<Cliente> clientes, List<Integer> indices, ResultadoItemLote[] resultados) {
+        List<Cliente> lote = indices.stream().map(clientes::get).toList();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                clienteRepository.saveAll(lote);
+                clienteBuscaService.indexar(lote);
+                clienteEventoService.registrar(Tipo.CRIADO, lote);
+                entityManager.flush();
+                entityManager.clear();
+            });
+            for (int i : indices) {
+                resultados[i] = new ResultadoItemLote(i, clientes.get(i).getId(), Status.CRIADO, null);
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Falha ao gravar lote de {} clientes, gravando item a item: {}", lote.size(), e.getMessage());
+            for (int i : indices) {
+                Cliente cliente = clientes.get(i);
+                cliente.setId(null); // Descarta o ID reservado e a versão atribuídos na tentativa que sofreu rollback
+                cliente.setVersao(null);
+                try {
+                    transactionTemplate.executeWithoutResult(status -> {
+                        clienteRepository.saveAndFlush(cliente);
+                        clienteBuscaService.indexar(cliente);
+                        clienteEventoService.registrar(Tipo.CRIADO, cliente);
+                    });
+                    resultados[i] = new ResultadoItemLote(i, cliente.getId(), Status.CRIADO, null);
+                } catch (RuntimeException ex) {
+                    resultados[i] = new ResultadoItemLote(i, null, Status.ERRO, ex.getMessage());
+                }
+            }
+        }
+        removerDoCache(indices, resultados);
+    }
+
+    private void gravarAlteracoes(List<Cliente> clientes, List<Integer> indices, ResultadoItemLote[] resultados) {
+        Set<Long> ids = indices.stream().map(i -> clientes.get(i).getId()).collect(Collectors.toSet());
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Map<Long, Cliente> existentes = clienteRepository.findAllById(ids).stream()
+                        .collect(Collectors.toMap(Cliente::getId, Function.identity()));
+                List<Cliente> alterados = new ArrayList<>(indices.size());
+                for (int i : indices) {
+                    resultados[i] = aplicarAlteracao(i, clientes.get(i), Optional.ofNullable(existentes.get(clientes.get(i).getId())));
+                    if (resultados[i].getStatus() == Status.ALTERADO) {
+                        alterados.add(existentes.get(clientes.get(i).getId()));
+                    }
+                }
+                entityManager.flush(); // Atualiza as versões antes de registrar os eventos
+                clienteEventoService.registrar(Tipo.ALTERADO, alterados);
+                entityManager.flush();
+                entityManager.clear();
+            });
+        } catch (RuntimeException e) {
+            logger.warn("Falha ao alterar lote de {} clientes, alterando item a item: {}", indices.size(), e.getMessage());
+            for (int i : indices) {
+                Cliente dados = clientes.get(i);
+                try {
+                    resultados[i] = transactionTemplate.execute(status -> {
+                        Optional<Cliente> existente = clienteRepository.findById(dados.getId());
+                        ResultadoItemLote resultado = aplicarAlteracao(i, dados, existente);
+                        entityManager.flush();
+                        if (resultado.getStatus() == Status.ALTERADO) {
+                            clienteEventoService.registrar(Tipo.ALTERADO, existente.get());
+                        }
+                        return resultado;
+                    });
+                } catch (RuntimeException ex) {
+                    resultados[i] = new ResultadoItemLote(i, dados.getId(), Status.ERRO, ex.getMessage());
+                }
+            }
+        }
+        removerDoCache(indices, resultados);
+    }
+
+    private void gravarExclusoes(List<Long> ids, List<Integer> indices, ResultadoItemLote[] resultados) {
+        Set<Long> lote = indices.stream().map(ids::get).collect(Collectors.toSet());
+        try {
+            Set<Long> excluidos = transactionTemplate.execute(status -> excluirExistentes(lote));
+            for (int i : indices) {
+                resultados[i] = resultadoExclusao(i, ids.get(i), excluidos);
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Falha ao excluir lote de {} clientes, excluindo item a item: {}", lote.size(), e.getMessage());
+            for (int i : indices) {
+                Long id = ids.get(i);
+                try {
+                    Set<Long> excluidos = transactionTemplate.execute(status -> excluirExistentes(Set.of(id)));
+                    resultados[i] = resultadoExclusao(i, id, excluidos);
+                } catch (RuntimeException ex) {
+                    resultados[i] = new ResultadoItemLote(i, id, Status.ERRO, ex.getMessage());
+                }
+            }
+        }
+        removerDoCache(indices, resultados);
+    }
+
+    /**
+     * Remove do cache os clientes gravados no lote. Novos IDs também são removidos, pois podem ter sido
+     * consultados antes da criação e estar no cache como inexistentes.
+     */
+    private void removerDoCache(List<Integer> indices, ResultadoItemLote[] resultados) {
+        Cache cache = cacheManager.getCache(CacheConfig.CACHE_CLIENTES);
+        if (cache == null) {
+            return;
+        }
+        for (int i : indices) {
+            if (resultados[i].getId() != null && resultados[i].getStatus() != Status.ERRO) {
+                cache.evict(resultados[i].getId());
+            }
+        }
+    }
+
+    private Set<Long> excluirExistentes(Set<Long> ids) {
+        Set<Long> existentes = new HashSet<>(clienteRepository.findIdsExistentes(ids));
+        if (!existentes.isEmpty()) {
+            clienteRepository.deleteAllByIdInBatch(existentes);
+            clienteEventoService.registrarExclusoes(existentes);
+        }
+        return existentes;
+    }
+
+    private static ResultadoItemLote resultadoExclusao(int indice, Long id, Set<Long> excluidos) {
+        return excluidos.contains(id)
+                ? new ResultadoItemLote(indice, id, Status.EXCLUIDO, null)
+                : new ResultadoItemLote(indice, id, Status.NAO_ENCONTRADO, "Cliente com ID " + id + " não encontrado.");
+    }
+
+    private ResultadoItemLote aplicarAlteracao(int indice, Cliente dados, Optional<Cliente> existente) {
+        if (existente.isEmpty()) {
+            return new ResultadoItemLote(indice, dados.getId(), Status.NAO_ENCONTRADO,
+                    "Cliente com ID " + dados.getId() + " não encontrado.");
+        }
+        if (!Objects.equals(existente.get().getNome(), dados.getNome())) {
+            clienteBuscaService.reindexar(dados.getId(), dados.getNome());
+        }
+        existente.get().setNome(dados.getNome());
+        existente.get().setEmail(dados.getEmail());
+        existente.get().setTelefone(dados.getTelefone());
+        return new ResultadoItemLote(indice, dados.getId(), Status.ALTERADO, null);
+    }
+
+    /**
+     * Formata e-mail e telefone do item com o {@link FormatadorUtils}.
+     * @return Mensagem de erro de validação, ou null se o item for válido.
+     */
+    private static String formatar(Cliente cliente) {
+        if (cliente == null) {
+            return "Item vazio.";
+        }
+        try {
+            cliente.setEmail(FormatadorUtils.formatarEmail(cliente.getEmail()));
+            cliente.setTelefone(FormatadorUtils.formatarTelefone(cliente.getTelefone()));
+            return null;
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+    }
+
+    private static void validarTamanho(int quantidade) {
+        if (quantidade > MAXIMO_ITENS) {
+            throw new IllegalArgumentException("O lote deve conter no máximo " + MAXIMO_ITENS + " itens.");
+        }
+    }
+}
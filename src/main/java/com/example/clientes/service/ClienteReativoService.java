@@ -0,0 +1,175 @@
+package com.example.clientes.service;
+
+import com.example.clientes.config.ReativoConfig;
+import com.example.clientes.model.Cliente;
+import com.example.clientes.model.EventoCliente.Tipo;
+import com.example.clientes.repository.ClienteReativoRepository;
+import com.example.clientes.utils.FormatadorUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Serviço de Cliente da API reativa (perfil {@value ReativoConfig#PERFIL}), com as mesmas regras do
+ * {@link ClienteService} ({@link ClienteRegras}) sobre o acesso ao banco por R2DBC.
+ * <p>
+ * A pilha reativa atende apenas o CRUD e a listagem e não usa o cache de clientes. Como o banco pode ser
+ * compartilhado com instâncias da API servlet, cada criação, alteração e exclusão mantém o índice de busca por nome
+ * e registra o evento de alteração na mesma transação R2DBC da mudança, como o {@link ClienteService}.
+ */
+@Service
+@Profile(ReativoConfig.PERFIL)
+public class ClienteReativoService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClienteReativoService.class);
+
+    @Autowired
+    private ClienteReativoRepository clienteReativoRepository;
+
+    @Autowired
+    private TransactionalOperator transactionalOperator;
+
+    /** Idade mínima das alterações retornadas na sincronização por data (ver {@link ClienteService}). */
+    @Value("${clientes.sincronizacao.atraso-leitura:2s}")
+    private Duration atrasoSincronizacao;
+
+    /**
+     * Cria um novo cliente no banco de dados.
+     * @param cliente Cliente a ser criado.
+     * @return Cliente criado.
+     */
+    public Mono<Cliente> criarCliente(Cliente cliente) {
+        Mono<Cliente> criacao = Mono.fromCallable(() -> ClienteRegras.normalizar(cliente))
+                .flatMap(normalizado -> clienteReativoRepository.inserir(normalizado, Cliente.agora()))
+                .onErrorMap(DataIntegrityViolationException.class, e -> {
+                    logger.debug("E-mail {} já cadastrado", cliente.getEmail());
+                    return ClienteRegras.emailDuplicado(cliente.getEmail());
+                })
+                .flatMap(criado -> clienteReativoRepository.indexar(criado.getId(),
+                                FormatadorUtils.extrairTermos(criado.getNome()))
+                        .then(clienteReativoRepository.registrarEvento(Tipo.CRIADO, criado))
+                        .thenReturn(criado));
+        return transactionalOperator.transactional(criacao)
+                .doOnNext(criado -> logger.debug("Cliente com ID {} criado com sucesso", criado.getId()));
+    }
+
+    /**
+     * Altera os dados de um cliente por UPDATE, opcionalmente somente se ele estiver na versão informada (controle
+     * de concorrência otimista). Como no {@link ClienteService}, o UPDATE devolve o registro anterior: a busca por
+     * nome só é reindexada se o nome mudou, e o cliente alterado é montado sem releitura.
+     * @param id             ID do cliente a ser alterado.
+     * @param cliente        Cliente com dados atualizados.
+     * @param versaoEsperada Versão lida anteriormente pelo chamador, ou null para alterar em qualquer versão.
+     * @return Cliente atualizado, com a nova versão e as datas de criação e de alteração.
+     */
+    public Mono<Cliente> alterarCliente(Long id, Cliente cliente, Long versaoEsperada) {
+        Mono<Cliente> alteracao = Mono.fromCallable(() -> ClienteRegras.normalizar(cliente))
+                .flatMap(normalizado -> {
+                    Instant atualizadoEm = Cliente.agora();
+                    return clienteReativoRepository.atualizar(id, versaoEsperada, normalizado.getNome(),
+                                    normalizado.getEmail(), normalizado.getTelefone(), atualizadoEm)
+                            .onErrorMap(DataIntegrityViolationException.class, e -> {
+                                logger.debug("E-mail {} já cadastrado para outro cliente", normalizado.getEmail());
+                                return ClienteRegras.emailDuplicado(normalizado.getEmail());
+                            })
+                            .flatMap(anterior -> {
+                                Cliente clienteAlterado = new Cliente(normalizado.getNome(), normalizado.getEmail(),
+                                        normalizado.getTelefone());
+                                clienteAlterado.setId(id);
+                                clienteAlterado.setVersao(anterior.getVersao() + 1);
+                                clienteAlterado.setCriadoEm(anterior.getCriadoEm());
+                                clienteAlterado.setAtualizadoEm(atualizadoEm);
+                                return reindexar(clienteAlterado, !anterior.getNome().equals(clienteAlterado.getNome()))
+                                        .then(clienteReativoRepository.registrarEvento(Tipo.ALTERADO, clienteAlterado))
+                                        .thenReturn(clienteAlterado);
+                            })
+                            // Sem registros alterados, o cliente não existe ou está em outra versão
+                            .switchIfEmpty(Mono.defer(() -> clienteReativoRepository.findById(id)
+                                    .switchIfEmpty(Mono.error(() -> ClienteRegras.naoEncontrado(id)))
+                                    .flatMap(existente -> Mono.error(ClienteRegras.versaoDivergente(id)))));
+                });
+        return transactionalOperator.transactional(alteracao)
+                .doOnNext(alterado -> logger.debug("Cliente com ID {} alterado com sucesso", id));
+    }
+
+    private Mono<Void> reindexar(Cliente cliente, boolean nomeAlterado) {
+        if (!nomeAlterado) {
+            return Mono.empty();
+        }
+        return clienteReativoRepository.excluirTermos(cliente.getId())
+                .then(clienteReativoRepository.indexar(cliente.getId(), FormatadorUtils.extrairTermos(cliente.getNome())));
+    }
+
+    /**
+     * Exclui um cliente do banco de dados.
+     * @param id ID do cliente a ser excluído.
+     * @return Conclusão da exclusão, ou erro se o cliente não existir.
+     */
+    public Mono<Void> excluirCliente(Long id) {
+        Mono<Void> exclusao = clienteReativoRepository.excluir(id)
+                .flatMap(excluidos -> excluidos > 0
+                        ? clienteReativoRepository.registrarExclusao(id)
+                        : Mono.error(ClienteRegras.naoEncontrado(id)));
+        return transactionalOperator.transactional(exclusao)
+                .doOnSuccess(vazio -> logger.debug("Cliente com ID {} excluído com sucesso", id));
+    }
+
+    /**
+     * Busca um cliente por seu ID.
+     * @param id ID do cliente.
+     * @return Cliente encontrado, ou vazio se não encontrado.
+     */
+    public Mono<Cliente> buscarClientePorId(Long id) {
+        return clienteReativoRepository.findById(id);
+    }
+
+    /**
+     * Indica se há ao menos um cliente cadastrado, para que a listagem completa responda 204 sem abrir o fluxo.
+     * @return true se houver clientes.
+     */
+    public Mono<Boolean> existemClientes() {
+        return clienteReativoRepository.existsAny();
+    }
+
+    /**
+     * Lê todos os clientes em ordem de ID, conforme a demanda do consumidor.
+     * @return Fluxo de clientes.
+     */
+    public Flux<Cliente> listarClientes() {
+        return clienteReativoRepository.findAllByOrderByIdAsc();
+    }
+
+    /**
+     * Busca uma página de clientes usando paginação por keyset (cursor no ID).
+     * @param afterId ID do último cliente já recebido, ou null para começar do início.
+     * @param limite Quantidade de clientes desejada, ajustada para o intervalo [1, LIMITE_MAXIMO_PAGINA].
+     * @return Clientes com ID maior que o cursor, ordenados por ID.
+     */
+    public Flux<Cliente> listarClientes(Long afterId, Integer limite) {
+        long cursor = afterId != null ? afterId : 0L;
+        return clienteReativoRepository.findByIdGreaterThanOrderByIdAsc(cursor, ClienteRegras.tamanhoPagina(limite));
+    }
+
+    /**
+     * Busca uma página de clientes alterados a partir de uma data, por keyset em (data de alteração, ID).
+     * @param desde Data de alteração do último cliente já recebido, ou data inicial da sincronização (inclusiva).
+     * @param afterId ID do último cliente já recebido com essa data, ou null na primeira página.
+     * @param limite Quantidade de clientes desejada, ajustada para o intervalo [1, LIMITE_MAXIMO_PAGINA].
+     * @return Clientes ordenados por data de alteração e ID.
+     */
+    public Flux<Cliente> listarClientesModificados(Instant desde, Long afterId, Integer limite) {
+        long cursor = afterId != null ? afterId : 0L;
+        return Flux.defer(() -> clienteReativoRepository.findModificadosDesde(desde, cursor,
+                Instant.now().minus(atrasoSincronizacao), ClienteRegras.tamanhoPagina(limite)));
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.clientes.service;
+
+import com.example.clientes.exception.ClienteDuplicadoException;
+import com.example.clientes.exception.ClienteNaoEncontradoException;
+import com.example.clientes.exception.ClienteVersaoDivergenteException;
+import com.example.clientes.model.Cliente;
+import com.example.clientes.utils.FormatadorUtils;
+
+/**
+ * Regras de negócio de Cliente independentes da forma de acesso ao banco, compartilhadas pelo
+ * {@link ClienteService} (JPA) e pelo {@link ClienteReativoService} (R2DBC): normalização dos dados,
+ * tamanho de página e as exceções (com as mensagens) de cada falha.
+ */
+public final class ClienteRegras {
+
+    private ClienteRegras() {
+    }
+
+    /**
+     * Formata e valida o e-mail e o telefone do cliente antes de gravá-lo.
+     * @param cliente Cliente a ser normalizado; alterado no próprio objeto.
+     * @return O próprio cliente.
+     * @throws IllegalArgumentException Se o e-mail tiver um formato inválido.
+     */
+    public static Cliente normalizar(Cliente cliente) {
+        cliente.setEmail(FormatadorUtils.formatarEmail(cliente.getEmail()));
+        cliente.setTelefone(FormatadorUtils.formatarTelefone(cliente.getTelefone()));
+        return cliente;
+    }
+
+    /**
+     * Ajusta o tamanho de página solicitado ao intervalo [1, {@link ClienteService#LIMITE_MAXIMO_PAGINA}].
+     * @param limite Tamanho solicitado, ou null para o tamanho padrão.
+     * @return Tamanho de página a ser usado na consulta.
+     */
+    public static int tamanhoPagina(Integer limite) {
+        return limite != null
+                ? Math.min(Math.max(limite, 1), ClienteService.LIMITE_MAXIMO_PAGINA)
+                : ClienteService.LIMITE_PADRAO_PAGINA;
+    }
+
+    public static String mensagemNaoEncontrado(Long id) {
+        return "Cliente com ID " + id + " não encontrado.";
+    }
+
+    public static ClienteNaoEncontradoException naoEncontrado(Long id) {
+        return new ClienteNaoEncontradoException(mensagemNaoEncontrado(id));
+    }
+
+    public static ClienteVersaoDivergenteException versaoDivergente(Long id) {
+        return new ClienteVersaoDivergenteException("O cliente com ID " + id + " foi alterado por outra requisição.");
+    }
+
+    public static ClienteDuplicadoException emailDuplicado(String email) {
+        return new ClienteDuplicadoException("Já existe um cliente com o e-mail " + email + ".");
+    }
+}
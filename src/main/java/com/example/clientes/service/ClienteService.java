@@ -1,17 +1,44 @@
 package com.example.clientes.service;
 
-import com.example.clientes.exception.ClienteNaoEncontradoException;
+import com.example.clientes.config.CacheConfig;
+import com.example.clientes.exception.ClienteVersaoDivergenteException;
 import com.example.clientes.model.Cliente;
+import com.example.clientes.model.EventoCliente.Tipo;
+import com.example.clientes.model.ResultadoBuscaPorIds;
 import com.example.clientes.repository.ClienteRepository;
+import com.example.clientes.utils.CarregamentoUnico;
 import com.example.clientes.utils.FormatadorUtils;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import jakarta.transaction.Transactional;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Serviço de Cliente, responsável pela lógica de negócio.
@@ -21,113 +48,407 @@ public class ClienteService {
 
     private static final Logger logger = LoggerFactory.getLogger(ClienteService.class);
 
+    /** Quantidade de clientes por página quando o limite não é informado. */
+    public static final int LIMITE_PADRAO_PAGINA = 100;
+
+    /** Quantidade máxima de clientes por página. */
+    public static final int LIMITE_MAXIMO_PAGINA = 1000;
+
+    /** Quantidade máxima de IDs em uma busca por vários IDs. */
+    public static final int MAXIMO_IDS_BUSCA = 1000;
+
+    /** Quantidade de IDs por consulta ao banco (lista IN) na busca por vários IDs. */
+    public static final int TAMANHO_CONSULTA_IDS = 500;
+
     @Autowired
     private ClienteRepository clienteRepository;
 
+    @Autowired
+    private ClienteBuscaService clienteBuscaService;
+
+    @Autowired
+    private ClienteEventoService clienteEventoService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Buscas por ID em andamento: as buscas simultâneas do mesmo ID que não estão no cache fazem uma só consulta
+    private final CarregamentoUnico<Long, Optional<Cliente>> buscasPorId = new CarregamentoUnico<>("buscarClientePorId");
+
+    /**
+     * Idade mínima das alterações retornadas na sincronização por data. A data de alteração é definida antes do
+     * commit, então uma transação mais lenta pode gravar uma data anterior à de alterações já visíveis; o atraso
+     * evita que o cursor do consumidor passe por essas alterações antes que elas sejam confirmadas.
+     */
+    @Value("${clientes.sincronizacao.atraso-leitura:2s}")
+    private Duration atrasoSincronizacao;
+
     /**
      * Cria um novo cliente no banco de dados.
      * @param cliente Cliente a ser criado.
      * @return Cliente criado.
      */
     @Transactional
+    @CachePut(cacheNames = CacheConfig.CACHE_CLIENTES, key = "#result.id")
     public Cliente criarCliente(Cliente cliente) {
         // Formatar e-mail e telefone antes de salvar
-        cliente.setEmail(FormatadorUtils.formatarEmail(cliente.getEmail()));
-        cliente.setTelefone(FormatadorUtils.formatarTelefone(cliente.getTelefone()));
+        ClienteRegras.normalizar(cliente);
 
         try {
-            Cliente clienteCriado = clienteRepository.save(cliente);
-            logger.info("Cliente criado com sucesso: {}", clienteCriado);
+            // saveAndFlush: com IDs por sequência o INSERT só ocorreria no commit, fora deste tratamento de erro
+            Cliente clienteCriado = clienteRepository.saveAndFlush(cliente);
+            clienteBuscaService.indexar(clienteCriado);
+            clienteEventoService.registrar(Tipo.CRIADO, clienteCriado);
+            logger.debug("Cliente com ID {} criado com sucesso", clienteCriado.getId());
             return clienteCriado;
-        } catch (Exception e) {
-            logger.error("Erro ao criar cliente: {}", e.getMessage());
-            throw new RuntimeException("Erro ao criar cliente: " + e.getMessage());
+        } catch (DataIntegrityViolationException e) {
+            logger.debug("E-mail {} já cadastrado", cliente.getEmail());
+            throw ClienteRegras.emailDuplicado(cliente.getEmail());
         }
     }
 
     /**
-     * Altera os dados de um cliente existente.
+     * Altera os dados de um cliente existente com um único comando UPDATE, sem leitura prévia. O comando devolve o
+     * nome anterior, e a busca por nome só é reindexada se ele mudou.
      *
      * @param id      ID do cliente a ser alterado.
      * @param cliente Cliente com dados atualizados.
-     * @return Cliente atualizado.
+     * @return Cliente atualizado, com a nova versão e as datas de criação e de alteração.
      */
     @Transactional
+    @CachePut(cacheNames = CacheConfig.CACHE_CLIENTES, key = "#id")
     public Cliente alterarCliente(Long id, Cliente cliente) {
-        Optional<Cliente> clienteExistente = clienteRepository.findById(id);
-
-        if (clienteExistente.isPresent()) {
-            Cliente clienteAtualizado = clienteExistente.get();
-            // Formatar e-mail e telefone antes de atualizar
-            clienteAtualizado.setEmail(FormatadorUtils.formatarEmail(cliente.getEmail()));
-            clienteAtualizado.setTelefone(FormatadorUtils.formatarTelefone(cliente.getTelefone()));
-
-            try {
-                Cliente clienteAlterado = clienteRepository.save(clienteAtualizado);
-                logger.info("Cliente com ID {} alterado com sucesso", id);
-                return clienteAlterado;
-            } catch (Exception e) {
-                logger.error("Erro ao alterar cliente com ID {}: {}", id, e.getMessage());
-                throw new RuntimeException("Erro ao alterar cliente: " + e.getMessage());
+        return alterar(id, cliente, null);
+    }
+
+    /**
+     * Altera os dados de um cliente somente se ele estiver na versão informada (controle de concorrência otimista).
+     *
+     * @param id             ID do cliente a ser alterado.
+     * @param cliente        Cliente com dados atualizados.
+     * @param versaoEsperada Versão lida anteriormente pelo chamador, ou null para alterar em qualquer versão.
+     * @return Cliente atualizado, com a nova versão e as datas de criação e de alteração.
+     * @throws ClienteVersaoDivergenteException Se o cliente estiver em outra versão.
+     */
+    @Transactional
+    @CachePut(cacheNames = CacheConfig.CACHE_CLIENTES, key = "#id")
+    public Cliente alterarCliente(Long id, Cliente cliente, Long versaoEsperada) {
+        return alterar(id, cliente, versaoEsperada);
+    }
+
+    /**
+     * Altera apenas os campos informados de um cliente (atributos nulos são mantidos). Somente os campos
+     * informados são validados, e o UPDATE gerado inclui apenas as colunas cujo valor mudou.
+     * <p>
+     * Se nenhum campo mudar (corpo vazio ou valores iguais aos gravados), não há UPDATE, e a versão continua a
+     * mesma; por isso não é registrado evento, e o cache não é atualizado. Com alteração, o cliente é guardado no
+     * cache após o commit.
+     *
+     * @param id             ID do cliente a ser alterado.
+     * @param alteracoes     Campos a alterar; atributos nulos não são alterados.
+     * @param versaoEsperada Versão lida anteriormente pelo chamador, ou null para alterar em qualquer versão.
+     * @return Cliente atualizado, com a nova versão.
+     * @throws ClienteVersaoDivergenteException Se o cliente estiver em outra versão.
+     */
+    @Transactional
+    public Cliente alterarClienteParcialmente(Long id, Cliente alteracoes, Long versaoEsperada) {
+        Cliente cliente = clienteRepository.findById(id)
+                .orElseThrow(() -> ClienteRegras.naoEncontrado(id));
+        if (versaoEsperada != null && !versaoEsperada.equals(cliente.getVersao())) {
+            logger.debug("Cliente com ID {} não está na versão {}", id, versaoEsperada);
+            throw ClienteRegras.versaoDivergente(id);
+        }
+
+        boolean alterado = false;
+        if (alteracoes.getEmail() != null) {
+            String email = FormatadorUtils.formatarEmail(alteracoes.getEmail());
+            alterado = !email.equals(cliente.getEmail());
+            cliente.setEmail(email);
+        }
+        if (alteracoes.getTelefone() != null) {
+            String telefone = FormatadorUtils.formatarTelefone(alteracoes.getTelefone());
+            alterado |= !telefone.equals(cliente.getTelefone());
+            cliente.setTelefone(telefone);
+        }
+        boolean nomeAlterado = alteracoes.getNome() != null && !alteracoes.getNome().equals(cliente.getNome());
+        if (nomeAlterado) {
+            cliente.setNome(alteracoes.getNome());
+        }
+        if (!alterado && !nomeAlterado) {
+            logger.debug("Cliente com ID {} sem alterações", id);
+            return cliente;
+        }
+
+        try {
+            // flush pelo repositório, para que as exceções do banco sejam traduzidas pelo Spring
+            clienteRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            logger.debug("E-mail {} já cadastrado para outro cliente", cliente.getEmail());
+            throw ClienteRegras.emailDuplicado(cliente.getEmail());
+        } catch (OptimisticLockingFailureException e) {
+            logger.debug("Cliente com ID {} alterado por outra requisição durante a alteração parcial", id);
+            throw ClienteRegras.versaoDivergente(id);
+        }
+        if (nomeAlterado) {
+            clienteBuscaService.reindexar(id, cliente.getNome());
+        }
+        clienteEventoService.registrar(Tipo.ALTERADO, cliente);
+        guardarNoCacheAposCommit(cliente);
+
+        logger.debug("Cliente com ID {} alterado parcialmente com sucesso", id);
+        return cliente;
+    }
+
+    /**
+     * Guarda o cliente no cache após o commit da transação atual, como faria {@code @CachePut}, ou imediatamente se
+     * não houver transação.
+     */
+    private void guardarNoCacheAposCommit(Cliente cliente) {
+        Cache cache = cacheManager.getCache(CacheConfig.CACHE_CLIENTES);
+        if (cache == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.put(cliente.getId(), cliente);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.put(cliente.getId(), cliente);
+            }
+        });
+    }
+
+    private Cliente alterar(Long id, Cliente cliente, Long versaoEsperada) {
+        // Formatar e-mail e telefone antes de atualizar
+        String email = FormatadorUtils.formatarEmail(cliente.getEmail());
+        String telefone = FormatadorUtils.formatarTelefone(cliente.getTelefone());
+
+        Instant atualizadoEm = Cliente.agora();
+        Optional<ClienteRepository.EstadoAnterior> anterior;
+        try {
+            anterior = versaoEsperada == null
+                    ? clienteRepository.atualizarCliente(id, cliente.getNome(), email, telefone, atualizadoEm)
+                    : clienteRepository.atualizarClienteNaVersao(id, versaoEsperada, cliente.getNome(), email,
+                            telefone, atualizadoEm);
+        } catch (DataIntegrityViolationException e) {
+            logger.debug("E-mail {} já cadastrado para outro cliente", email);
+            throw ClienteRegras.emailDuplicado(email);
+        }
+
+        if (anterior.isEmpty()) {
+            // Sem versão esperada, nenhum registro alterado indica cliente inexistente; com versão, é preciso
+            // distinguir cliente inexistente de alteração concorrente
+            if (versaoEsperada == null || clienteRepository.findVersaoById(id).isEmpty()) {
+                logger.debug("Cliente com ID {} não encontrado para alteração", id);
+                throw ClienteRegras.naoEncontrado(id);
             }
-        } else {
-            logger.error("Cliente com ID {} não encontrado para alteração", id);
-            throw new ClienteNaoEncontradoException("Cliente com ID " + id + " não encontrado.");
+            logger.debug("Cliente com ID {} não está na versão {}", id, versaoEsperada);
+            throw ClienteRegras.versaoDivergente(id);
         }
+
+        // O cliente alterado é montado com os valores gravados e o estado anterior devolvido pelo UPDATE, sem
+        // releitura
+        Cliente clienteAlterado = new Cliente(cliente.getNome(), email, telefone);
+        clienteAlterado.setId(id);
+        clienteAlterado.setVersao(anterior.get().getVersao() + 1);
+        clienteAlterado.setCriadoEm(anterior.get().getCriadoEm().toInstant());
+        clienteAlterado.setAtualizadoEm(atualizadoEm);
+        if (!anterior.get().getNome().equals(cliente.getNome())) {
+            clienteBuscaService.reindexar(id, cliente.getNome());
+        }
+        clienteEventoService.registrar(Tipo.ALTERADO, clienteAlterado);
+        logger.debug("Cliente com ID {} alterado com sucesso", id);
+        return clienteAlterado;
     }
 
     /**
-     * Exclui um cliente do banco de dados.
+     * Exclui um cliente do banco de dados com um único comando DELETE.
      * @param id ID do cliente a ser excluído.
      */
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.CACHE_CLIENTES, key = "#id")
     public void excluirCliente(Long id) {
-        Optional<Cliente> clienteExistente = clienteRepository.findById(id);
-
-        if (clienteExistente.isPresent()) {
-            try {
-                clienteRepository.deleteById(id);
-                logger.info("Cliente com ID {} excluído com sucesso", id);
-            } catch (Exception e) {
-                logger.error("Erro ao excluir cliente com ID {}: {}", id, e.getMessage());
-                throw new RuntimeException("Erro ao excluir cliente: " + e.getMessage());
-            }
-        } else {
-            logger.error("Cliente com ID {} não encontrado para exclusão", id);
-            throw new ClienteNaoEncontradoException("Cliente com ID " + id + " não encontrado.");
+        int excluidos = clienteRepository.excluirClientePorId(id);
+        if (excluidos == 0) {
+            logger.debug("Cliente com ID {} não encontrado para exclusão", id);
+            throw ClienteRegras.naoEncontrado(id);
         }
+        clienteEventoService.registrarExclusoes(List.of(id));
+
+        logger.debug("Cliente com ID {} excluído com sucesso", id);
     }
 
     /**
-     * Busca todos os clientes no banco de dados.
-     * @return Lista de clientes.
+     * Busca uma página de clientes usando paginação por keyset (cursor no ID).
+     * @param afterId ID do último cliente já recebido, ou null para começar do início.
+     * @param limite Quantidade de clientes desejada, ajustada para o intervalo [1, LIMITE_MAXIMO_PAGINA].
+     * @return Clientes com ID maior que o cursor, ordenados por ID.
      */
-    public List<Cliente> listarClientes() {
-        try {
-            List<Cliente> clientes = clienteRepository.findAll();
-            logger.info("Clientes listados com sucesso, total: {}", clientes.size());
-            return clientes;
-        } catch (Exception e) {
-            logger.error("Erro ao listar clientes: {}", e.getMessage());
-            throw new RuntimeException("Erro ao listar clientes: " + e.getMessage());
+    public List<Cliente> listarClientes(Long afterId, Integer limite) {
+        long cursor = afterId != null ? afterId : 0L;
+        int tamanho = ClienteRegras.tamanhoPagina(limite);
+        List<Cliente> clientes = clienteRepository.findByIdGreaterThanOrderByIdAsc(cursor, Limit.of(tamanho));
+        if (logger.isDebugEnabled()) {
+            logger.debug("Página de clientes listada com sucesso após o ID {}, total: {}", cursor, clientes.size());
+        }
+        return clientes;
+    }
+
+    /**
+     * Busca uma página de clientes alterados (ou criados) a partir de uma data, para sincronização incremental,
+     * usando paginação por keyset em (data de alteração, ID).
+     * @param desde Data de alteração do último cliente já recebido, ou data inicial da sincronização (inclusiva).
+     * @param afterId ID do último cliente já recebido com essa data, ou null na primeira página.
+     * @param limite Quantidade de clientes desejada, ajustada para o intervalo [1, LIMITE_MAXIMO_PAGINA].
+     * @return Clientes ordenados por data de alteração e ID.
+     */
+    public List<Cliente> listarClientesModificados(Instant desde, Long afterId, Integer limite) {
+        long cursor = afterId != null ? afterId : 0L;
+        int tamanho = ClienteRegras.tamanhoPagina(limite);
+        List<Cliente> clientes = clienteRepository.findModificadosDesde(desde, cursor,
+                Instant.now().minus(atrasoSincronizacao), Limit.of(tamanho));
+        if (logger.isDebugEnabled()) {
+            logger.debug("Clientes alterados desde {} listados com sucesso, total: {}", desde, clientes.size());
+        }
+        return clientes;
+    }
+
+    /**
+     * Percorre todos os clientes em ordem de ID, entregando um por vez ao consumidor.
+     * Cada cliente é desanexado do contexto de persistência após o uso, mantendo o consumo de memória constante.
+     * @param consumidor Destino de cada cliente lido.
+     * @return Quantidade de clientes percorridos.
+     */
+    @Transactional
+    public long percorrerClientes(Consumer<Cliente> consumidor) {
+        long total = 0;
+        try (Stream<Cliente> clientes = clienteRepository.streamAllByOrderByIdAsc()) {
+            for (Cliente cliente : (Iterable<Cliente>) clientes::iterator) {
+                consumidor.accept(cliente);
+                entityManager.detach(cliente);
+                total++;
+            }
         }
+        logger.info("Clientes percorridos com sucesso, total: {}", total);
+        return total;
+    }
+
+    /**
+     * Conta os clientes cadastrados.
+     * @return Quantidade de clientes.
+     */
+    public long contarClientes() {
+        return clienteRepository.count();
     }
 
     /**
      * Busca um cliente por seu ID.
      * @param id ID do cliente.
+     * O resultado, inclusive a ausência do cliente, é mantido no cache {@link CacheConfig#CACHE_CLIENTES}.
+     * Buscas simultâneas do mesmo ID fora do cache compartilham uma única consulta ao banco ({@link CarregamentoUnico}).
      * @return Cliente encontrado, ou Optional.empty() se não encontrado.
      */
+    @Cacheable(cacheNames = CacheConfig.CACHE_CLIENTES, key = "#id")
     public Optional<Cliente> buscarClientePorId(Long id) {
-        Optional<Cliente> cliente = clienteRepository.findById(id);
+        Optional<Cliente> cliente = buscasPorId.carregar(id, () -> clienteRepository.findById(id));
 
-        if (cliente.isPresent()) {
-            logger.info("Cliente com ID {} encontrado", id);
-        } else {
-            logger.warn("Cliente com ID {} não encontrado", id);
+        if (logger.isDebugEnabled()) {
+            logger.debug("Cliente com ID {} {}", id, cliente.isPresent() ? "encontrado" : "não encontrado");
         }
 
         return cliente;
     }
 
+    /**
+     * Busca vários clientes por ID. Os IDs presentes no cache {@link CacheConfig#CACHE_CLIENTES} (inclusive como
+     * inexistentes) são atendidos por ele; os demais são lidos do banco em consultas de até
+     * {@link #TAMANHO_CONSULTA_IDS} IDs e guardados no cache, como na busca por um ID.
+     * @param ids IDs dos clientes; IDs nulos e repetidos são ignorados.
+     * @return Clientes encontrados e IDs não encontrados, na ordem da primeira ocorrência de cada ID.
+     * @throws IllegalArgumentException Se houver mais de {@link #MAXIMO_IDS_BUSCA} IDs.
+     */
+    public ResultadoBuscaPorIds buscarClientesPorIds(Collection<Long> ids) {
+        if (ids.size() > MAXIMO_IDS_BUSCA) {
+            throw new IllegalArgumentException("A busca deve conter no máximo " + MAXIMO_IDS_BUSCA + " IDs.");
+        }
+        Set<Long> distintos = new LinkedHashSet<>(ids);
+        distintos.remove(null);
+
+        Cache cache = cacheManager.getCache(CacheConfig.CACHE_CLIENTES);
+        Map<Long, Cliente> encontrados = new HashMap<>();
+        List<Long> pendentes = new ArrayList<>();
+        for (Long id : distintos) {
+            Cache.ValueWrapper emCache = cache != null ? cache.get(id) : null;
+            if (emCache == null) {
+                pendentes.add(id);
+            } else if (emCache.get() != null) {
+                encontrados.put(id, (Cliente) emCache.get());
+            }
+        }
+
+        for (int inicio = 0; inicio < pendentes.size(); inicio += TAMANHO_CONSULTA_IDS) {
+            List<Long> consulta = pendentes.subList(inicio, Math.min(inicio + TAMANHO_CONSULTA_IDS, pendentes.size()));
+            for (Cliente cliente : clienteRepository.findAllById(consulta)) {
+                encontrados.put(cliente.getId(), cliente);
+            }
+            if (cache != null) {
+                // putIfAbsent: não sobrescreve uma entrada gravada por uma alteração concluída durante a consulta
+                for (Long id : consulta) {
+                    cache.putIfAbsent(id, encontrados.get(id));
+                }
+            }
+        }
+
+        List<Cliente> clientes = new ArrayList<>(encontrados.size());
+        List<Long> naoEncontrados = new ArrayList<>();
+        for (Long id : distintos) {
+            Cliente cliente = encontrados.get(id);
+            if (cliente != null) {
+                clientes.add(cliente);
+            } else {
+                naoEncontrados.add(id);
+            }
+        }
+        if (logger.isDebugEnabled()) {
+            logger.debug("Busca por {} IDs concluída, {} lidos do banco, {} não encontrados",
+                    distintos.size(), pendentes.size(), naoEncontrados.size());
+        }
+        return new ResultadoBuscaPorIds(clientes, naoEncontrados);
+    }
+
+    /**
+     * Busca um cliente pelo e-mail. O e-mail é normalizado da mesma forma que no cadastro.
+     * @param email E-mail do cliente.
+     * @return Cliente encontrado, ou Optional.empty() se não encontrado.
+     * @throws IllegalArgumentException Se o e-mail tiver um formato inválido.
+     */
+    public Optional<Cliente> buscarClientePorEmail(String email) {
+        Optional<Cliente> cliente = clienteRepository.findByEmail(FormatadorUtils.formatarEmail(email));
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Cliente com e-mail {} {}", email, cliente.isPresent() ? "encontrado" : "não encontrado");
+        }
+
+        return cliente;
+    }
+
+    /**
+     * Busca clientes pelo nome, por prefixo de palavras, sem diferenciar maiúsculas, minúsculas e acentos.
+     * @param consulta Texto da busca.
+     * @param limite Quantidade máxima de clientes.
+     * @return Clientes encontrados, ordenados por ID.
+     */
+    public List<Cliente> buscarClientesPorNome(String consulta, Integer limite) {
+        List<Cliente> clientes = clienteBuscaService.buscar(consulta, limite);
+        if (logger.isDebugEnabled()) {
+            logger.debug("Busca de clientes por nome concluída, total: {}", clientes.size());
+        }
+        return clientes;
+    }
+
 }
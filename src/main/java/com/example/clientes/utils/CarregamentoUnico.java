@@ -0,0 +1,92 @@
+package com.example.clientes.utils;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Agrupa carregamentos simultâneos da mesma chave em uma única execução (single-flight): a primeira chamada
+ * executa o carregador e as chamadas que chegam enquanto ele está em andamento aguardam e recebem o mesmo
+ * resultado, ou a mesma exceção, sem executá-lo novamente.
+ * <p>
+ * Os carregamentos em andamento ficam em um {@link ConcurrentHashMap} de {@link CompletableFuture}, registrados
+ * com {@code putIfAbsent} e removidos ao final, sem locks por chave. Nada é guardado depois da conclusão: uma
+ * chamada posterior executa o carregador de novo (o cache, quando existe, fica por fora). Cada chamada atendida
+ * por um carregamento em andamento incrementa o contador {@value #CONTADOR_AGRUPADOS} no registro global do
+ * Micrometer, com a tag {@code carregamento}.
+ *
+ * @param <K> Tipo da chave.
+ * @param <V> Tipo do valor carregado.
+ */
+public class CarregamentoUnico<K, V> {
+
+    /** Nome do contador de chamadas atendidas por um carregamento já em andamento. */
+    public static final String CONTADOR_AGRUPADOS = "clientes.carregamento.agrupados";
+
+    private final ConcurrentMap<K, CompletableFuture<V>> emAndamento = new ConcurrentHashMap<>();
+    private final Counter agrupados;
+
+    /**
+     * @param nome Nome do carregamento, usado como valor da tag {@code carregamento} do contador.
+     */
+    public CarregamentoUnico(String nome) {
+        this.agrupados = Counter.builder(CONTADOR_AGRUPADOS)
+                .description("Chamadas atendidas por um carregamento da mesma chave já em andamento")
+                .tag("carregamento", nome)
+                .register(Metrics.globalRegistry);
+    }
+
+    /**
+     * Retorna o valor da chave, executando o carregador apenas se não houver um carregamento da mesma chave
+     * em andamento; caso haja, aguarda o seu resultado.
+     * @param chave Chave do valor.
+     * @param carregador Função que carrega o valor; não deve chamar este método para a mesma chave.
+     * @return Valor carregado.
+     * @throws RuntimeException A exceção lançada pelo carregador, repassada a todas as chamadas agrupadas.
+     */
+    public V carregar(K chave, Supplier<V> carregador) {
+        CompletableFuture<V> nova = new CompletableFuture<>();
+        CompletableFuture<V> existente = emAndamento.putIfAbsent(chave, nova);
+        if (existente != null) {
+            agrupados.increment();
+            return aguardar(existente);
+        }
+        try {
+            V valor = carregador.get();
+            nova.complete(valor);
+            return valor;
+        } catch (RuntimeException | Error e) {
+            nova.completeExceptionally(e);
+            throw e;
+        } finally {
+            emAndamento.remove(chave, nova);
+        }
+    }
+
+    /**
+     * @return Quantidade de chaves com carregamento em andamento.
+     */
+    public int emAndamento() {
+        return emAndamento.size();
+    }
+
+    private static <V> V aguardar(CompletableFuture<V> futura) {
+        try {
+            return futura.join();
+        } catch (CompletionException e) {
+            // Repassa a exceção original do carregador, e não o invólucro do CompletableFuture
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            if (e.getCause() instanceof Error erro) {
+                throw erro;
+            }
+            throw e;
+        }
+    }
+}
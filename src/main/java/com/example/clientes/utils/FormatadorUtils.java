@@ -1,10 +1,36 @@
 package com.example.clientes.utils;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
 /**
- * Classe utilitária para formatação de dados como e-mail e telefone.
+ * Classe utilitária para formatação de dados como e-mail, telefone e termos de busca.
+ * <p>
+ * A validação é feita por varredura de caracteres, sem expressões regulares, pois estes métodos
+ * ficam no caminho de escrita de todo cadastro e alteração de cliente. As regras equivalem exatamente
+ * às expressões {@code ^[\w.-]+@[a-zA-Z\d.-]+\.[a-zA-Z]{2,6}$} (e-mail) e {@code \d{10}|\d{11}} (telefone).
+ * Cada valor rejeitado incrementa o contador {@value #CONTADOR_REJEICOES} no registro global do Micrometer,
+ * com a tag {@code campo}.
  */
 public class FormatadorUtils {
 
+    private static final int TAMANHO_MINIMO_TLD = 2;
+    private static final int TAMANHO_MAXIMO_TLD = 6;
+
+    /** Nome do contador de valores rejeitados na formatação. */
+    public static final String CONTADOR_REJEICOES = "clientes.formatador.rejeicoes";
+
+    private static final Counter REJEICOES_EMAIL = contadorRejeicoes("email");
+    private static final Counter REJEICOES_TELEFONE = contadorRejeicoes("telefone");
+
+    /** Tamanho máximo de um termo de busca; caracteres excedentes são descartados. */
+    public static final int TAMANHO_MAXIMO_TERMO = 50;
+
     /**
      * Formata e valida o e-mail para garantir que esteja no formato correto.
      * @param email E-mail a ser formatado.
@@ -14,7 +40,8 @@ public class FormatadorUtils {
     public static String formatarEmail(String email) {
         if (email != null) {
             email = email.trim().toLowerCase();
-            if (!email.matches("^[\\w.-]+@[a-zA-Z\\d.-]+\\.[a-zA-Z]{2,6}$")) {
+            if (!emailValido(email)) {
+                REJEICOES_EMAIL.increment();
                 throw new IllegalArgumentException("Formato de e-mail inválido.");
             }
         }
@@ -22,25 +49,119 @@ public class FormatadorUtils {
     }
 
     /**
-     * Formata o telefone para o formato "(XX) XXXXX-XXXX".
+     * Formata o telefone para o formato "(XX) XXXX-XXXX" ou "(XX) XXXXX-XXXX".
      * @param telefone Telefone a ser formatado.
      * @return Telefone formatado.
      */
     public static String formatarTelefone(String telefone) {
-        if (telefone != null) {
-            if (telefone.matches("\\d{10}")) { // Telefone com 10 dígitos
-                return String.format("(%s) %s-%s",
-                        telefone.substring(0, 2),  // DDD
-                        telefone.substring(2, 6), // Parte inicial do número
-                        telefone.substring(6));   // Parte final do número
-            } else if (telefone.matches("\\d{11}")) { // Telefone com 11 dígitos
-                return String.format("(%s) %s-%s",
-                        telefone.substring(0, 2),  // DDD
-                        telefone.substring(2, 7), // Parte inicial do número
-                        telefone.substring(7));   // Parte final do número
+        if (telefone != null && apenasDigitos(telefone)) {
+            int tamanho = telefone.length();
+            if (tamanho == 10 || tamanho == 11) {
+                int fimParteInicial = tamanho - 4; // A parte final do número sempre tem 4 dígitos
+                return new StringBuilder(tamanho + 5)
+                        .append('(').append(telefone, 0, 2).append(") ") // DDD
+                        .append(telefone, 2, fimParteInicial)            // Parte inicial do número
+                        .append('-').append(telefone, fimParteInicial, tamanho) // Parte final do número
+                        .toString();
             }
         }
+        REJEICOES_TELEFONE.increment();
         throw new IllegalArgumentException("Número de telefone inválido. Deve conter 10 ou 11 dígitos.");
     }
 
+    /**
+     * Extrai os termos de busca de um texto: cada palavra, sem acentos e em minúsculas, sem repetições.
+     * Exemplo: "João da Silva" resulta em ["joao", "da", "silva"].
+     * @param texto Texto de origem, como o nome do cliente ou a consulta de busca.
+     * @return Termos na ordem em que aparecem, ou lista vazia se não houver nenhum.
+     */
+    public static List<String> extrairTermos(String texto) {
+        if (texto == null || texto.isEmpty()) {
+            return List.of();
+        }
+        String decomposto = Normalizer.normalize(texto, Normalizer.Form.NFD); // Separa letras e acentos
+        Set<String> termos = new LinkedHashSet<>();
+        StringBuilder termo = new StringBuilder();
+        for (int i = 0; i < decomposto.length(); i++) {
+            char c = decomposto.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+            if (Character.isLetterOrDigit(c)) {
+                if (termo.length() < TAMANHO_MAXIMO_TERMO) {
+                    termo.append(Character.toLowerCase(c));
+                }
+            } else if (!termo.isEmpty()) {
+                termos.add(termo.toString());
+                termo.setLength(0);
+            }
+        }
+        if (!termo.isEmpty()) {
+            termos.add(termo.toString());
+        }
+        return List.copyOf(termos);
+    }
+
+    /**
+     * Verifica se o e-mail, já normalizado, tem parte local, um único "@", domínio e um TLD de 2 a 6 letras.
+     */
+    private static boolean emailValido(String email) {
+        int arroba = email.indexOf('@');
+        if (arroba <= 0) {
+            return false;
+        }
+        for (int i = 0; i < arroba; i++) {
+            char c = email.charAt(i);
+            if (!letraOuDigito(c) && c != '_' && c != '.' && c != '-') {
+                return false;
+            }
+        }
+
+        int ultimoPonto = email.lastIndexOf('.');
+        int tamanhoTld = email.length() - ultimoPonto - 1;
+        if (ultimoPonto <= arroba + 1 || tamanhoTld < TAMANHO_MINIMO_TLD || tamanhoTld > TAMANHO_MAXIMO_TLD) {
+            return false;
+        }
+        for (int i = arroba + 1; i < ultimoPonto; i++) {
+            char c = email.charAt(i);
+            if (!letraOuDigito(c) && c != '.' && c != '-') {
+                return false;
+            }
+        }
+        for (int i = ultimoPonto + 1; i < email.length(); i++) {
+            if (!letra(email.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Counter contadorRejeicoes(String campo) {
+        return Counter.builder(CONTADOR_REJEICOES)
+                .description("Valores rejeitados na formatação de dados de clientes")
+                .tag("campo", campo)
+                .register(Metrics.globalRegistry);
+    }
+
+    private static boolean apenasDigitos(String valor) {
+        for (int i = 0; i < valor.length(); i++) {
+            if (!digito(valor.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean letraOuDigito(char c) {
+        return letra(c) || digito(c);
+    }
+
+    private static boolean letra(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean digito(char c) {
+        return c >= '0' && c <= '9';
+    }
+
 }
@@ -0,0 +1,293 @@
+package com.example.clientes.utils;
+
+import com.example.clientes.model.Cliente;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+
+/**
+ * Lê clientes de um arquivo CSV ou NDJSON de forma incremental, um registro por vez, sem carregar o arquivo em
+ * memória. Cada registro resulta em um {@link Item} com o cliente lido ou com o erro que impediu a sua leitura,
+ * de forma que um registro inválido não interrompe a importação.
+ * <p>
+ * O CSV segue a RFC 4180 (campos entre aspas podem conter vírgulas, aspas duplicadas e quebras de linha) e deve ter
+ * uma linha de cabeçalho com as colunas {@code nome}, {@code email} e {@code telefone}, em qualquer ordem; as demais
+ * colunas, como as de um arquivo exportado, são ignoradas. No NDJSON, cada linha é um objeto JSON de cliente.
+ * Linhas em branco são ignoradas nos dois formatos, e registros com mais de {@value #TAMANHO_MAXIMO_REGISTRO}
+ * caracteres são rejeitados sem serem guardados. O prefixo {@link #PREFIXO_FORMULA}, gravado na exportação antes de
+ * campos com aparência de fórmula, é removido desses campos.
+ */
+public class LeitorImportacao implements Iterator<LeitorImportacao.Item> {
+
+    /** Quantidade máxima de caracteres de um registro. */
+    public static final int TAMANHO_MAXIMO_REGISTRO = 16_384;
+
+    /**
+     * Prefixo gravado na exportação antes de campos que uma planilha interpretaria como fórmula
+     * (ver {@link #pareceFormula(String)}), e removido desses campos na importação.
+     */
+    public static final char PREFIXO_FORMULA = '\'';
+
+    private static final List<String> COLUNAS_OBRIGATORIAS = List.of("nome", "email", "telefone");
+
+    /**
+     * Registro lido do arquivo.
+     * @param linha Número da linha do arquivo em que o registro começa (a partir de 1, incluindo o cabeçalho).
+     * @param cliente Cliente lido, ou null se o registro for inválido.
+     * @param erro Motivo da rejeição do registro, ou null se ele foi lido.
+     */
+    public record Item(long linha, Cliente cliente, String erro) {
+    }
+
+    private final Reader entrada;
+    private final ObjectReader leitorJson;
+    private final int[] posicaoColunas;
+    private final StringBuilder campo = new StringBuilder();
+    private int tamanhoRegistro;
+    private long linhaAtual = 1;
+    private Item proximo;
+    private boolean fim;
+
+    private LeitorImportacao(Reader entrada, ObjectReader leitorJson) {
+        this.entrada = entrada;
+        this.leitorJson = leitorJson;
+        this.posicaoColunas = leitorJson == null ? lerCabecalho() : null;
+    }
+
+    /**
+     * Cria um leitor de CSV, lendo a linha de cabeçalho.
+     * @param corpo Conteúdo em UTF-8.
+     * @return Leitor posicionado no primeiro registro.
+     * @throws IllegalArgumentException Se o cabeçalho não tiver as colunas obrigatórias.
+     */
+    public static LeitorImportacao csv(InputStream corpo) {
+        return new LeitorImportacao(leitor(corpo), null);
+    }
+
+    /**
+     * Cria um leitor de NDJSON.
+     * @param corpo Conteúdo em UTF-8.
+     * @param leitorJson Leitor Jackson de {@link Cliente}.
+     * @return Leitor posicionado no primeiro registro.
+     */
+    public static LeitorImportacao ndjson(InputStream corpo, ObjectReader leitorJson) {
+        return new LeitorImportacao(leitor(corpo), leitorJson);
+    }
+
+    private static Reader leitor(InputStream corpo) {
+        return new BufferedReader(new InputStreamReader(corpo, StandardCharsets.UTF_8), 64 * 1024);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (proximo == null && !fim) {
+            proximo = lerItem();
+            fim = proximo == null;
+        }
+        return proximo != null;
+    }
+
+    @Override
+    public Item next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Item item = proximo;
+        proximo = null;
+        return item;
+    }
+
+    private int[] lerCabecalho() {
+        List<String> colunas = lerRegistroCsv();
+        if (colunas == null) {
+            throw new IllegalArgumentException("O arquivo CSV está vazio.");
+        }
+        if (!colunas.isEmpty() && colunas.get(0).startsWith("\uFEFF")) {
+            colunas.set(0, colunas.get(0).substring(1)); // Marca de ordem de bytes (BOM) gravada por planilhas
+        }
+        List<String> normalizadas = colunas.stream().map(c -> c.trim().toLowerCase(Locale.ROOT)).toList();
+        int[] posicoes = new int[COLUNAS_OBRIGATORIAS.size()];
+        for (int i = 0; i < posicoes.length; i++) {
+            posicoes[i] = normalizadas.indexOf(COLUNAS_OBRIGATORIAS.get(i));
+            if (posicoes[i] < 0) {
+                throw new IllegalArgumentException("O cabeçalho do CSV deve conter as colunas " + COLUNAS_OBRIGATORIAS + ".");
+            }
+        }
+        return posicoes;
+    }
+
+    private Item lerItem() {
+        return leitorJson == null ? lerItemCsv() : lerItemNdjson();
+    }
+
+    private Item lerItemCsv() {
+        long linha;
+        List<String> campos;
+        do {
+            linha = linhaAtual;
+            campos = lerRegistroCsv();
+            if (campos == null) {
+                return null;
+            }
+        } while (tamanhoRegistro == 0); // Linha em branco
+
+        if (tamanhoRegistro > TAMANHO_MAXIMO_REGISTRO) {
+            return new Item(linha, null, "O registro excede " + TAMANHO_MAXIMO_REGISTRO + " caracteres.");
+        }
+        for (int posicao : posicaoColunas) {
+            if (posicao >= campos.size()) {
+                return new Item(linha, null, "O registro tem " + campos.size() + " colunas, menos que o cabeçalho.");
+            }
+        }
+        return new Item(linha, new Cliente(campoCsv(campos, 0), campoCsv(campos, 1), campoCsv(campos, 2)), null);
+    }
+
+    // Remove o prefixo gravado na exportação antes de campos com aparência de fórmula
+    private String campoCsv(List<String> campos, int coluna) {
+        String valor = campos.get(posicaoColunas[coluna]);
+        return valor.length() > 1 && valor.charAt(0) == PREFIXO_FORMULA && pareceFormula(valor.substring(1))
+                ? valor.substring(1) : valor;
+    }
+
+    /**
+     * Indica se uma planilha interpretaria o campo como fórmula (injeção de fórmula em CSV): campos iniciados por
+     * {@code =}, {@code +}, {@code -}, {@code @}, tabulação ou retorno de carro.
+     * @param valor Conteúdo do campo.
+     * @return true se o campo deve receber o {@link #PREFIXO_FORMULA} na exportação.
+     */
+    public static boolean pareceFormula(String valor) {
+        if (valor.isEmpty()) {
+            return false;
+        }
+        char c = valor.charAt(0);
+        return c == '=' || c == '+' || c == '-' || c == '@' || c == '\t' || c == '\r';
+    }
+
+    private Item lerItemNdjson() {
+        long linha;
+        String texto;
+        do {
+            linha = linhaAtual;
+            texto = lerLinha();
+            if (texto == null) {
+                return null;
+            }
+        } while (texto.isBlank());
+
+        if (tamanhoRegistro > TAMANHO_MAXIMO_REGISTRO) {
+            return new Item(linha, null, "O registro excede " + TAMANHO_MAXIMO_REGISTRO + " caracteres.");
+        }
+        try {
+            Cliente cliente = leitorJson.readValue(texto);
+            return cliente != null ? new Item(linha, cliente, null) : new Item(linha, null, "Item vazio.");
+        } catch (JsonProcessingException e) {
+            return new Item(linha, null, "JSON inválido: " + e.getOriginalMessage());
+        }
+    }
+
+    /**
+     * Lê um registro CSV, que pode ocupar mais de uma linha se tiver campos entre aspas com quebras de linha.
+     * Acima do limite de tamanho, o restante do registro é descartado e {@link #tamanhoRegistro} indica o excesso.
+     * @return Campos do registro, ou null no fim do arquivo.
+     */
+    private List<String> lerRegistroCsv() {
+        List<String> campos = new ArrayList<>(COLUNAS_OBRIGATORIAS.size());
+        campo.setLength(0);
+        tamanhoRegistro = 0;
+        boolean entreAspas = false;
+        boolean lido = false;
+        int c;
+        while ((c = ler()) != -1) {
+            lido = true;
+            if (entreAspas) {
+                if (c == '"') {
+                    int seguinte = ler();
+                    if (seguinte == '"') {
+                        adicionar('"');
+                        continue;
+                    }
+                    entreAspas = false;
+                    if (seguinte == -1) {
+                        break;
+                    }
+                    c = seguinte;
+                } else {
+                    if (c == '\n') {
+                        linhaAtual++;
+                    }
+                    adicionar((char) c);
+                    continue;
+                }
+            }
+            if (c == ',') {
+                if (++tamanhoRegistro <= TAMANHO_MAXIMO_REGISTRO) {
+                    campos.add(campo.toString());
+                }
+                campo.setLength(0);
+            } else if (c == '\n') {
+                linhaAtual++;
+                break;
+            } else if (c == '"' && campo.length() == 0) {
+                entreAspas = true;
+            } else if (c != '\r') {
+                adicionar((char) c);
+            }
+        }
+        if (!lido) {
+            return null;
+        }
+        campos.add(campo.toString());
+        campo.setLength(0);
+        return campos;
+    }
+
+    /**
+     * Lê uma linha do NDJSON.
+     * Acima do limite de tamanho, o restante da linha é descartado e {@link #tamanhoRegistro} indica o excesso.
+     * @return Linha sem a quebra, ou null no fim do arquivo.
+     */
+    private String lerLinha() {
+        campo.setLength(0);
+        tamanhoRegistro = 0;
+        boolean lido = false;
+        int c;
+        while ((c = ler()) != -1) {
+            lido = true;
+            if (c == '\n') {
+                linhaAtual++;
+                break;
+            }
+            if (c != '\r') {
+                adicionar((char) c);
+            }
+        }
+        return lido ? campo.toString() : null;
+    }
+
+    // Guarda o caractere apenas enquanto o registro estiver dentro do limite
+    private void adicionar(char c) {
+        if (++tamanhoRegistro <= TAMANHO_MAXIMO_REGISTRO) {
+            campo.append(c);
+        }
+    }
+
+    private int ler() {
+        try {
+            return entrada.read();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,396 @@
+package com.example.clientes.carga;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Teste de carga da API com a aplicação completa em uma porta aleatória e o H2 em memória.
+ * <p>
+ * Cadastra {@code clientes} clientes e envia tráfego misto de leitura e escrita a uma taxa fixa de {@code taxa}
+ * requisições por segundo, com autenticação básica ({@link #testTrafegoMisto()}), ou mantém {@code conexoes}
+ * requisições simultâneas, cada uma seguida da próxima assim que a resposta chega ({@link #testConexoesSimultaneas()}).
+ * Na taxa fixa, a latência de cada requisição é medida a partir do instante em que ela deveria ter sido enviada, de
+ * modo que atrasos do servidor não reduzem a carga nem escondem o tempo de espera.
+ * Esse teste falha se houver erros ou se o p99 ou o tempo de CPU do processo por requisição ficarem acima dos limites
+ * de referência, considerando a tolerância configurada. A vazão não é um limite: com a taxa fixa, ela é a própria
+ * taxa enquanto não houver erros, e uma piora de eficiência aparece no tempo de CPU por requisição.
+ * <p>
+ * Os parâmetros e limites de referência ficam em {@code carga/baseline.properties} e podem ser sobrescritos por
+ * propriedades de sistema com o prefixo {@code carga.} (por exemplo {@code mvn -Pcarga test -Dcarga.taxa=500}).
+ * O histograma completo e os valores medidos são gravados em {@code target/carga}, incluindo a vazão por CPU e o tempo
+ * de CPU do processo por requisição, que permitem comparar implementações da API no mesmo hardware
+ * ({@link ClienteReativoCargaTest}, {@link ClienteThreadsVirtuaisCargaTest}). O tempo de CPU inclui o gerador de carga, que roda no mesmo processo.
+ * <p>
+ * Executado apenas no perfil Maven {@code carga}.
+ */
+@Tag("carga")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+public class ClienteCargaTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClienteCargaTest.class);
+
+    private static final String AUTORIZACAO = "Basic " + Base64.getEncoder()
+            .encodeToString("user:password".getBytes(StandardCharsets.UTF_8));
+
+    /** Tempo máximo de espera pelas respostas após o envio da última requisição. */
+    private static final Duration ESPERA_FINAL = Duration.ofSeconds(30);
+
+    @LocalServerPort
+    private int porta;
+
+    @Autowired
+    protected ObjectMapper objectMapper;
+
+    private final AtomicLong sequencia = new AtomicLong();
+
+    @Test
+    public void testTrafegoMisto() throws Exception {
+        Properties baseline = carregarBaseline();
+        int clientes = Integer.parseInt(parametro(baseline, "clientes"));
+        int taxa = Integer.parseInt(parametro(baseline, "taxa"));
+        Duration aquecimento = Duration.ofSeconds(Long.parseLong(parametro(baseline, "aquecimento-segundos")));
+        Duration duracao = Duration.ofSeconds(Long.parseLong(parametro(baseline, "duracao-segundos")));
+        double limiteP99Ms = Double.parseDouble(parametro(baseline, "p99-ms"));
+        double limiteCpuMs = Double.parseDouble(parametro(baseline, "cpu-ms-por-requisicao"));
+        double tolerancia = Double.parseDouble(parametro(baseline, "tolerancia"));
+        boolean http2 = Boolean.parseBoolean(parametro(baseline, "http2"));
+
+        HttpClient http = HttpClient.newBuilder()
+                .version(http2 ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        List<Long> ids = semear(http, clientes);
+
+        executar(http, ids, taxa, aquecimento);
+        long cpuInicial = tempoCpuProcessoNanos();
+        Execucao execucao = executar(http, ids, taxa, duracao);
+        long cpuNanos = tempoCpuProcessoNanos() - cpuInicial;
+
+        Histogram latencias = execucao.latencias();
+        double p99Ms = latencias.getValueAtPercentile(99) / 1000.0;
+        double vazao = execucao.concluidas() / execucao.segundos();
+        double vazaoPorCpu = vazao / Runtime.getRuntime().availableProcessors();
+        double cpuMsPorRequisicao = execucao.concluidas() > 0 ? cpuNanos / 1e6 / execucao.concluidas() : 0;
+        logger.info("Carga: {} req/s alvo, {} req/s obtidos ({} por CPU, {} ms de CPU por requisição), {} erros; "
+                        + "latência (ms) p50={} p90={} p99={} p99.9={} máx={}",
+                taxa, String.format("%.1f", vazao), String.format("%.1f", vazaoPorCpu),
+                String.format("%.2f", cpuMsPorRequisicao), execucao.erros(),
+                latencias.getValueAtPercentile(50) / 1000.0, latencias.getValueAtPercentile(90) / 1000.0, p99Ms,
+                latencias.getValueAtPercentile(99.9) / 1000.0, latencias.getMaxValue() / 1000.0);
+        gravarResultado(latencias, p99Ms, vazao, vazaoPorCpu, cpuMsPorRequisicao);
+
+        assertEquals(0, execucao.erros(), "Requisições com erro durante a carga");
+        assertTrue(p99Ms <= limiteP99Ms * (1 + tolerancia),
+                String.format("p99 de %.1f ms acima do limite de %.1f ms (+%.0f%%)", p99Ms, limiteP99Ms, tolerancia * 100));
+        assertTrue(cpuMsPorRequisicao <= limiteCpuMs * (1 + tolerancia),
+                String.format("Tempo de CPU de %.3f ms por requisição acima do limite de %.3f ms (+%.0f%%)",
+                        cpuMsPorRequisicao, limiteCpuMs, tolerancia * 100));
+    }
+
+    /**
+     * Mantém {@code conexoes} requisições simultâneas durante {@code duracao-segundos}: cada uma é seguida da próxima
+     * assim que a resposta chega, de modo que o gerador abre e ocupa uma conexão HTTP/1.1 para cada uma. Com a
+     * concorrência fixa, a vazão é limitada pelo servidor, e a latência é medida a partir do envio de cada requisição.
+     * Cada requisição espera até {@link #ESPERA_FINAL} pela resposta, de modo que a fila no servidor aparece como
+     * latência, e não como erro do gerador.
+     * <p>
+     * A vazão, o p99 e os erros são gravados em {@code resultado-conexoes.properties}, sem limites de referência: os
+     * erros fazem parte da comparação entre configurações (no perfil {@code virtual-threads}, por exemplo, requisições
+     * que esperam mais que o {@code connection-timeout} do pool falham), e o teste falha apenas se nenhuma requisição
+     * for concluída com sucesso.
+     */
+    @Test
+    public void testConexoesSimultaneas() throws Exception {
+        Properties baseline = carregarBaseline();
+        int clientes = Integer.parseInt(parametro(baseline, "clientes"));
+        int conexoes = Integer.parseInt(parametro(baseline, "conexoes"));
+        Duration aquecimento = Duration.ofSeconds(Long.parseLong(parametro(baseline, "aquecimento-segundos")));
+        Duration duracao = Duration.ofSeconds(Long.parseLong(parametro(baseline, "duracao-segundos")));
+
+        HttpClient http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        List<Long> ids = semear(http, clientes);
+
+        manterConexoes(http, ids, conexoes, aquecimento);
+        Execucao execucao = manterConexoes(http, ids, conexoes, duracao);
+
+        Histogram latencias = execucao.latencias();
+        double p99Ms = latencias.getValueAtPercentile(99) / 1000.0;
+        double vazao = execucao.concluidas() / execucao.segundos();
+        logger.info("Conexões: {} simultâneas, {} req/s obtidos, {} erros; latência (ms) p50={} p90={} p99={} p99.9={} máx={}",
+                conexoes, String.format("%.1f", vazao), execucao.erros(), latencias.getValueAtPercentile(50) / 1000.0,
+                latencias.getValueAtPercentile(90) / 1000.0, p99Ms, latencias.getValueAtPercentile(99.9) / 1000.0,
+                latencias.getMaxValue() / 1000.0);
+        Path diretorio = diretorioResultado();
+        Files.createDirectories(diretorio);
+        Files.writeString(diretorio.resolve("resultado-conexoes.properties"),
+                String.format(Locale.ROOT, "conexoes=%d%np99-ms=%.1f%nvazao=%.1f%nerros=%d%n",
+                        conexoes, p99Ms, vazao, execucao.erros()));
+
+        assertTrue(execucao.sucessos() > 0, "Nenhuma requisição concluída com sucesso");
+    }
+
+    /**
+     * Diretório onde o histograma e os valores medidos são gravados.
+     */
+    protected Path diretorioResultado() {
+        return Path.of("target", "carga");
+    }
+
+    /**
+     * Cadastra os clientes iniciais pelo endpoint de criação em lote.
+     * @return IDs dos clientes criados.
+     */
+    protected List<Long> semear(HttpClient http, int quantidade) throws IOException, InterruptedException {
+        List<Long> ids = new ArrayList<>(quantidade);
+        int tamanhoLote = 1000;
+        for (int inicio = 0; inicio < quantidade; inicio += tamanhoLote) {
+            StringBuilder corpo = new StringBuilder("[");
+            for (int i = inicio; i < Math.min(inicio + tamanhoLote, quantidade); i++) {
+                corpo.append(i > inicio ? "," : "").append(novoClienteJson());
+            }
+            HttpResponse<String> resposta = http.send(requisicao("/batch")
+                    .POST(HttpRequest.BodyPublishers.ofString(corpo.append(']').toString())).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            assertEquals(200, resposta.statusCode(), resposta.body());
+            for (JsonNode item : objectMapper.readTree(resposta.body())) {
+                assertEquals("CRIADO", item.get("status").asText(), item.toString());
+                ids.add(item.get("id").asLong());
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Envia requisições a uma taxa fixa durante o período informado, sem esperar as respostas para enviar a seguinte.
+     * Requisições ainda sem resposta {@link #ESPERA_FINAL} após o envio da última são contadas como erro, com o tempo
+     * decorrido até ali como latência, para que um servidor travado não passe com um p99 baixo.
+     */
+    private Execucao executar(HttpClient http, List<Long> ids, int taxa, Duration periodo) {
+        ConcurrentHistogram latencias = new ConcurrentHistogram(3);
+        AtomicLong concluidas = new AtomicLong();
+        AtomicLong erros = new AtomicLong();
+        List<CompletableFuture<?>> pendentes = new ArrayList<>();
+
+        long intervaloNanos = TimeUnit.SECONDS.toNanos(1) / taxa;
+        int total = Math.toIntExact(periodo.toSeconds() * taxa);
+        AtomicIntegerArray registradas = new AtomicIntegerArray(total); // 1 quando a requisição já foi contabilizada
+        long inicio = System.nanoTime();
+        for (int i = 0; i < total; i++) {
+            int indice = i;
+            long agendado = inicio + i * intervaloNanos;
+            long espera = agendado - System.nanoTime();
+            if (espera > 0) {
+                LockSupport.parkNanos(espera);
+            }
+            pendentes.add(http.sendAsync(proximaRequisicao(ids), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((resposta, erro) -> {
+                        if (registradas.compareAndSet(indice, 0, 1)) {
+                            latencias.recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - agendado)));
+                            concluidas.incrementAndGet();
+                            if (erro != null || resposta.statusCode() >= 400) {
+                                erros.incrementAndGet();
+                            }
+                        }
+                    }));
+        }
+        try {
+            CompletableFuture.allOf(pendentes.toArray(CompletableFuture[]::new))
+                    .get(ESPERA_FINAL.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            // As requisições sem resposta são contabilizadas abaixo; as que falharam já foram contadas como erro
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        long fim = System.nanoTime();
+        long semResposta = 0;
+        for (int i = 0; i < total; i++) {
+            if (registradas.compareAndSet(i, 0, 1)) {
+                latencias.recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(fim - (inicio + i * intervaloNanos))));
+                semResposta++;
+            }
+        }
+        if (semResposta > 0) {
+            logger.warn("{} requisições sem resposta após {} s, contadas como erro", semResposta, ESPERA_FINAL.toSeconds());
+        }
+        double segundos = (fim - inicio) / 1e9;
+        return new Execucao(latencias, concluidas.get(), concluidas.get() - erros.get(), erros.get() + semResposta,
+                segundos);
+    }
+
+    /**
+     * Envia requisições por {@code conexoes} sequências simultâneas durante o período informado. Requisições ainda sem
+     * resposta {@link #ESPERA_FINAL} após o fim do período são contadas como erro.
+     */
+    private Execucao manterConexoes(HttpClient http, List<Long> ids, int conexoes, Duration periodo) {
+        ConcurrentHistogram latencias = new ConcurrentHistogram(3);
+        AtomicLong concluidas = new AtomicLong();
+        AtomicLong erros = new AtomicLong();
+        AtomicLong emAndamento = new AtomicLong();
+        List<CompletableFuture<Void>> sequencias = new ArrayList<>(conexoes);
+
+        long inicio = System.nanoTime();
+        long prazo = inicio + periodo.toNanos();
+        for (int i = 0; i < conexoes; i++) {
+            sequencias.add(enviarAte(http, ids, prazo, latencias, concluidas, erros, emAndamento));
+        }
+        try {
+            CompletableFuture.allOf(sequencias.toArray(CompletableFuture[]::new))
+                    .get(periodo.plus(ESPERA_FINAL).toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            // As requisições sem resposta são contabilizadas abaixo
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        long fim = System.nanoTime();
+        long semResposta = emAndamento.get();
+        if (semResposta > 0) {
+            logger.warn("{} requisições sem resposta após {} s, contadas como erro", semResposta, ESPERA_FINAL.toSeconds());
+        }
+        return new Execucao(latencias, concluidas.get(), concluidas.get() - erros.get(), erros.get() + semResposta,
+                (fim - inicio) / 1e9);
+    }
+
+    /**
+     * Envia uma requisição e, ao receber a resposta, a seguinte, até o prazo informado.
+     */
+    private CompletableFuture<Void> enviarAte(HttpClient http, List<Long> ids, long prazo, Histogram latencias,
+                                              AtomicLong concluidas, AtomicLong erros, AtomicLong emAndamento) {
+        if (System.nanoTime() >= prazo) {
+            return CompletableFuture.completedFuture(null);
+        }
+        long envio = System.nanoTime();
+        emAndamento.incrementAndGet();
+        HttpRequest requisicao = HttpRequest.newBuilder(proximaRequisicao(ids), (nome, valor) -> true)
+                .timeout(ESPERA_FINAL)
+                .build();
+        return http.sendAsync(requisicao, HttpResponse.BodyHandlers.discarding())
+                .handle((resposta, erro) -> {
+                    emAndamento.decrementAndGet();
+                    latencias.recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - envio)));
+                    concluidas.incrementAndGet();
+                    if (erro != null || resposta.statusCode() >= 400) {
+                        erros.incrementAndGet();
+                    }
+                    return null;
+                })
+                .thenCompose(ignorado -> enviarAte(http, ids, prazo, latencias, concluidas, erros, emAndamento));
+    }
+
+    /**
+     * Sorteia a próxima requisição: 60% busca por ID, 15% página, 15% criação e 10% alteração.
+     */
+    private HttpRequest proximaRequisicao(List<Long> ids) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long id = ids.get(random.nextInt(ids.size()));
+        int sorteio = random.nextInt(100);
+        if (sorteio < 60) {
+            return requisicao("/" + id).GET().build();
+        }
+        if (sorteio < 75) {
+            return requisicao("?afterId=" + id + "&limit=50").GET().build();
+        }
+        if (sorteio < 90) {
+            return requisicao("").POST(HttpRequest.BodyPublishers.ofString(novoClienteJson())).build();
+        }
+        String alteracao = "{\"nome\":\"Cliente Alterado " + id + "\",\"email\":\"alterado" + id
+                + "@carga.com\",\"telefone\":\"11987654321\"}";
+        return requisicao("/" + id).PUT(HttpRequest.BodyPublishers.ofString(alteracao)).build();
+    }
+
+    protected HttpRequest.Builder requisicao(String caminho) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + porta + "/api/clientes" + caminho))
+                .timeout(Duration.ofSeconds(10))
+                .header("Authorization", AUTORIZACAO)
+                .header("Content-Type", "application/json");
+    }
+
+    protected String novoClienteJson() {
+        long n = sequencia.incrementAndGet();
+        return "{\"nome\":\"Cliente Carga " + n + "\",\"email\":\"cliente" + n + "@carga.com\",\"telefone\":\"1198765" + String.format("%04d", n % 10_000) + "\"}";
+    }
+
+    private void gravarResultado(Histogram latencias, double p99Ms, double vazao, double vazaoPorCpu,
+                                 double cpuMsPorRequisicao) throws IOException {
+        Path diretorio = diretorioResultado();
+        Files.createDirectories(diretorio);
+        try (PrintStream saida = new PrintStream(Files.newOutputStream(diretorio.resolve("latencias.hgrm")), false, StandardCharsets.UTF_8)) {
+            latencias.outputPercentileDistribution(saida, 1000.0); // Valores em milissegundos
+        }
+        Files.writeString(diretorio.resolve("resultado.properties"),
+                String.format(Locale.ROOT, "p99-ms=%.1f%nvazao=%.1f%nvazao-por-cpu=%.1f%ncpu-ms-por-requisicao=%.3f%n",
+                        p99Ms, vazao, vazaoPorCpu, cpuMsPorRequisicao));
+    }
+
+    private static long tempoCpuProcessoNanos() {
+        return ManagementFactory.getOperatingSystemMXBean() instanceof com.sun.management.OperatingSystemMXBean so
+                ? so.getProcessCpuTime()
+                : 0L;
+    }
+
+    private static Properties carregarBaseline() throws IOException {
+        Properties baseline = new Properties();
+        String caminho = System.getProperty("carga.baseline");
+        try (InputStream entrada = caminho != null
+                ? Files.newInputStream(Path.of(caminho))
+                : ClienteCargaTest.class.getResourceAsStream("/carga/baseline.properties")) {
+            assertNotNull(entrada, "Arquivo de baseline não encontrado");
+            baseline.load(entrada);
+        }
+        return baseline;
+    }
+
+    private static String parametro(Properties baseline, String nome) {
+        return System.getProperty("carga." + nome, baseline.getProperty(nome));
+    }
+
+    /**
+     * Resultado de uma execução: {@code concluidas} inclui as respostas de erro, e {@code erros} inclui também as
+     * requisições sem resposta.
+     */
+    private record Execucao(Histogram latencias, long concluidas, long sucessos, long erros, double segundos) {
+    }
+}
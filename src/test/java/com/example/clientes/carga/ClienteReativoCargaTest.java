@@ -0,0 +1,52 @@
+package com.example.clientes.carga;
+
+import com.example.clientes.config.ReativoConfig;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * O mesmo teste de carga do {@link ClienteCargaTest} contra a API reativa (perfil {@value ReativoConfig#PERFIL}),
+ * com os mesmos parâmetros e limites de referência. Os resultados são gravados em {@code target/carga/reativo}, para
+ * comparação da vazão por CPU e do tempo de CPU por requisição com os da API servlet ({@code target/carga}).
+ * <p>
+ * Como a API reativa não tem o endpoint de criação em lote, os clientes iniciais são cadastrados um a um.
+ */
+@ActiveProfiles(ReativoConfig.PERFIL)
+public class ClienteReativoCargaTest extends ClienteCargaTest {
+
+    private static final int CADASTROS_SIMULTANEOS = 50;
+
+    @Override
+    protected Path diretorioResultado() {
+        return super.diretorioResultado().resolve(ReativoConfig.PERFIL);
+    }
+
+    @Override
+    protected List<Long> semear(HttpClient http, int quantidade) throws IOException {
+        List<Long> ids = new ArrayList<>(quantidade);
+        for (int inicio = 0; inicio < quantidade; inicio += CADASTROS_SIMULTANEOS) {
+            List<CompletableFuture<HttpResponse<String>>> respostas = new ArrayList<>();
+            for (int i = inicio; i < Math.min(inicio + CADASTROS_SIMULTANEOS, quantidade); i++) {
+                respostas.add(http.sendAsync(requisicao("")
+                                .POST(HttpRequest.BodyPublishers.ofString(novoClienteJson())).build(),
+                        HttpResponse.BodyHandlers.ofString()));
+            }
+            for (CompletableFuture<HttpResponse<String>> futura : respostas) {
+                HttpResponse<String> resposta = futura.join();
+                assertEquals(200, resposta.statusCode(), resposta.body());
+                ids.add(objectMapper.readTree(resposta.body()).get("id").asLong());
+            }
+        }
+        return ids;
+    }
+}
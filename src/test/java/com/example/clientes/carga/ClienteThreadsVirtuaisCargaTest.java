@@ -0,0 +1,44 @@
+package com.example.clientes.carga;
+
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+/**
+ * Os mesmos testes de carga do {@link ClienteCargaTest} com o perfil Spring {@value #PERFIL}, com os mesmos
+ * parâmetros e limites de referência. Os resultados são gravados em {@code target/carga/virtual-threads}, para
+ * comparação com os das threads de plataforma ({@code target/carga}).
+ * <p>
+ * As threads virtuais dependem apenas da JVM que executa os testes, e não da versão do build: em Java 17 o perfil não
+ * teria efeito, e o teste é ignorado.
+ */
+@ActiveProfiles(ClienteThreadsVirtuaisCargaTest.PERFIL)
+@EnabledForJreRange(min = JRE.JAVA_21)
+public class ClienteThreadsVirtuaisCargaTest extends ClienteCargaTest {
+
+    static final String PERFIL = "virtual-threads";
+
+    @Autowired
+    private ServletWebServerApplicationContext contexto;
+
+    @Test
+    public void testTomcatUsaThreadsVirtuais() {
+        TomcatWebServer servidor = (TomcatWebServer) contexto.getWebServer();
+        assertInstanceOf(VirtualThreadExecutor.class,
+                servidor.getTomcat().getConnector().getProtocolHandler().getExecutor());
+    }
+
+    @Override
+    protected Path diretorioResultado() {
+        return super.diretorioResultado().resolve(PERFIL);
+    }
+}
@@ -0,0 +1,219 @@
+package com.example.clientes.carga;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Importa {@code carga.importacao.registros} clientes (padrão 1.000.000) em CSV por {@code POST /api/clientes/import}
+ * e os exporta de volta por {@code GET /api/clientes/export}, verificando que o heap não cresce com o tamanho do
+ * arquivo. O CSV é gerado durante o envio e a exportação é lida linha a linha, de modo que nenhum dos dois lados
+ * guarda o arquivo em memória; o banco H2 fica em arquivo ({@code target/carga/importacao}), para que os clientes
+ * gravados também não ocupem o heap.
+ * <p>
+ * O heap usado é medido após uma coleta a cada 100.000 registros. O teste falha se ele crescer mais que
+ * {@code carga.importacao.crescimento-heap-mb} (padrão 64 MB) em relação à primeira medição, em qualquer das duas
+ * operações. O resultado é registrado no log e gravado em {@code target/carga/importacao.properties}.
+ * <p>
+ * Executado apenas no perfil Maven {@code carga}.
+ */
+@Tag("carga")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.datasource.url=jdbc:h2:file:./target/carga/importacao;DB_CLOSE_ON_EXIT=FALSE;LAZY_QUERY_EXECUTION=1")
+@ActiveProfiles("test")
+public class ImportacaoExportacaoCargaTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImportacaoExportacaoCargaTest.class);
+
+    private static final String AUTORIZACAO = "Basic " + Base64.getEncoder()
+            .encodeToString("user:password".getBytes(StandardCharsets.UTF_8));
+
+    /** A cada quantos registros um registro com e-mail inválido é gerado. */
+    private static final int INTERVALO_INVALIDOS = 10_000;
+
+    /** A cada quantos registros o heap é medido. */
+    private static final int INTERVALO_MEDICAO = 100_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final MemoryMXBean memoria = ManagementFactory.getMemoryMXBean();
+
+    @LocalServerPort
+    private int porta;
+
+    @Test
+    public void testImportarEExportarComHeapConstante() throws Exception {
+        int registros = Integer.getInteger("carga.importacao.registros", 1_000_000);
+        long limiteCrescimento = Long.getLong("carga.importacao.crescimento-heap-mb", 64) * 1024 * 1024;
+        HttpClient http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+        // Importação: o relatório é lido à medida que chega, enquanto o arquivo ainda está sendo enviado
+        Medicao importacao = new Medicao(heapAposColeta());
+        HttpResponse<Stream<String>> resposta = http.send(HttpRequest.newBuilder(uri("/import"))
+                        .header("Authorization", AUTORIZACAO)
+                        .header("Content-Type", "text/csv")
+                        .POST(HttpRequest.BodyPublishers.ofInputStream(() -> new CsvGerado(registros)))
+                        .build(),
+                HttpResponse.BodyHandlers.ofLines());
+        assertEquals(200, resposta.statusCode());
+        JsonNode resultado = null;
+        long rejeicoes = 0;
+        for (Iterator<String> linhas = resposta.body().iterator(); linhas.hasNext(); ) {
+            JsonNode linha = objectMapper.readTree(linhas.next());
+            if (linha.has("linha")) {
+                rejeicoes++;
+            } else if (linha.get("concluido").asBoolean()) {
+                resultado = linha;
+            } else if (linha.get("processados").asLong() % INTERVALO_MEDICAO == 0) {
+                importacao.medir(heapAposColeta());
+            }
+        }
+        importacao.concluir();
+        int invalidos = registros / INTERVALO_INVALIDOS;
+        assertNotNull(resultado, "Relatório sem o andamento final");
+        assertEquals(registros, resultado.get("processados").asLong());
+        assertEquals(registros - invalidos, resultado.get("gravados").asLong());
+        assertEquals(invalidos, resultado.get("rejeitados").asLong());
+        assertEquals(invalidos, rejeicoes);
+
+        // Exportação: lida linha a linha, sem guardar o arquivo
+        Medicao exportacao = new Medicao(heapAposColeta());
+        HttpResponse<Stream<String>> exportado = http.send(HttpRequest.newBuilder(uri("/export"))
+                .header("Authorization", AUTORIZACAO)
+                .header("Accept", "text/csv")
+                .GET().build(), HttpResponse.BodyHandlers.ofLines());
+        assertEquals(200, exportado.statusCode());
+        long total = Long.parseLong(exportado.headers().firstValue("X-Total-Count").orElseThrow());
+        long linhasExportadas = 0;
+        for (Iterator<String> linhas = exportado.body().iterator(); linhas.hasNext(); linhas.next()) {
+            if (++linhasExportadas % INTERVALO_MEDICAO == 0) {
+                exportacao.medir(heapAposColeta());
+            }
+        }
+        exportacao.concluir();
+        assertEquals(registros - invalidos, total);
+        assertEquals(total + 1, linhasExportadas); // Cabeçalho e um cliente por linha
+
+        String relatorio = String.format("registros=%d%nimportacao.segundos=%.1f%nimportacao.registros-por-segundo=%.0f%n"
+                        + "importacao.crescimento-heap-mb=%.1f%nexportacao.segundos=%.1f%nexportacao.registros-por-segundo=%.0f%n"
+                        + "exportacao.crescimento-heap-mb=%.1f%n",
+                registros, importacao.segundos(), registros / importacao.segundos(), importacao.crescimentoMb(),
+                exportacao.segundos(), total / exportacao.segundos(), exportacao.crescimentoMb());
+        logger.info("Importação e exportação de {} clientes:\n{}", registros, relatorio);
+        Path diretorio = Path.of("target", "carga");
+        Files.createDirectories(diretorio);
+        Files.writeString(diretorio.resolve("importacao.properties"), relatorio);
+
+        assertTrue(importacao.crescimento() < limiteCrescimento,
+                String.format("O heap cresceu %.1f MB durante a importação", importacao.crescimentoMb()));
+        assertTrue(exportacao.crescimento() < limiteCrescimento,
+                String.format("O heap cresceu %.1f MB durante a exportação", exportacao.crescimentoMb()));
+    }
+
+    private URI uri(String caminho) {
+        return URI.create("http://localhost:" + porta + "/api/clientes" + caminho);
+    }
+
+    private long heapAposColeta() {
+        System.gc();
+        return memoria.getHeapMemoryUsage().getUsed();
+    }
+
+    /** Heap usado no início e maior crescimento observado em uma operação, e a sua duração. */
+    private static final class Medicao {
+        private final long inicio = System.nanoTime();
+        private final long heapInicial;
+        private long maiorCrescimento;
+        private long duracao;
+
+        Medicao(long heapInicial) {
+            this.heapInicial = heapInicial;
+        }
+
+        void medir(long heap) {
+            maiorCrescimento = Math.max(maiorCrescimento, heap - heapInicial);
+        }
+
+        void concluir() {
+            duracao = System.nanoTime() - inicio;
+        }
+
+        long crescimento() {
+            return maiorCrescimento;
+        }
+
+        double crescimentoMb() {
+            return maiorCrescimento / (1024.0 * 1024.0);
+        }
+
+        double segundos() {
+            return duracao / 1e9;
+        }
+    }
+
+    /**
+     * CSV gerado à medida que é lido, com um registro de e-mail inválido a cada {@link #INTERVALO_INVALIDOS}.
+     */
+    private static final class CsvGerado extends InputStream {
+        private final int registros;
+        private int proximo;
+        private byte[] atual = "nome,email,telefone\n".getBytes(StandardCharsets.UTF_8);
+        private int posicao;
+
+        CsvGerado(int registros) {
+            this.registros = registros;
+        }
+
+        @Override
+        public int read() {
+            if (posicao == atual.length && !avancar()) {
+                return -1;
+            }
+            return atual[posicao++] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] destino, int inicio, int tamanho) {
+            if (posicao == atual.length && !avancar()) {
+                return -1;
+            }
+            int copiados = Math.min(tamanho, atual.length - posicao);
+            System.arraycopy(atual, posicao, destino, inicio, copiados);
+            posicao += copiados;
+            return copiados;
+        }
+
+        private boolean avancar() {
+            if (proximo == registros) {
+                return false;
+            }
+            int i = proximo++;
+            String email = (i + 1) % INTERVALO_INVALIDOS == 0 ? "invalido" + i : "importado" + i + "@carga.com";
+            atual = ("\"Cliente Importado " + i + "\"," + email + ",119" + String.format("%08d", i) + "\n")
+                    .getBytes(StandardCharsets.UTF_8);
+            posicao = 0;
+            return true;
+        }
+    }
+}
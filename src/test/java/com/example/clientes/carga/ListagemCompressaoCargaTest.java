@@ -0,0 +1,132 @@
+package com.example.clientes.carga;
+
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compara o tamanho transferido e a latência da listagem completa de clientes ({@code /api/clientes/stream}, em
+ * NDJSON) com e sem compressão gzip, em HTTP/1.1 e em HTTP/2 sem TLS (h2c).
+ * <p>
+ * Cadastra {@code carga.clientes} clientes (padrão 10.000) e faz {@code carga.repeticoes} listagens completas
+ * (padrão 30) em cada combinação, após um aquecimento. Os bytes medidos são os do corpo recebido, antes da
+ * descompressão. O resultado é registrado no log e gravado em {@code target/carga/compressao.properties}.
+ * Como a aplicação roda na mesma máquina, a latência mede o custo de processamento da compressão, e não o
+ * ganho de transferência em uma rede real; esse ganho é proporcional à redução de bytes.
+ * <p>
+ * Executado apenas no perfil Maven {@code carga}.
+ */
+@Tag("carga")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+public class ListagemCompressaoCargaTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(ListagemCompressaoCargaTest.class);
+
+    private static final String AUTORIZACAO = "Basic " + Base64.getEncoder()
+            .encodeToString("user:password".getBytes(StandardCharsets.UTF_8));
+
+    @LocalServerPort
+    private int porta;
+
+    @Test
+    public void testCompararCompressaoEVersaoHttp() throws Exception {
+        int clientes = Integer.getInteger("carga.clientes", 10_000);
+        int repeticoes = Integer.getInteger("carga.repeticoes", 30);
+        semear(clientes);
+
+        StringBuilder resultado = new StringBuilder();
+        long bytesSemCompressao = 0;
+        long bytesComGzip = 0;
+        for (HttpClient.Version versao : HttpClient.Version.values()) {
+            HttpClient http = HttpClient.newBuilder().version(versao).connectTimeout(Duration.ofSeconds(5)).build();
+            for (boolean gzip : new boolean[]{false, true}) {
+                Medicao medicao = medir(http, gzip, repeticoes);
+                assertEquals(versao, medicao.versao(), "Versão do protocolo negociada");
+                String nome = (versao == HttpClient.Version.HTTP_2 ? "http2" : "http1") + (gzip ? "-gzip" : "");
+                logger.info("Listagem de {} clientes em {}: {} bytes, latência (ms) p50={} p99={}", clientes, nome,
+                        medicao.bytes(), medicao.latencias().getValueAtPercentile(50) / 1000.0,
+                        medicao.latencias().getValueAtPercentile(99) / 1000.0);
+                resultado.append(String.format("%s.bytes=%d%n%s.p50-ms=%.1f%n%s.p99-ms=%.1f%n", nome, medicao.bytes(),
+                        nome, medicao.latencias().getValueAtPercentile(50) / 1000.0,
+                        nome, medicao.latencias().getValueAtPercentile(99) / 1000.0));
+                if (gzip) {
+                    bytesComGzip = medicao.bytes();
+                } else {
+                    bytesSemCompressao = medicao.bytes();
+                }
+            }
+        }
+        Path diretorio = Path.of("target", "carga");
+        Files.createDirectories(diretorio);
+        Files.writeString(diretorio.resolve("compressao.properties"), resultado);
+
+        assertTrue(bytesComGzip * 4 < bytesSemCompressao,
+                String.format("gzip reduziu a listagem apenas de %d para %d bytes", bytesSemCompressao, bytesComGzip));
+    }
+
+    private Medicao medir(HttpClient http, boolean gzip, int repeticoes) throws IOException, InterruptedException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create("http://localhost:" + porta + "/api/clientes/stream"))
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", AUTORIZACAO);
+        if (gzip) {
+            builder.header("Accept-Encoding", "gzip");
+        }
+        HttpRequest requisicao = builder.GET().build();
+
+        for (int i = 0; i < 5; i++) { // Aquecimento
+            http.send(requisicao, HttpResponse.BodyHandlers.discarding());
+        }
+        Histogram latencias = new Histogram(3);
+        HttpResponse<byte[]> resposta = null;
+        for (int i = 0; i < repeticoes; i++) {
+            long inicio = System.nanoTime();
+            resposta = http.send(requisicao, HttpResponse.BodyHandlers.ofByteArray());
+            latencias.recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - inicio)));
+            assertEquals(200, resposta.statusCode());
+        }
+        assertEquals(gzip, resposta.headers().firstValue("Content-Encoding").isPresent());
+        return new Medicao(resposta.version(), resposta.body().length, latencias);
+    }
+
+    private void semear(int quantidade) throws IOException, InterruptedException {
+        HttpClient http = HttpClient.newHttpClient();
+        int tamanhoLote = 1000;
+        for (int inicio = 0; inicio < quantidade; inicio += tamanhoLote) {
+            StringBuilder corpo = new StringBuilder("[");
+            for (int i = inicio; i < Math.min(inicio + tamanhoLote, quantidade); i++) {
+                corpo.append(i > inicio ? "," : "").append("{\"nome\":\"Cliente Listagem ").append(i)
+                        .append("\",\"email\":\"listagem").append(i).append("@carga.com\",\"telefone\":\"11987654321\"}");
+            }
+            HttpResponse<String> resposta = http.send(HttpRequest.newBuilder(
+                            URI.create("http://localhost:" + porta + "/api/clientes/batch"))
+                    .header("Authorization", AUTORIZACAO)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(corpo.append(']').toString())).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            assertEquals(200, resposta.statusCode(), resposta.body());
+        }
+    }
+
+    private record Medicao(HttpClient.Version versao, long bytes, Histogram latencias) {
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.clientes.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class CacheCredenciaisAuthenticationProviderTest {
+
+    private AuthenticationProvider delegado;
+    private CacheCredenciaisAuthenticationProvider provider;
+
+    @BeforeEach
+    public void setup() {
+        delegado = mock(AuthenticationProvider.class);
+        when(delegado.authenticate(any())).thenAnswer(invocacao -> {
+            Authentication tentativa = invocacao.getArgument(0);
+            if (!"password".equals(tentativa.getCredentials())) {
+                throw new BadCredentialsException("Credenciais inválidas");
+            }
+            return UsernamePasswordAuthenticationToken.authenticated(tentativa.getName(), null,
+                    AuthorityUtils.createAuthorityList("ROLE_USER"));
+        });
+        provider = new CacheCredenciaisAuthenticationProvider(delegado, Duration.ofMinutes(1), 100);
+    }
+
+    @Test
+    public void testCredencialVerificadaUmaVez() {
+        Authentication primeira = provider.authenticate(tentativa("user", "password", "10.0.0.1"));
+        Authentication segunda = provider.authenticate(tentativa("user", "password", "10.0.0.2"));
+
+        assertTrue(primeira.isAuthenticated());
+        assertTrue(segunda.isAuthenticated());
+        assertEquals("user", segunda.getName());
+        assertEquals(primeira.getAuthorities(), segunda.getAuthorities());
+        assertEquals("10.0.0.2", segunda.getDetails());
+        assertNull(segunda.getCredentials());
+        verify(delegado, times(1)).authenticate(any());
+    }
+
+    @Test
+    public void testSenhaErradaNaoUsaCache() {
+        provider.authenticate(tentativa("user", "password", null));
+
+        assertThrows(BadCredentialsException.class, () -> provider.authenticate(tentativa("user", "errada", null)));
+        assertThrows(BadCredentialsException.class, () -> provider.authenticate(tentativa("user", "errada", null)));
+        verify(delegado, times(3)).authenticate(any());
+    }
+
+    @Test
+    public void testUsuarioESenhaFazemParteDaChave() {
+        provider.authenticate(tentativa("user", "password", null));
+        provider.authenticate(tentativa("outro", "password", null));
+
+        verify(delegado, times(2)).authenticate(any());
+    }
+
+    private static Authentication tentativa(String usuario, String senha, Object detalhes) {
+        UsernamePasswordAuthenticationToken token = UsernamePasswordAuthenticationToken.unauthenticated(usuario, senha);
+        token.setDetails(detalhes);
+        return token;
+    }
+}
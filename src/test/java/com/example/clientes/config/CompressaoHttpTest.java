@@ -0,0 +1,153 @@
+package com.example.clientes.config;
+
+import com.example.clientes.model.Cliente;
+import com.example.clientes.service.ClienteLoteService;
+import com.example.clientes.service.ClienteService;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Verifica, com o Tomcat embarcado, a compressão gzip das respostas e o HTTP/2 sem TLS (h2c)
+ * configurados em {@code application.properties} e {@link Http2Config}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+public class CompressaoHttpTest {
+
+    private static final String AUTORIZACAO = "Basic " + Base64.getEncoder()
+            .encodeToString("user:password".getBytes(StandardCharsets.UTF_8));
+
+    @LocalServerPort
+    private int porta;
+
+    @MockitoBean
+    private ClienteService clienteService;
+
+    @MockitoBean
+    private ClienteLoteService clienteLoteService;
+
+    @Test
+    public void testListaGrandeComprimidaEmHttp2() throws Exception {
+        List<Cliente> clientes = new ArrayList<>();
+        for (long id = 1; id <= 200; id++) {
+            Cliente cliente = new Cliente("Cliente " + id, "cliente" + id + "@exemplo.com", "(11) 98765-4321");
+            cliente.setId(id);
+            clientes.add(cliente);
+        }
+        when(clienteService.listarClientes(null, null)).thenReturn(clientes);
+
+        HttpResponse<byte[]> resposta = enviar("/api/clientes", HttpClient.Version.HTTP_2);
+
+        assertEquals(200, resposta.statusCode());
+        assertEquals(HttpClient.Version.HTTP_2, resposta.version());
+        assertEquals(Optional.of("gzip"), resposta.headers().firstValue("Content-Encoding"));
+        String json = descomprimir(resposta.body());
+        assertTrue(json.contains("\"cliente200@exemplo.com\""));
+        assertTrue(resposta.body().length * 4 < json.length(), "Compressão abaixo do esperado para uma lista repetitiva");
+    }
+
+    @Test
+    public void testExportacaoEmCsvComprimida() throws Exception {
+        when(clienteService.contarClientes()).thenReturn(200L);
+        when(clienteService.percorrerClientes(any())).thenAnswer(invocacao -> {
+            Consumer<Cliente> consumidor = invocacao.getArgument(0);
+            for (long id = 1; id <= 200; id++) {
+                Cliente cliente = new Cliente("Cliente " + id, "cliente" + id + "@exemplo.com", "(11) 98765-4321");
+                cliente.setId(id);
+                consumidor.accept(cliente);
+            }
+            return 200L;
+        });
+
+        HttpResponse<byte[]> resposta = enviar("/api/clientes/export", HttpClient.Version.HTTP_1_1, "text/csv");
+
+        assertEquals(200, resposta.statusCode());
+        assertTrue(resposta.headers().firstValue("Content-Type").orElseThrow().startsWith("text/csv"));
+        assertEquals(Optional.of("gzip"), resposta.headers().firstValue("Content-Encoding"));
+        String csv = descomprimir(resposta.body());
+        assertTrue(csv.contains(",cliente200@exemplo.com,"));
+        assertTrue(resposta.body().length * 4 < csv.length(), "Compressão abaixo do esperado para um CSV repetitivo");
+    }
+
+    @Test
+    public void testRespostaPequenaNaoComprimida() throws Exception {
+        Cliente cliente = new Cliente("João", "joao@exemplo.com", "(11) 98765-4321");
+        cliente.setId(1L);
+        cliente.setVersao(0L);
+        when(clienteService.buscarClientePorId(1L)).thenReturn(Optional.of(cliente));
+
+        HttpResponse<byte[]> resposta = enviar("/api/clientes/1", HttpClient.Version.HTTP_1_1);
+
+        assertEquals(200, resposta.statusCode());
+        assertTrue(resposta.headers().firstValue("Content-Encoding").isEmpty());
+        assertEquals(Optional.of("\"0\""), resposta.headers().firstValue("ETag")); // ETag forte preservado
+    }
+
+    @Test
+    public void testCorpoGrandeComPedidoDeTrocaParaHttp2() throws Exception {
+        when(clienteLoteService.criarClientes(anyList())).thenReturn(List.of());
+        StringBuilder corpo = new StringBuilder("[");
+        for (int i = 0; i < 500; i++) {
+            corpo.append(i > 0 ? "," : "").append("{\"nome\":\"Cliente ").append(i)
+                    .append("\",\"email\":\"cliente").append(i).append("@exemplo.com\",\"telefone\":\"11987654321\"}");
+        }
+        HttpClient http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_2).build();
+
+        // O cliente pede a troca para h2c no POST; a requisição deve seguir em HTTP/1.1, sem perder o corpo
+        HttpResponse<String> resposta = http.send(HttpRequest.newBuilder(
+                        URI.create("http://localhost:" + porta + "/api/clientes/batch"))
+                .header("Authorization", AUTORIZACAO)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(corpo.append(']').toString())).build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(200, resposta.statusCode(), resposta.body());
+        assertEquals(HttpClient.Version.HTTP_1_1, resposta.version());
+        verify(clienteLoteService).criarClientes(argThat(clientes -> clientes.size() == 500));
+    }
+
+    private HttpResponse<byte[]> enviar(String caminho, HttpClient.Version versao) throws IOException, InterruptedException {
+        return enviar(caminho, versao, "*/*");
+    }
+
+    private HttpResponse<byte[]> enviar(String caminho, HttpClient.Version versao, String accept)
+            throws IOException, InterruptedException {
+        HttpClient http = HttpClient.newBuilder().version(versao).build();
+        HttpRequest requisicao = HttpRequest.newBuilder(URI.create("http://localhost:" + porta + caminho))
+                .header("Authorization", AUTORIZACAO)
+                .header("Accept", accept)
+                .header("Accept-Encoding", "gzip")
+                .GET().build();
+        return http.send(requisicao, HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private static String descomprimir(byte[] corpo) throws IOException {
+        try (GZIPInputStream entrada = new GZIPInputStream(new ByteArrayInputStream(corpo))) {
+            return new String(entrada.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
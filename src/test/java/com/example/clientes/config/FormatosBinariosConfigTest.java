@@ -0,0 +1,103 @@
+package com.example.clientes.config;
+
+import com.example.clientes.model.Cliente;
+import com.example.clientes.service.ClienteService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(username = "user", roles = "USER")
+public class FormatosBinariosConfigTest {
+
+    private static final MediaType SMILE = MediaType.valueOf("application/x-jackson-smile");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ClienteService clienteService;
+
+    private final ObjectMapper cbor = new ObjectMapper(new CBORFactory());
+
+    private final ObjectMapper smile = new ObjectMapper(new SmileFactory());
+
+    @Test
+    public void testListaEmCbor() throws Exception {
+        when(clienteService.listarClientes(null, null)).thenReturn(List.of(novoCliente()));
+
+        byte[] corpo = mockMvc.perform(get("/api/clientes").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode lista = cbor.readTree(corpo);
+        assertEquals(1, lista.size());
+        assertEquals("João", lista.get(0).get("nome").asText());
+        assertEquals("2026-01-01T12:00:00Z", lista.get(0).get("criadoEm").asText()); // Mesma configuração do JSON
+    }
+
+    @Test
+    public void testClienteEmSmile() throws Exception {
+        when(clienteService.buscarClientePorId(1L)).thenReturn(Optional.of(novoCliente()));
+
+        byte[] corpo = mockMvc.perform(get("/api/clientes/1").accept(SMILE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(SMILE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertEquals("joao@example.com", smile.readTree(corpo).get("email").asText());
+    }
+
+    @Test
+    public void testJsonContinuaPadrao() throws Exception {
+        when(clienteService.buscarClientePorId(1L)).thenReturn(Optional.of(novoCliente()));
+
+        mockMvc.perform(get("/api/clientes/1"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.nome").value("João"));
+    }
+
+    @Test
+    public void testCriarClienteComCorpoEmCbor() throws Exception {
+        when(clienteService.criarCliente(any(Cliente.class))).thenAnswer(invocacao -> invocacao.getArgument(0));
+        byte[] corpo = cbor.writeValueAsBytes(new Cliente("Maria", "maria@example.com", "11987654321"));
+
+        mockMvc.perform(post("/api/clientes").contentType(MediaType.APPLICATION_CBOR).content(corpo)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nome").value("Maria"));
+    }
+
+    private static Cliente novoCliente() {
+        Cliente cliente = new Cliente("João", "joao@example.com", "(12) 3456-7899");
+        cliente.setId(1L);
+        cliente.setVersao(0L);
+        cliente.setCriadoEm(Instant.parse("2026-01-01T12:00:00Z"));
+        return cliente;
+    }
+}
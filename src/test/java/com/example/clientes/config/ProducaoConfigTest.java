@@ -0,0 +1,39 @@
+package com.example.clientes.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ProducaoConfigTest {
+
+    @Test
+    public void testCredenciaisInformadas() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("CLIENTES_DB_USUARIO", "clientes")
+                .withProperty("spring.datasource.username", "${CLIENTES_DB_USUARIO}")
+                .withProperty("spring.datasource.password", "segredo");
+
+        assertDoesNotThrow(() -> ProducaoConfig.validarCredenciais(environment));
+    }
+
+    @Test
+    public void testPlaceholderSemValor() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("spring.datasource.username", "clientes")
+                .withProperty("spring.datasource.password", "${CLIENTES_DB_SENHA}");
+
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> ProducaoConfig.validarCredenciais(environment));
+        assertTrue(e.getMessage().contains("spring.datasource.password"));
+    }
+
+    @Test
+    public void testCredencialVazia() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("spring.datasource.username", " ")
+                .withProperty("spring.datasource.password", "segredo");
+
+        assertThrows(IllegalStateException.class, () -> ProducaoConfig.validarCredenciais(environment));
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.clientes.config;
+
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+public class ReativoConfigTest {
+
+    private final ReativoConfig.H2TransactionManager transactionManager =
+            new ReativoConfig.H2TransactionManager(mock(ConnectionFactory.class));
+
+    @Test
+    public void testTransacaoDeEscritaNaoEnviaReadOnly() {
+        DefaultTransactionDefinition definicao = new DefaultTransactionDefinition();
+        definicao.setName("alterarCliente");
+
+        io.r2dbc.spi.TransactionDefinition enviada = transactionManager.createTransactionDefinition(definicao);
+
+        assertNull(enviada.getAttribute(io.r2dbc.spi.TransactionDefinition.READ_ONLY));
+        assertEquals("alterarCliente", enviada.getAttribute(io.r2dbc.spi.TransactionDefinition.NAME));
+    }
+
+    @Test
+    public void testTransacaoSomenteLeituraEnviaReadOnly() {
+        DefaultTransactionDefinition definicao = new DefaultTransactionDefinition();
+        definicao.setReadOnly(true);
+
+        io.r2dbc.spi.TransactionDefinition enviada = transactionManager.createTransactionDefinition(definicao);
+
+        assertEquals(Boolean.TRUE, enviada.getAttribute(io.r2dbc.spi.TransactionDefinition.READ_ONLY));
+    }
+}
@@ -1,40 +1,74 @@
 package com.example.clientes.controller;
 
+import com.example.clientes.exception.ClienteVersaoDivergenteException;
+import com.example.clientes.exception.GlobalExceptionHandler;
+import com.example.clientes.exception.Problemas;
 import com.example.clientes.model.Cliente;
+import com.example.clientes.model.EventoCliente;
+import com.example.clientes.model.ProgressoImportacao;
+import com.example.clientes.model.RejeicaoImportacao;
+import com.example.clientes.model.ResultadoBuscaPorIds;
+import com.example.clientes.model.ResultadoItemLote;
+import com.example.clientes.service.ClienteEventoService;
+import com.example.clientes.service.ClienteLoteService;
 import com.example.clientes.service.ClienteService;
+import com.example.clientes.utils.LeitorImportacao;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.test.util.ReflectionTestUtils;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public class ClienteControllerTest {
 
     @Mock
     private ClienteService clienteService;
 
+    @Mock
+    private ClienteLoteService clienteLoteService;
+
+    @Mock
+    private ClienteEventoService clienteEventoService;
+
     @InjectMocks
     private ClienteController clienteController;
 
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
     private MockMvc mockMvc;
-    private ObjectMapper objectMapper;
 
     @BeforeEach
     public void setUp() {
         MockitoAnnotations.openMocks(this);
-        mockMvc = MockMvcBuilders.standaloneSetup(clienteController).build();
-        objectMapper = new ObjectMapper();
+        mockMvc = MockMvcBuilders.standaloneSetup(clienteController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
     }
 
     // Teste do método POST
@@ -56,21 +90,24 @@ public class ClienteControllerTest {
         verify(clienteService, times(1)).criarCliente(any(Cliente.class));
     }
 
-    // Teste do método GET (todos os clientes)
+    // Teste do método GET sem parâmetros (primeira página)
     @Test
     @WithMockUser(username = "user", roles = "USER")
     public void testListarClientes_ComClientes() throws Exception {
         Cliente cliente1 = new Cliente("João", "joao@exemplo.com", "123456789");
+        cliente1.setId(1L);
         Cliente cliente2 = new Cliente("Maria", "maria@exemplo.com", "987654321");
-        when(clienteService.listarClientes()).thenReturn(Arrays.asList(cliente1, cliente2));
+        cliente2.setId(2L);
+        when(clienteService.listarClientes(null, null)).thenReturn(Arrays.asList(cliente1, cliente2));
 
         mockMvc.perform(get("/api/clientes"))
                 .andDo(print())  // Adiciona a impressão da resposta no console para depuração
                 .andExpect(status().isOk())
+                .andExpect(header().string(ClienteController.CABECALHO_PROXIMO_CURSOR, "2"))
                 .andExpect(jsonPath("$[0].nome").value("João"))
                 .andExpect(jsonPath("$[1].nome").value("Maria"));
 
-        verify(clienteService, times(1)).listarClientes();
+        verify(clienteService, times(1)).listarClientes(null, null);
     }
 
     // Teste do método GET (todos os clientes - sem clientes)
@@ -124,6 +161,135 @@ public class ClienteControllerTest {
         verify(clienteService, times(1)).buscarClientePorId(1L);
     }
 
+    // Teste do ETag e do If-None-Match no GET por ID
+    @Test
+    @WithMockUser(username = "user", roles = "USER")
+    public void testBuscarClientePorIdNaoModificado() throws Exception {
+        Cliente cliente = new Cliente("João", "joao@exemplo.com", "123456789");
+        cliente.setId(1L);
+        cliente.setVersao(3L);
+        when(clienteService.buscarClientePorId(1L)).thenReturn(Optional.of(cliente));
+
+        mockMvc.perform(get("/api/clientes/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"3\""))
+                .andExpect(jsonPath("$.versao").doesNotExist());
+
+        mockMvc.perform(get("/api/clientes/1").header("If-None-Match", "\"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"3\""))
+                .andExpect(content().string(""));
+
+        mockMvc.perform(get("/api/clientes/1").header("If-None-Match", "\"2\""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nome").value("João"));
+    }
+
+    // Teste do PUT condicional (If-Match)
+    @Test
+    @WithMockUser(username = "user", roles = "USER")
+    public void testAlterarClienteComIfMatch() throws Exception {
+        Cliente clienteAlterado = new Cliente("João Silva", "joao.silva@exemplo.com", "987654321");
+        clienteAlterado.setId(1L);
+        clienteAlterado.setVersao(4L);
+        when(clienteService.alterarCliente(eq(1L), any(Cliente.class), eq(3L))).thenReturn(clienteAlterado);
+
+        mockMvc.perform(put("/api/clientes/1")
+                        .header("If-Match", "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(clienteAlterado)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"4\""));
+
+        verify(clienteService, never()).alterarCliente(anyLong(), any(Cliente.class));
+    }
+
+    // Teste do GET de um ID inexistente: 404 no formato Problem Details
+    @Test
+    @WithMockUser(username = "user", roles = "USER")
+    public void testBuscarClientePorIdInexistente() throws Exception {
+        when(clienteService.buscarClientePorId(99L)).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/clientes/99"))
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON))
+                .andExpect(jsonPath("$.type").value(Problemas.TIPO_CLIENTE_NAO_ENCONTRADO.toString()))
+                .andExpect(jsonPath("$.title").value("Cliente não encontrado"))
+                .andExpect(jsonPath("$.status").value(404))
+                .andExpect(jsonPath("$.detail").value("Cliente com ID 99 não encontrado."))
+                .andExpect(jsonPath("$.instance").value("/api/clientes/99"));
+    }
+
+    // Teste de erro inesperado: 500 sem expor a mensagem da exceção
+    @Test
+    @WithMockUser(username = "user", roles = "USER")
+    public void testErroInternoNaoExpoeMensagem() throws Exception {
+        when(clienteService.buscarClientePorId(1L)).thenThrow(new DataAccessResourceFailureException("senha=segredo"));
+
+        mockMvc.perform(get("/api/clientes/1"))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.title").value("Erro interno no servidor"))
+                .andExpect(jsonPath("$.detail").value("Erro inesperado ao processar a requisição."));
+    }
+
+    // Teste de corpo ilegível: 400 tratado pelo Spring MVC, e não 500
+    @Test
+    @WithMockUser(username = "user", roles = "USER")
+    public void testCriarClienteComCorpoIlegivel() throws Exception {
+        mockMvc.perform(post("/api/clientes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"nome\":"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON))
+                .andExpect(jsonPath("$.status").value(400));
+        verifyNoInteractions(clienteService);
+    }
+
+    // Teste do PUT condicional com versão desatualizada ou ETag inválido
+    @Test
+    @WithMockUser(username = "user", roles = "USER")
+    public void testAlterarClienteComIfMatchDivergente() throws Exception {
+        Cliente cliente = new Cliente("João Silva", "joao.silva@exemplo.com", "987654321");
+        when(clienteService.alterarCliente(eq(1L), any(Cliente.class), eq(2L)))
+                .thenThrow(new ClienteVersaoDivergenteException("O cliente com ID 1 foi alterado por outra requisição."));
+
+        mockMvc.perform(put("/api/clientes/1")
+                        .header("If-Match", "\"2\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(cliente)))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON))
+                .andExpect(jsonPath("$.type").value(Problemas.TIPO_VERSAO_DIVERGENTE.toString()))
+                .andExpect(jsonPath("$.detail").value("O cliente com ID 1 foi alterado por outra requisição."));
+
+        mockMvc.perform(put("/api/clientes/1")
+                        .header("If-Match", "W/\"2\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(cliente)))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    // Teste do método PATCH (alteração parcial)
+    @Test
+    @WithMockUser(username = "user", roles = "USER")
+    public void testAlterarClienteParcialmente() throws Exception {
+        Cliente clienteAlterado = new Cliente("João", "joao@exemplo.com", "(11) 98765-4321");
+        clienteAlterado.setId(1L);
+        clienteAlterado.setVersao(6L);
+        when(clienteService.alterarClienteParcialmente(eq(1L), any(Cliente.class), eq(5L))).thenReturn(clienteAlterado);
+
+        mockMvc.perform(patch("/api/clientes/1")
+                        .header("If-Match", "\"5\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"telefone\":\"11987654321\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"6\""))
+                .andExpect(jsonPath("$.telefone").value("(11) 98765-4321"));
+
+        verify(clienteService).alterarClienteParcialmente(eq(1L), argThat(c -> c.getNome() == null && c.getEmail() == null
+                && "11987654321".equals(c.getTelefone())), eq(5L));
+    }
+
     // Teste do método PUT (alterar cliente)
     @Test
     @WithMockUser(username = "user", roles = "USER")
@@ -138,7 +304,7 @@ public class ClienteControllerTest {
         when(clienteService.criarCliente(any(Cliente.class))).thenReturn(cliente);
 
         // Simula a alteração do cliente
-        when(clienteService.alterarCliente(1L, clienteAlterado)).thenReturn(clienteAlterado);
+        when(clienteService.alterarCliente(eq(1L), any(Cliente.class))).thenReturn(clienteAlterado);
 
         // Criação do cliente via POST
         mockMvc.perform(post("/api/clientes")
@@ -162,7 +328,358 @@ public class ClienteControllerTest {
 
         // Verifica as interações com o serviço
         verify(clienteService, times(1)).criarCliente(any(Cliente.class));
-        verify(clienteService, times(1)).alterarCliente(1L, clienteAlterado);
+        verify(clienteService, times(1)).alterarCliente(eq(1L), any(Cliente.class));
+    }
+
+    // Teste das mudanças de clientes (outbox)
+    @Test
+    @WithMockUser(username = "user", roles = "USER")
+    public void testListarMudancas() throws Exception {
+        Cliente cliente = new Cliente("João", "joao@exemplo.com", "(12) 3456-7890");
+        cliente.setId(1L);
+        cliente.setVersao(0L);
+        EventoCliente criacao = EventoCliente.de(EventoCliente.Tipo.CRIADO, cliente);
+        ReflectionTestUtils.setField(criacao, "sequencia", 7L);
+        EventoCliente exclusao = new EventoCliente(EventoCliente.Tipo.EXCLUIDO, 2L, Instant.now());
+        ReflectionTestUtils.setField(exclusao, "sequencia", 8L);
+        when(clienteEventoService.listarEventos(6L, 2)).thenReturn(List.of(criacao, exclusao));
+        when(clienteEventoService.listarEventos(8L, null)).thenReturn(List.of());
+
+        mockMvc.perform(get("/api/clientes/changes").param("since", "6").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(ClienteController.CABECALHO_PROXIMA_SEQUENCIA, "8"))
+                .andExpect(jsonPath("$[0].sequencia").value(7))
+                .andExpect(jsonPath("$[0].tipo").value("CRIADO"))
+                .andExpect(jsonPath("$[0].email").value("joao@exemplo.com"))
+                .andExpect(jsonPath("$[1].tipo").value("EXCLUIDO"))
+                .andExpect(jsonPath("$[1].clienteId").value(2))
+                .andExpect(jsonPath("$[1].nome").doesNotExist());
+
+        mockMvc.perform(get("/api/clientes/changes").param("since", "8"))
+                .andExpect(status().isNoContent());
+    }
+
+    // Teste do método GET paginado por keyset
+    @Test
+    @WithMockUser(username = "user", roles = "USER")
+    public void testListarClientesPaginado() throws Exception {
+        Cliente cliente1 = new Cliente("João", "joao@exemplo.com", "123456789");
+        cliente1.setId(11L);
+        Cliente cliente2 = new Cliente("Maria", "maria@exemplo.com", "987654321");
+        cliente2.setId(12L);
+        when(clienteService.listarClientes(10L, 2)).thenReturn(Arrays.asList(cliente1, cliente2));
+
+        mockMvc.perform(get("/api/clientes").param("afterId", "10").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(ClienteController.CABECALHO_PROXIMO_CURSOR, "12"))
+                .andExpect(jsonPath("$[0].id").value(11))
+                .andExpect(jsonPath("$[1].id").value(12));
+
+        verify(clienteService, times(1)).listarClientes(10L, 2);
+    }
+
+    // Teste do método GET paginado sem mais resultados
+    @Test
+    @WithMockUser(username = "user", roles = "USER")
+    public void testListarClientesPaginado_SemMaisClientes() throws Exception {
+        when(clienteService.listarClientes(12L, null)).thenReturn(Collections.emptyList());
+
+        mockMvc.perform(get("/api/clientes").param("afterId", "12"))
+                .andExpect(status().isNoContent())
+                .andExpect(header().doesNotExist(ClienteController.CABECALHO_PROXIMO_CURSOR));
+    }
+
+    // Teste do método POST de busca por vários IDs
+    @Test
+    @WithMockUser(username = "user", roles = "USER")
+    public void testBuscarClientesPorIds() throws Exception {
+        Cliente cliente1 = new Cliente("João", "joao@exemplo.com", "123456789");
+        cliente1.setId(1L);
+        when(clienteService.buscarClientesPorIds(List.of(1L, 2L)))
+                .thenReturn(new ResultadoBuscaPorIds(List.of(cliente1), List.of(2L)));
+
+        mockMvc.perform(post("/api/clientes/lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[1, 2]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.clientes[0].id").value(1))
+                .andExpect(jsonPath("$.naoEncontrados[0]").value(2));
+    }
+
+    // Teste do método POST de busca por vários IDs acima do limite
+    @Test
+    @WithMockUser(username = "user", roles = "USER")
+    public void testBuscarClientesPorIds_AcimaDoLimite() throws Exception {
+        when(clienteService.buscarClientesPorIds(anyList()))
+                .thenThrow(new IllegalArgumentException("A busca deve conter no máximo 1000 IDs."));
+
+        mockMvc.perform(post("/api/clientes/lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[1, 2]"))
+                .andExpect(status().isBadRequest());
+    }
+
+    // Teste do método GET de sincronização por data de alteração
+    @Test
+    @WithMockUser(username = "user", roles = "USER")
+    public void testListarClientesModificados() throws Exception {
+        Instant desde = Instant.parse("2026-01-01T10:00:00Z");
+        Cliente cliente1 = new Cliente("João", "joao@exemplo.com", "123456789");
+        cliente1.setId(11L);
+        cliente1.setAtualizadoEm(desde);
+        Cliente cliente2 = new Cliente("Maria", "maria@exemplo.com", "987654321");
+        cliente2.setId(5L);
+        cliente2.setAtualizadoEm(Instant.parse("2026-01-01T10:00:01.123456Z"));
+        when(clienteService.listarClientesModificados(desde, 10L, 2)).thenReturn(Arrays.asList(cliente1, cliente2));
+
+        mockMvc.perform(get("/api/clientes").param("modifiedSince", "2026-01-01T10:00:00Z")
+                        .param("afterId", "10").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(ClienteController.CABECALHO_PROXIMA_DATA, "2026-01-01T10:00:01.123456Z"))
+                .andExpect(header().string(ClienteController.CABECALHO_PROXIMO_CURSOR, "5"))
+                .andExpect(jsonPath("$[0].id").value(11))
+                .andExpect(jsonPath("$[1].id").value(5));
+
+        verify(clienteService, never()).listarClientes(any(), any());
+    }
+
+    // Teste do método GET de sincronização sem alterações novas
+    @Test
+    @WithMockUser(username = "user", roles = "USER")
+    public void testListarClientesModificados_SemAlteracoes() throws Exception {
+        Instant desde = Instant.parse("2026-01-01T10:00:00Z");
+        when(clienteService.listarClientesModificados(desde, null, null)).thenReturn(Collections.emptyList());
+
+        mockMvc.perform(get("/api/clientes").param("modifiedSince", "2026-01-01T10:00:00Z"))
+                .andExpect(status().isNoContent())
+                .andExpect(header().doesNotExist(ClienteController.CABECALHO_PROXIMA_DATA));
+    }
+
+    // Teste do método GET em streaming NDJSON
+    @Test
+    @WithMockUser(username = "user", roles = "USER")
+    @SuppressWarnings("unchecked")
+    public void testTransmitirClientes() throws Exception {
+        Cliente cliente1 = new Cliente("João", "joao@exemplo.com", "123456789");
+        Cliente cliente2 = new Cliente("Maria", "maria@exemplo.com", "987654321");
+        when(clienteService.percorrerClientes(any())).thenAnswer(invocacao -> {
+            Consumer<Cliente> consumidor = invocacao.getArgument(0);
+            consumidor.accept(cliente1);
+            consumidor.accept(cliente2);
+            return 2L;
+        });
+
+        MvcResult resultado = mockMvc.perform(get("/api/clientes/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String corpo = mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        String[] linhas = corpo.split("\n");
+        assertEquals(2, linhas.length);
+        assertEquals("João", objectMapper.readValue(linhas[0], Cliente.class).getNome());
+        assertEquals("Maria", objectMapper.readValue(linhas[1], Cliente.class).getNome());
+    }
+
+    // Teste da exportação em CSV
+    @Test
+    @WithMockUser(username = "user", roles = "USER")
+    public void testExportarClientesEmCsv() throws Exception {
+        Cliente cliente1 = new Cliente("Silva, João \"Jota\"", "joao@exemplo.com", "(12) 3456-7891");
+        cliente1.setId(1L);
+        Cliente cliente2 = new Cliente("=HIPERLINK(\"http://exemplo.com\")", "maria@exemplo.com", "(98) 7654-3210");
+        cliente2.setId(2L);
+        when(clienteService.contarClientes()).thenReturn(2L);
+        when(clienteService.percorrerClientes(any())).thenAnswer(invocacao -> {
+            Consumer<Cliente> consumidor = invocacao.getArgument(0);
+            consumidor.accept(cliente1);
+            consumidor.accept(cliente2);
+            return 2L;
+        });
+
+        MvcResult resultado = mockMvc.perform(get("/api/clientes/export").accept(ClienteController.TEXT_CSV))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String corpo = mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv;charset=UTF-8"))
+                .andExpect(header().string(ClienteController.CABECALHO_TOTAL, "2"))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        assertEquals("id,nome,email,telefone,criadoEm,atualizadoEm\n"
+                + "1,\"Silva, João \"\"Jota\"\"\",joao@exemplo.com,(12) 3456-7891,,\n"
+                + "2,\"'=HIPERLINK(\"\"http://exemplo.com\"\")\",maria@exemplo.com,(98) 7654-3210,,\n", corpo);
+
+        // O CSV exportado pode ser importado de volta
+        List<LeitorImportacao.Item> itens = new ArrayList<>();
+        LeitorImportacao.csv(new ByteArrayInputStream(corpo.getBytes(StandardCharsets.UTF_8)))
+                .forEachRemaining(itens::add);
+        assertEquals(cliente1.getNome(), itens.get(0).cliente().getNome());
+        assertEquals(cliente2.getNome(), itens.get(1).cliente().getNome()); // Sem o prefixo contra fórmulas
+    }
+
+    // Teste da exportação em NDJSON, o formato padrão
+    @Test
+    @WithMockUser(username = "user", roles = "USER")
+    public void testExportarClientesEmNdjson() throws Exception {
+        when(clienteService.contarClientes()).thenReturn(1L);
+        when(clienteService.percorrerClientes(any())).thenAnswer(invocacao -> {
+            Consumer<Cliente> consumidor = invocacao.getArgument(0);
+            consumidor.accept(new Cliente("João", "joao@exemplo.com", "(12) 3456-7891"));
+            return 1L;
+        });
+
+        MvcResult resultado = mockMvc.perform(get("/api/clientes/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String corpo = mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        assertEquals("João", objectMapper.readValue(corpo.trim(), Cliente.class).getNome());
+    }
+
+    // Teste da importação em CSV, com o relatório transmitido em NDJSON
+    @Test
+    @WithMockUser(username = "user", roles = "USER")
+    @SuppressWarnings("unchecked")
+    public void testImportarClientesEmCsv() throws Exception {
+        when(clienteLoteService.importarClientes(any(), any(), any())).thenAnswer(invocacao -> {
+            Iterator<LeitorImportacao.Item> registros = invocacao.getArgument(0);
+            Consumer<RejeicaoImportacao> aoRejeitar = invocacao.getArgument(1);
+            Consumer<ProgressoImportacao> aoProgredir = invocacao.getArgument(2);
+            LeitorImportacao.Item joao = registros.next();
+            assertEquals("João", joao.cliente().getNome());
+            LeitorImportacao.Item invalido = registros.next();
+            aoRejeitar.accept(new RejeicaoImportacao(invalido.linha(), ResultadoItemLote.Status.INVALIDO, "Formato de e-mail inválido."));
+            aoProgredir.accept(new ProgressoImportacao(2, 1, 1, false));
+            assertFalse(registros.hasNext());
+            return new ProgressoImportacao(2, 1, 1, true);
+        });
+
+        MvcResult resultado = mockMvc.perform(post("/api/clientes/import")
+                        .contentType(ClienteController.TEXT_CSV)
+                        .content("nome,email,telefone\nJoão,joao@exemplo.com,1234567891\nMaria,invalido,1234567891\n"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String[] linhas = mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8).split("\n");
+
+        assertEquals(3, linhas.length);
+        assertEquals("{\"linha\":3,\"status\":\"INVALIDO\",\"mensagem\":\"Formato de e-mail inválido.\"}", linhas[0]);
+        assertEquals("{\"processados\":2,\"gravados\":1,\"rejeitados\":1,\"concluido\":false}", linhas[1]);
+        assertEquals("{\"processados\":2,\"gravados\":1,\"rejeitados\":1,\"concluido\":true}", linhas[2]);
+    }
+
+    // Teste da importação de CSV sem as colunas obrigatórias
+    @Test
+    @WithMockUser(username = "user", roles = "USER")
+    public void testImportarClientesCsvSemColunasObrigatorias() throws Exception {
+        mockMvc.perform(post("/api/clientes/import")
+                        .contentType(ClienteController.TEXT_CSV)
+                        .content("nome;email;telefone\nJoão;joao@exemplo.com;1234567891\n"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.type").value(Problemas.TIPO_DADOS_INVALIDOS.toString()));
+
+        verify(clienteLoteService, never()).importarClientes(any(), any(), any());
+    }
+
+    // Teste da importação com um formato não suportado
+    @Test
+    @WithMockUser(username = "user", roles = "USER")
+    public void testImportarClientesFormatoNaoSuportado() throws Exception {
+        mockMvc.perform(post("/api/clientes/import")
+                        .contentType(MediaType.APPLICATION_XML)
+                        .content("<clientes/>"))
+                .andExpect(status().isUnsupportedMediaType());
+    }
+
+    // Teste do método POST em lote
+    @Test
+    @WithMockUser(username = "user", roles = "USER")
+    public void testCriarClientesEmLote() throws Exception {
+        Cliente cliente1 = new Cliente("João", "joao@exemplo.com", "1234567891");
+        Cliente cliente2 = new Cliente("Maria", "invalido", "1234567891");
+        when(clienteLoteService.criarClientes(anyList())).thenReturn(Arrays.asList(
+                new ResultadoItemLote(0, 1L, ResultadoItemLote.Status.CRIADO, null),
+                new ResultadoItemLote(1, null, ResultadoItemLote.Status.INVALIDO, "Formato de e-mail inválido.")));
+
+        mockMvc.perform(post("/api/clientes/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Arrays.asList(cliente1, cliente2))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("CRIADO"))
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[1].status").value("INVALIDO"))
+                .andExpect(jsonPath("$[1].mensagem").value("Formato de e-mail inválido."));
+
+        verify(clienteLoteService, times(1)).criarClientes(anyList());
+    }
+
+    // Teste do método DELETE em lote
+    @Test
+    @WithMockUser(username = "user", roles = "USER")
+    public void testExcluirClientesEmLote() throws Exception {
+        when(clienteLoteService.excluirClientes(Arrays.asList(1L, 2L))).thenReturn(Arrays.asList(
+                new ResultadoItemLote(0, 1L, ResultadoItemLote.Status.EXCLUIDO, null),
+                new ResultadoItemLote(1, 2L, ResultadoItemLote.Status.NAO_ENCONTRADO, "Cliente com ID 2 não encontrado.")));
+
+        mockMvc.perform(delete("/api/clientes/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[1, 2]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("EXCLUIDO"))
+                .andExpect(jsonPath("$[1].status").value("NAO_ENCONTRADO"));
+    }
+
+    // Teste do método GET (busca por nome)
+    @Test
+    @WithMockUser(username = "user", roles = "USER")
+    public void testBuscarClientesPorNome() throws Exception {
+        Cliente cliente = new Cliente("João da Silva", "joao@exemplo.com", "123456789");
+        when(clienteService.buscarClientesPorNome("jo sil", 10)).thenReturn(Collections.singletonList(cliente));
+
+        mockMvc.perform(get("/api/clientes/search").param("q", "jo sil").param("limit", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].nome").value("João da Silva"));
+
+        verify(clienteService, times(1)).buscarClientesPorNome("jo sil", 10);
+    }
+
+    // Teste do método GET (cliente por e-mail)
+    @Test
+    @WithMockUser(username = "user", roles = "USER")
+    public void testBuscarClientePorEmail() throws Exception {
+        Cliente cliente = new Cliente("João", "joao@exemplo.com", "123456789");
+        when(clienteService.buscarClientePorEmail("joao@exemplo.com")).thenReturn(Optional.of(cliente));
+
+        mockMvc.perform(get("/api/clientes/by-email").param("email", "joao@exemplo.com"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nome").value("João"))
+                .andExpect(jsonPath("$.email").value("joao@exemplo.com"));
+
+        verify(clienteService, times(1)).buscarClientePorEmail("joao@exemplo.com");
+    }
+
+    // Teste do método GET (e-mail com "/", que não seria aceito no caminho)
+    @Test
+    @WithMockUser(username = "user", roles = "USER")
+    public void testBuscarClientePorEmailComBarra() throws Exception {
+        when(clienteService.buscarClientePorEmail("jo/ao@exemplo.com")).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/clientes/by-email").param("email", "jo/ao@exemplo.com"))
+                .andExpect(status().isNotFound());
+
+        verify(clienteService, times(1)).buscarClientePorEmail("jo/ao@exemplo.com");
     }
 
 }
@@ -0,0 +1,197 @@
+package com.example.clientes.controller;
+
+import com.example.clientes.config.ReativoConfig;
+import com.example.clientes.model.Cliente;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testa a API reativa (perfil {@value ReativoConfig#PERFIL}) com o Netty e o H2 acessado por R2DBC,
+ * verificando o mesmo contrato HTTP das rotas do {@link ClienteController}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles({"test", ReativoConfig.PERFIL})
+public class ClienteReativoHandlerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private WebTestClient cliente;
+
+    @BeforeEach
+    public void setUp() {
+        cliente = webTestClient.mutate()
+                .defaultHeaders(cabecalhos -> cabecalhos.setBasicAuth("user", "password"))
+                .build();
+    }
+
+    @Test
+    public void testEscritasMantemIndiceDeBuscaEEventos() {
+        Cliente criado = cliente.post().uri("/api/clientes")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new Cliente("Bruno Índice", "bruno.indice@exemplo.com", "11987654321"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(Cliente.class).returnResult().getResponseBody();
+        assertNotNull(criado);
+        Long id = criado.getId();
+        String uri = "/api/clientes/" + id;
+        assertEquals(List.of("bruno", "indice"), termos(id));
+        List<Long> idsTermos = jdbcTemplate.queryForList("select id from cliente_termo where cliente_id = ? order by id",
+                Long.class, id);
+
+        // Sem mudança de nome, os termos não são regravados
+        cliente.put().uri(uri).contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new Cliente("Bruno Índice", "bruno.indice@exemplo.com", "1133334444"))
+                .exchange()
+                .expectStatus().isOk();
+        assertEquals(idsTermos, jdbcTemplate.queryForList("select id from cliente_termo where cliente_id = ? order by id",
+                Long.class, id));
+
+        cliente.put().uri(uri).contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new Cliente("Bruno Alterado", "bruno.indice@exemplo.com", "1133334444"))
+                .exchange()
+                .expectStatus().isOk();
+        assertEquals(List.of("alterado", "bruno"), termos(id));
+
+        cliente.delete().uri(uri).exchange().expectStatus().isOk();
+        assertTrue(termos(id).isEmpty());
+        assertEquals(List.of("CRIADO", "ALTERADO", "ALTERADO", "EXCLUIDO"), jdbcTemplate.queryForList(
+                "select tipo from evento_cliente where cliente_id = ? order by sequencia", String.class, id));
+        assertEquals(List.of(0L, 1L, 2L), jdbcTemplate.queryForList(
+                "select versao from evento_cliente where cliente_id = ? and tipo <> 'EXCLUIDO' order by sequencia",
+                Long.class, id));
+    }
+
+    @Test
+    public void testCicloDeVidaComETag() {
+        Cliente criado = cliente.post().uri("/api/clientes")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new Cliente("Ana Reativa", " Ana.Reativa@Exemplo.com ", "11987654321"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(Cliente.class).returnResult().getResponseBody();
+        assertNotNull(criado);
+        assertEquals("ana.reativa@exemplo.com", criado.getEmail());
+        assertEquals("(11) 98765-4321", criado.getTelefone());
+        String uri = "/api/clientes/" + criado.getId();
+
+        cliente.get().uri(uri).exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("ETag", "\"0\"")
+                .expectBody().jsonPath("$.nome").isEqualTo("Ana Reativa");
+        cliente.get().uri(uri).header("If-None-Match", "\"0\"").exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+
+        Cliente alteracao = new Cliente("Ana Alterada", "ana.reativa@exemplo.com", "1133334444");
+        cliente.put().uri(uri).header("If-Match", "\"0\"").contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(alteracao)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("ETag", "\"1\"")
+                .expectBody()
+                .jsonPath("$.nome").isEqualTo("Ana Alterada")
+                .jsonPath("$.telefone").isEqualTo("(11) 3333-4444")
+                .jsonPath("$.criadoEm").isNotEmpty();
+        cliente.put().uri(uri).header("If-Match", "\"0\"").contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(alteracao)
+                .exchange()
+                .expectStatus().isEqualTo(412)
+                .expectBody().jsonPath("$.title").isEqualTo("Versão divergente");
+
+        cliente.delete().uri(uri).exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).isEqualTo("Cliente excluído com sucesso.");
+        cliente.get().uri(uri).exchange()
+                .expectStatus().isNotFound()
+                .expectHeader().contentType(MediaType.APPLICATION_PROBLEM_JSON)
+                .expectBody()
+                .jsonPath("$.title").isEqualTo("Cliente não encontrado")
+                .jsonPath("$.instance").isEqualTo(uri);
+        cliente.delete().uri(uri).exchange().expectStatus().isNotFound();
+    }
+
+    @Test
+    public void testErrosDeNegocio() {
+        cliente.post().uri("/api/clientes").contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new Cliente("Bruno", "bruno.reativo@exemplo.com", "11987654321"))
+                .exchange()
+                .expectStatus().isOk();
+
+        cliente.post().uri("/api/clientes").contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new Cliente("Bruno 2", "BRUNO.reativo@exemplo.com", "11987654321"))
+                .exchange()
+                .expectStatus().isEqualTo(409)
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(409)
+                .jsonPath("$.title").isEqualTo("Cliente duplicado");
+
+        cliente.post().uri("/api/clientes").contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new Cliente("Carla", "email-invalido", "11987654321"))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.title").isEqualTo("Dados inválidos")
+                .jsonPath("$.detail").isEqualTo("Formato de e-mail inválido.");
+
+        cliente.put().uri("/api/clientes/999999").contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new Cliente("Inexistente", "inexistente.reativo@exemplo.com", "11987654321"))
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    public void testListagemEmFluxoEPorPagina() {
+        for (int i = 1; i <= 3; i++) {
+            cliente.post().uri("/api/clientes").contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(new Cliente("Lista " + i, "lista" + i + ".reativo@exemplo.com", "11987654321"))
+                    .exchange()
+                    .expectStatus().isOk();
+        }
+
+        List<Cliente> todos = cliente.get().uri("/api/clientes").accept(MediaType.APPLICATION_NDJSON).exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_NDJSON)
+                .returnResult(Cliente.class).getResponseBody().collectList().block();
+        assertNotNull(todos);
+        assertTrue(todos.size() >= 3);
+        for (int i = 1; i < todos.size(); i++) {
+            assertTrue(todos.get(i - 1).getId() < todos.get(i).getId(), "Fluxo fora da ordem de ID");
+        }
+
+        Cliente primeiro = todos.get(0);
+        cliente.get().uri("/api/clientes?afterId=0&limit=1").exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(ClienteController.CABECALHO_PROXIMO_CURSOR, String.valueOf(primeiro.getId()))
+                .expectBody().jsonPath("$.length()").isEqualTo(1);
+        cliente.get().uri("/api/clientes?afterId=" + todos.get(todos.size() - 1).getId()).exchange()
+                .expectStatus().isNoContent();
+        cliente.get().uri("/api/clientes?limit=abc").exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    public void testExigeAutenticacao() {
+        webTestClient.get().uri("/api/clientes").exchange()
+                .expectStatus().isUnauthorized();
+    }
+
+    private List<String> termos(Long id) {
+        return jdbcTemplate.queryForList("select termo from cliente_termo where cliente_id = ? order by termo",
+                String.class, id);
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.clientes.metrics;
+
+import com.example.clientes.exception.ClienteNaoEncontradoException;
+import com.example.clientes.model.Cliente;
+import com.example.clientes.service.ClienteService;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class ClienteServiceMetricasAspectTest {
+
+    private PrometheusMeterRegistry registry;
+    private ClienteService alvo;
+    private ClienteService clienteService;
+
+    @BeforeEach
+    public void setup() {
+        registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        alvo = mock(ClienteService.class);
+        AspectJProxyFactory fabrica = new AspectJProxyFactory(alvo);
+        fabrica.setProxyTargetClass(true);
+        fabrica.addAspect(new ClienteServiceMetricasAspect(registry));
+        clienteService = fabrica.getProxy();
+    }
+
+    @Test
+    public void testOperacaoComSucesso() {
+        Cliente cliente = new Cliente("João", "joao@example.com", "(12) 3456-7899");
+        when(alvo.buscarClientePorId(1L)).thenReturn(Optional.of(cliente));
+
+        assertSame(cliente, clienteService.buscarClientePorId(1L).orElseThrow());
+        assertEquals(1, timer("buscarClientePorId", "ok").count());
+    }
+
+    @Test
+    public void testOptionalVazioContaComoNaoEncontrado() {
+        when(alvo.buscarClientePorId(2L)).thenReturn(Optional.empty());
+
+        clienteService.buscarClientePorId(2L);
+
+        assertEquals(1, timer("buscarClientePorId", "not_found").count());
+        assertEquals(0, timer("buscarClientePorId", "ok").count());
+    }
+
+    @Test
+    public void testExcecoesClassificadas() {
+        doThrow(new ClienteNaoEncontradoException("Cliente com ID 1 não encontrado.")).when(alvo).excluirCliente(1L);
+        when(alvo.criarCliente(any())).thenThrow(new IllegalArgumentException("Formato de e-mail inválido."));
+        when(alvo.alterarCliente(eq(1L), any())).thenThrow(new DataAccessResourceFailureException("conexão perdida"));
+
+        assertThrows(ClienteNaoEncontradoException.class, () -> clienteService.excluirCliente(1L));
+        assertThrows(IllegalArgumentException.class, () -> clienteService.criarCliente(new Cliente()));
+        assertThrows(DataAccessResourceFailureException.class, () -> clienteService.alterarCliente(1L, new Cliente()));
+
+        assertEquals(1, timer("excluirCliente", "not_found").count());
+        assertEquals(1, timer("criarCliente", "validation_error").count());
+        assertEquals(1, timer("alterarCliente", "db_error").count());
+    }
+
+    @Test
+    public void testTimerPublicaHistograma() {
+        clienteService.listarClientes(null, null);
+
+        assertEquals(1, timer("listarClientes", "ok").count());
+        assertTrue(registry.scrape().contains("clientes_operacao_seconds_bucket{"));
+    }
+
+    private Timer timer(String operacao, String resultado) {
+        return registry.get(ClienteServiceMetricasAspect.TIMER_OPERACAO)
+                .tag("operacao", operacao)
+                .tag("resultado", resultado)
+                .timer();
+    }
+}
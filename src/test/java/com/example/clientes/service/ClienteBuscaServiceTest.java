@@ -0,0 +1,111 @@
+package com.example.clientes.service;
+
+import com.example.clientes.model.Cliente;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class ClienteBuscaServiceTest {
+
+    @Autowired
+    private ClienteService clienteService;
+
+    @Autowired
+    private ClienteBuscaService clienteBuscaService;
+
+    private Cliente joao;
+    private Cliente maria;
+
+    @BeforeEach
+    public void setup() {
+        joao = clienteService.criarCliente(new Cliente("João da Silva", "joao.busca@example.com", "1234567899"));
+        maria = clienteService.criarCliente(new Cliente("Maria Conceição Silveira", "maria.busca@example.com", "1234567899"));
+        clienteService.criarCliente(new Cliente("Ana Souza", "ana.busca@example.com", "1234567899"));
+    }
+
+    @Test
+    public void testBuscaPorPrefixoSemAcentos() {
+        assertEquals(List.of(joao.getId()), ids(clienteBuscaService.buscar("joao", null)));
+        assertEquals(List.of(maria.getId()), ids(clienteBuscaService.buscar("CONCEICAO", null)));
+    }
+
+    @Test
+    public void testBuscaPorVariosTermos() {
+        assertEquals(List.of(joao.getId(), maria.getId()), ids(clienteBuscaService.buscar("sil", null)));
+        assertEquals(List.of(maria.getId()), ids(clienteBuscaService.buscar("sil mar", null)));
+        assertTrue(clienteBuscaService.buscar("sil ana", null).isEmpty());
+    }
+
+    @Test
+    public void testBuscaRespeitaLimite() {
+        assertEquals(List.of(joao.getId()), ids(clienteBuscaService.buscar("si", 1)));
+        assertTrue(clienteBuscaService.buscar("  ", null).isEmpty());
+    }
+
+    @Test
+    public void testBuscaIgnoraTermosCurtos() {
+        assertTrue(clienteBuscaService.buscar("s", null).isEmpty());
+        assertEquals(List.of(maria.getId()), ids(clienteBuscaService.buscar("m silve", null)));
+    }
+
+    @Test
+    public void testBuscaSemTermoRaroLeClientesEmOrdemDeId() {
+        // Nenhum termo é raro: a busca lê os clientes em ordem de ID e verifica os termos por EXISTS
+        ReflectionTestUtils.setField(clienteBuscaService, "limiteTermoRaro", 0);
+        try {
+            assertEquals(List.of(joao.getId(), maria.getId()), ids(clienteBuscaService.buscar("sil", null)));
+            assertEquals(List.of(maria.getId()), ids(clienteBuscaService.buscar("sil mar", null)));
+            assertEquals(List.of(joao.getId()), ids(clienteBuscaService.buscar("si", 1)));
+            assertTrue(clienteBuscaService.buscar("sil ana", null).isEmpty());
+        } finally {
+            ReflectionTestUtils.setField(clienteBuscaService, "limiteTermoRaro", 2000);
+        }
+    }
+
+    @Test
+    public void testBuscaSemClientesParaUmTermo() {
+        assertTrue(clienteBuscaService.buscar("sil xyz", null).isEmpty());
+    }
+
+    @Test
+    public void testAlteracaoDoNomeAtualizaOIndice() {
+        clienteService.alterarCliente(joao.getId(), new Cliente("Joaquim Pereira", "joao.busca@example.com", "1234567899"));
+
+        assertTrue(clienteBuscaService.buscar("silva", null).isEmpty());
+        assertEquals(List.of(joao.getId()), ids(clienteBuscaService.buscar("pereira", null)));
+    }
+
+    @Test
+    public void testAlteracaoSemMudarONomeMantemOIndice() {
+        Cliente alterado = clienteService.alterarCliente(joao.getId(),
+                new Cliente("João da Silva", "joao.novo@example.com", "1234567899"), joao.getVersao());
+
+        // O cliente devolvido é montado com o estado anterior retornado pelo UPDATE
+        assertEquals(joao.getVersao() + 1, alterado.getVersao());
+        assertEquals(joao.getCriadoEm(), alterado.getCriadoEm());
+
+        assertEquals(List.of(joao.getId()), ids(clienteBuscaService.buscar("joao silva", null)));
+    }
+
+    @Test
+    public void testExclusaoRemoveDoIndice() {
+        clienteService.excluirCliente(maria.getId());
+
+        assertEquals(List.of(joao.getId()), ids(clienteBuscaService.buscar("sil", null)));
+    }
+
+    private static List<Long> ids(List<Cliente> clientes) {
+        return clientes.stream().map(Cliente::getId).toList();
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.clientes.service;
+
+import com.example.clientes.model.Cliente;
+import com.example.clientes.model.EventoCliente;
+import com.example.clientes.model.EventoCliente.Tipo;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "clientes.eventos.atraso-leitura=0s")
+@ActiveProfiles("test")
+// Sem @Transactional no teste: cada operação do serviço é confirmada em sua própria transação, como na aplicação
+public class ClienteEventoServiceTest {
+
+    @Autowired
+    private ClienteService clienteService;
+
+    @Autowired
+    private ClienteEventoService clienteEventoService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    public void testMudancasEmOrdemDeSequencia() {
+        Long inicio = ultimaSequencia();
+        Cliente joao = clienteService.criarCliente(new Cliente("João", "joao.evento@example.com", "1234567899"));
+        clienteService.alterarClienteParcialmente(joao.getId(), new Cliente("João Silva", null, null), null);
+        clienteService.excluirCliente(joao.getId());
+
+        List<EventoCliente> eventos = clienteEventoService.listarEventos(inicio, null);
+
+        assertEquals(List.of(Tipo.CRIADO, Tipo.ALTERADO, Tipo.EXCLUIDO), eventos.stream().map(EventoCliente::getTipo).toList());
+        assertTrue(eventos.stream().allMatch(e -> e.getClienteId().equals(joao.getId())));
+        assertEquals("João", eventos.get(0).getNome());
+        assertEquals(0L, eventos.get(0).getVersao());
+        assertEquals("João Silva", eventos.get(1).getNome());
+        assertEquals(1L, eventos.get(1).getVersao());
+        assertNull(eventos.get(2).getNome());
+        assertTrue(eventos.get(0).getSequencia() < eventos.get(1).getSequencia());
+        assertTrue(eventos.get(1).getSequencia() < eventos.get(2).getSequencia());
+    }
+
+    @Test
+    public void testMudancasAPartirDaSequenciaComLimite() {
+        Long inicio = ultimaSequencia();
+        for (int i = 0; i < 3; i++) {
+            clienteService.criarCliente(new Cliente("Cliente " + i, "cliente" + i + ".evento@example.com", "1234567899"));
+        }
+
+        List<EventoCliente> primeiros = clienteEventoService.listarEventos(inicio, 2);
+        List<EventoCliente> restantes = clienteEventoService.listarEventos(primeiros.get(1).getSequencia(), 2);
+
+        assertEquals(2, primeiros.size());
+        assertEquals(1, restantes.size());
+        assertEquals("Cliente 2", restantes.get(0).getNome());
+    }
+
+    @Test
+    public void testSequenciaSegueAOrdemDeGravacaoEntreInstancias() {
+        Long inicio = ultimaSequencia();
+        clienteService.criarCliente(new Cliente("Ana", "ana.instancia@example.com", "1234567899"));
+        // Número obtido por outra instância da aplicação, que compartilha a sequência do banco
+        Long outraInstancia = jdbcTemplate.queryForObject("select next value for evento_cliente_seq", Long.class);
+        clienteService.criarCliente(new Cliente("Bia", "bia.instancia@example.com", "1234567899"));
+
+        List<EventoCliente> eventos = clienteEventoService.listarEventos(inicio, null);
+
+        assertEquals(2, eventos.size());
+        assertTrue(eventos.get(0).getSequencia() < outraInstancia);
+        assertTrue(outraInstancia < eventos.get(1).getSequencia());
+    }
+
+    @Test
+    public void testEventosRecentesAguardamOAtrasoDeLeitura() {
+        Long inicio = ultimaSequencia();
+        clienteService.criarCliente(new Cliente("Ana", "ana.evento@example.com", "1234567899"));
+        ReflectionTestUtils.setField(clienteEventoService, "atrasoLeitura", Duration.ofMinutes(1));
+        try {
+            assertTrue(clienteEventoService.listarEventos(inicio, null).isEmpty());
+        } finally {
+            ReflectionTestUtils.setField(clienteEventoService, "atrasoLeitura", Duration.ZERO);
+        }
+        assertEquals(1, clienteEventoService.listarEventos(inicio, null).size());
+    }
+
+    @Test
+    public void testLeituraParaNoPrimeiroEventoRecenteMesmoComSequenciasMaioresAntigas() {
+        Long inicio = ultimaSequencia();
+        clienteService.criarCliente(new Cliente("Ana", "ana.corte@example.com", "1234567899"));
+        // Evento com sequência maior e data de registro anterior, como o de uma transação iniciada antes
+        jdbcTemplate.update("insert into evento_cliente (sequencia, tipo, cliente_id, registrado_em) "
+                + "values (next value for evento_cliente_seq, 'EXCLUIDO', 999999, dateadd('MINUTE', -5, current_timestamp))");
+        ReflectionTestUtils.setField(clienteEventoService, "atrasoLeitura", Duration.ofMinutes(1));
+        try {
+            assertTrue(clienteEventoService.listarEventos(inicio, null).isEmpty());
+        } finally {
+            ReflectionTestUtils.setField(clienteEventoService, "atrasoLeitura", Duration.ZERO);
+        }
+        List<EventoCliente> eventos = clienteEventoService.listarEventos(inicio, null);
+        assertEquals(List.of(Tipo.CRIADO, Tipo.EXCLUIDO), eventos.stream().map(EventoCliente::getTipo).toList());
+        assertNotNull(eventos.get(0).getRegistradoEm());
+    }
+
+    private Long ultimaSequencia() {
+        List<EventoCliente> eventos = clienteEventoService.listarEventos(0L, ClienteEventoService.LIMITE_MAXIMO);
+        return eventos.isEmpty() ? 0L : eventos.get(eventos.size() - 1).getSequencia();
+    }
+}
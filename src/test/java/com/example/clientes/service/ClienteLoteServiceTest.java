@@ -0,0 +1,269 @@
+package com.example.clientes.service;
+
+import com.example.clientes.config.CacheConfig;
+import com.example.clientes.model.Cliente;
+import com.example.clientes.model.EventoCliente.Tipo;
+import com.example.clientes.model.ProgressoImportacao;
+import com.example.clientes.model.RejeicaoImportacao;
+import com.example.clientes.model.ResultadoItemLote;
+import com.example.clientes.model.ResultadoItemLote.Status;
+import com.example.clientes.repository.ClienteRepository;
+import com.example.clientes.utils.LeitorImportacao;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class ClienteLoteServiceTest {
+
+    @Mock
+    private ClienteRepository clienteRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private ClienteBuscaService clienteBuscaService;
+
+    @Mock
+    private ClienteEventoService clienteEventoService;
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
+    @InjectMocks
+    private ClienteLoteService clienteLoteService;
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testCriarClientes() {
+        when(clienteRepository.saveAll(anyList())).thenAnswer(invocacao -> {
+            long id = 1;
+            for (Cliente cliente : (List<Cliente>) invocacao.getArgument(0)) {
+                cliente.setId(id++);
+            }
+            return invocacao.getArgument(0);
+        });
+
+        List<ResultadoItemLote> resultados = clienteLoteService.criarClientes(Arrays.asList(
+                new Cliente("João", "JOAO@example.com", "1234567899"),
+                new Cliente("Inválido", "email-invalido", "1234567899"),
+                new Cliente("Maria", "maria@example.com", "12345678999")));
+
+        assertEquals(3, resultados.size());
+        assertEquals(Status.CRIADO, resultados.get(0).getStatus());
+        assertEquals(1L, resultados.get(0).getId());
+        assertEquals(Status.INVALIDO, resultados.get(1).getStatus());
+        assertEquals("Formato de e-mail inválido.", resultados.get(1).getMensagem());
+        assertEquals(Status.CRIADO, resultados.get(2).getStatus());
+        assertEquals(2L, resultados.get(2).getId());
+        verify(clienteRepository, times(1)).saveAll(anyList());
+        verify(clienteBuscaService, times(1)).indexar(anyList());
+        verify(clienteEventoService, times(1)).registrar(eq(Tipo.CRIADO), anyList());
+        verify(entityManager).flush();
+    }
+
+    @Test
+    public void testCriarClientesFalhaNoLoteGravaItemAItem() {
+        Cliente joao = new Cliente("João", "joao@example.com", "1234567899");
+        Cliente duplicado = new Cliente("Maria", "maria@example.com", "1234567899");
+        when(clienteRepository.saveAll(anyList())).thenThrow(new DataIntegrityViolationException("duplicado"));
+        when(clienteRepository.saveAndFlush(joao)).thenAnswer(invocacao -> {
+            joao.setId(10L);
+            return joao;
+        });
+        when(clienteRepository.saveAndFlush(duplicado)).thenThrow(new DataIntegrityViolationException("duplicado"));
+
+        List<ResultadoItemLote> resultados = clienteLoteService.criarClientes(Arrays.asList(joao, duplicado));
+
+        assertEquals(Status.CRIADO, resultados.get(0).getStatus());
+        assertEquals(10L, resultados.get(0).getId());
+        assertEquals(Status.ERRO, resultados.get(1).getStatus());
+        assertEquals("duplicado", resultados.get(1).getMensagem());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testImportarClientesEmLotesComAndamento() {
+        long[] proximoId = {1};
+        when(clienteRepository.saveAll(anyList())).thenAnswer(invocacao -> {
+            for (Cliente cliente : (List<Cliente>) invocacao.getArgument(0)) {
+                cliente.setId(proximoId[0]++);
+            }
+            return invocacao.getArgument(0);
+        });
+        // 20.001 registros a partir da linha 2; os registros das linhas 3 e 10.002 são inválidos
+        int total = ClienteLoteService.INTERVALO_PROGRESSO_IMPORTACAO * 2 + 1;
+        var registros = LongStream.rangeClosed(2, total + 1).mapToObj(linha -> linha == 3 || linha == 10_002
+                ? new LeitorImportacao.Item(linha, null, "O registro tem 2 colunas, menos que o cabeçalho.")
+                : new LeitorImportacao.Item(linha, new Cliente("Cliente " + linha, "c" + linha + "@example.com", "1234567899"), null))
+                .iterator();
+        List<RejeicaoImportacao> rejeicoes = new ArrayList<>();
+        List<ProgressoImportacao> andamentos = new ArrayList<>();
+
+        ProgressoImportacao resultado = clienteLoteService.importarClientes(registros, rejeicoes::add, andamentos::add);
+
+        assertEquals(total, resultado.getProcessados());
+        assertEquals(total - 2, resultado.getGravados());
+        assertEquals(2, resultado.getRejeitados());
+        assertTrue(resultado.isConcluido());
+        assertEquals(List.of(3L, 10_002L), rejeicoes.stream().map(RejeicaoImportacao::getLinha).toList());
+        assertEquals(Status.INVALIDO, rejeicoes.get(0).getStatus());
+        assertEquals(2, andamentos.size());
+        // Cada andamento é informado com os registros lidos até ali já gravados
+        assertEquals(10_000, andamentos.get(0).getProcessados());
+        assertEquals(9_999, andamentos.get(0).getGravados());
+        assertEquals(1, andamentos.get(0).getRejeitados());
+        assertFalse(andamentos.get(0).isConcluido());
+        assertEquals(19_998, andamentos.get(1).getGravados());
+        // A cada 10.000 registros, 19 lotes de 500 e um lote parcial de 499 gravado antes do andamento; e o último registro
+        verify(clienteRepository, times(41)).saveAll(anyList());
+        verify(entityManager, times(41)).clear();
+    }
+
+    @Test
+    public void testImportarClientesInformaFalhaNaGravacao() {
+        Cliente joao = new Cliente("João", "joao@example.com", "1234567899");
+        Cliente duplicado = new Cliente("Maria", "maria@example.com", "1234567899");
+        when(clienteRepository.saveAll(anyList())).thenThrow(new DataIntegrityViolationException("duplicado"));
+        when(clienteRepository.saveAndFlush(joao)).thenReturn(joao);
+        when(clienteRepository.saveAndFlush(duplicado)).thenThrow(new DataIntegrityViolationException("duplicado"));
+        List<RejeicaoImportacao> rejeicoes = new ArrayList<>();
+
+        ProgressoImportacao resultado = clienteLoteService.importarClientes(List.of(
+                new LeitorImportacao.Item(2, joao, null),
+                new LeitorImportacao.Item(3, new Cliente("Ana", "ana@", "1234567899"), null),
+                new LeitorImportacao.Item(4, duplicado, null)).iterator(), rejeicoes::add, andamento -> fail());
+
+        assertEquals(3, resultado.getProcessados());
+        assertEquals(1, resultado.getGravados());
+        assertEquals(2, resultado.getRejeitados());
+        assertEquals(3L, rejeicoes.get(0).getLinha());
+        assertEquals("Formato de e-mail inválido.", rejeicoes.get(0).getMensagem());
+        assertEquals(4L, rejeicoes.get(1).getLinha());
+        assertEquals(Status.ERRO, rejeicoes.get(1).getStatus());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testImportarClientesRejeitaEmailsDuplicadosSemGravarItemAItem() {
+        Cliente novo = new Cliente("João", "joao@example.com", "1234567899");
+        Cliente existente = new Cliente("Maria", "maria@example.com", "1234567899");
+        Cliente repetido = new Cliente("João Repetido", "joao@example.com", "1234567899");
+        when(clienteRepository.findEmailsExistentes(anyCollection())).thenReturn(List.of("maria@example.com"));
+        when(clienteRepository.saveAll(anyList())).thenAnswer(invocacao -> invocacao.getArgument(0));
+        List<RejeicaoImportacao> rejeicoes = new ArrayList<>();
+
+        ProgressoImportacao resultado = clienteLoteService.importarClientes(List.of(
+                new LeitorImportacao.Item(2, novo, null),
+                new LeitorImportacao.Item(3, existente, null),
+                new LeitorImportacao.Item(4, repetido, null)).iterator(), rejeicoes::add, andamento -> fail());
+
+        assertEquals(1, resultado.getGravados());
+        assertEquals(2, resultado.getRejeitados());
+        assertEquals(List.of(3L, 4L), rejeicoes.stream().map(RejeicaoImportacao::getLinha).toList());
+        assertEquals("Já existe um cliente com o e-mail maria@example.com.", rejeicoes.get(0).getMensagem());
+        assertEquals(Status.ERRO, rejeicoes.get(1).getStatus());
+        verify(clienteRepository).saveAll(List.of(novo));
+        verify(clienteRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    public void testAlterarClientes() {
+        Cliente existente = new Cliente("João", "joao@example.com", "1234567899");
+        existente.setId(1L);
+        Cliente alteracao = new Cliente("João Silva", "novo@example.com", "9876543210");
+        alteracao.setId(1L);
+        Cliente inexistente = new Cliente("Maria", "maria@example.com", "9876543210");
+        inexistente.setId(2L);
+        Cliente semId = new Cliente("Ana", "ana@example.com", "9876543210");
+        when(clienteRepository.findAllById(Set.of(1L, 2L))).thenReturn(Collections.singletonList(existente));
+
+        List<ResultadoItemLote> resultados = clienteLoteService.alterarClientes(Arrays.asList(alteracao, inexistente, semId));
+
+        assertEquals(Status.ALTERADO, resultados.get(0).getStatus());
+        assertEquals(Status.NAO_ENCONTRADO, resultados.get(1).getStatus());
+        assertEquals(Status.INVALIDO, resultados.get(2).getStatus());
+        assertEquals("novo@example.com", existente.getEmail());
+        assertEquals("(98) 7654-3210", existente.getTelefone());
+        assertEquals("João Silva", existente.getNome());
+        verify(clienteBuscaService).reindexar(1L, "João Silva");
+        verify(clienteEventoService).registrar(Tipo.ALTERADO, List.of(existente));
+        verify(clienteRepository, never()).findById(any());
+    }
+
+    @Test
+    public void testAlterarClientesFalhaNoLoteAlteraItemAItem() {
+        Cliente existente = new Cliente("João", "joao@example.com", "1234567899");
+        existente.setId(1L);
+        Cliente alteracao = new Cliente("João", "novo@example.com", "9876543210");
+        alteracao.setId(1L);
+        when(clienteRepository.findAllById(Set.of(1L))).thenThrow(new DataIntegrityViolationException("falha"));
+        when(clienteRepository.findById(1L)).thenReturn(Optional.of(existente));
+
+        List<ResultadoItemLote> resultados = clienteLoteService.alterarClientes(Collections.singletonList(alteracao));
+
+        assertEquals(Status.ALTERADO, resultados.get(0).getStatus());
+        assertEquals("novo@example.com", existente.getEmail());
+    }
+
+    @Test
+    public void testExcluirClientes() {
+        when(clienteRepository.findIdsExistentes(Set.of(1L, 2L))).thenReturn(Collections.singletonList(1L));
+
+        List<ResultadoItemLote> resultados = clienteLoteService.excluirClientes(Arrays.asList(1L, 2L, null));
+
+        assertEquals(Status.EXCLUIDO, resultados.get(0).getStatus());
+        assertEquals(Status.NAO_ENCONTRADO, resultados.get(1).getStatus());
+        assertEquals(Status.INVALIDO, resultados.get(2).getStatus());
+        verify(clienteRepository, times(1)).deleteAllByIdInBatch(Set.of(1L));
+        verify(clienteEventoService).registrarExclusoes(Set.of(1L));
+    }
+
+    @Test
+    public void testExcluirClientesRemoveDoCache() {
+        Cache cache = mock(Cache.class);
+        when(cacheManager.getCache(CacheConfig.CACHE_CLIENTES)).thenReturn(cache);
+        when(clienteRepository.findIdsExistentes(Set.of(1L, 2L))).thenReturn(Collections.singletonList(1L));
+
+        clienteLoteService.excluirClientes(Arrays.asList(1L, 2L));
+
+        verify(cache).evict(1L);
+        verify(cache).evict(2L);
+    }
+
+    @Test
+    public void testLoteAcimaDoLimite() {
+        List<Long> ids = new ArrayList<>(Collections.nCopies(ClienteLoteService.MAXIMO_ITENS + 1, 1L));
+
+        assertThrows(IllegalArgumentException.class, () -> clienteLoteService.excluirClientes(ids));
+        verifyNoInteractions(clienteRepository);
+    }
+}
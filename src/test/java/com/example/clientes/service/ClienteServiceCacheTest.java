@@ -0,0 +1,223 @@
+package com.example.clientes.service;
+
+import com.example.clientes.config.CacheConfig;
+import com.example.clientes.model.Cliente;
+import com.example.clientes.model.ResultadoBuscaPorIds;
+import com.example.clientes.repository.ClienteRepository;
+import com.example.clientes.utils.CarregamentoUnico;
+import io.micrometer.core.instrument.Metrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class ClienteServiceCacheTest {
+
+    @MockitoBean
+    private ClienteRepository clienteRepository;
+
+    @MockitoBean
+    private ClienteBuscaService clienteBuscaService;
+
+    @Autowired
+    private ClienteService clienteService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Cliente cliente;
+
+    @BeforeEach
+    public void setup() {
+        cacheManager.getCache(CacheConfig.CACHE_CLIENTES).clear();
+        cliente = new Cliente("João", "joao@example.com", "1234567899");
+        cliente.setId(1L);
+    }
+
+    @Test
+    public void testBuscasRepetidasUsamOCache() {
+        when(clienteRepository.findById(1L)).thenReturn(Optional.of(cliente));
+
+        assertTrue(clienteService.buscarClientePorId(1L).isPresent());
+        assertTrue(clienteService.buscarClientePorId(1L).isPresent());
+
+        verify(clienteRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    public void testClienteInexistenteTambemFicaNoCache() {
+        when(clienteRepository.findById(2L)).thenReturn(Optional.empty());
+
+        assertTrue(clienteService.buscarClientePorId(2L).isEmpty());
+        assertTrue(clienteService.buscarClientePorId(2L).isEmpty());
+
+        verify(clienteRepository, times(1)).findById(2L);
+    }
+
+    @Test
+    public void testCriarClienteSubstituiEntradaDeInexistente() {
+        when(clienteRepository.findById(1L)).thenReturn(Optional.empty());
+        when(clienteRepository.saveAndFlush(any(Cliente.class))).thenReturn(cliente);
+
+        assertTrue(clienteService.buscarClientePorId(1L).isEmpty());
+        clienteService.criarCliente(cliente);
+
+        assertEquals("João", clienteService.buscarClientePorId(1L).orElseThrow().getNome());
+        verify(clienteRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    public void testAlterarClienteAtualizaOCache() {
+        when(clienteRepository.findById(1L)).thenReturn(Optional.of(cliente));
+        when(clienteRepository.atualizarCliente(eq(1L), eq("João Silva"), eq("novo@example.com"), eq("(98) 7654-3210"), any()))
+                .thenReturn(Optional.of(estadoAnterior("João", 1L, Instant.EPOCH)));
+
+        clienteService.buscarClientePorId(1L);
+        clienteService.alterarCliente(1L, new Cliente("João Silva", "novo@example.com", "9876543210"));
+
+        assertEquals("novo@example.com", clienteService.buscarClientePorId(1L).orElseThrow().getEmail());
+        verify(clienteRepository, times(1)).findById(1L); // Só a leitura inicial; não há releitura após o UPDATE
+    }
+
+    @Test
+    public void testAlterarClienteNaVersaoAtualizaOCache() {
+        when(clienteRepository.findById(1L)).thenReturn(Optional.of(cliente));
+        when(clienteRepository.atualizarClienteNaVersao(eq(1L), eq(3L), eq("João Silva"), eq("novo@example.com"),
+                eq("(98) 7654-3210"), any())).thenReturn(Optional.of(estadoAnterior("João", 3L, Instant.EPOCH)));
+
+        clienteService.buscarClientePorId(1L);
+        clienteService.alterarCliente(1L, new Cliente("João Silva", "novo@example.com", "9876543210"), 3L);
+
+        Cliente emCache = clienteService.buscarClientePorId(1L).orElseThrow();
+        assertEquals("novo@example.com", emCache.getEmail());
+        assertEquals(4L, emCache.getVersao());
+        assertEquals(Instant.EPOCH, emCache.getCriadoEm());
+        verify(clienteRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    public void testAlterarClienteParcialmenteAtualizaOCacheSomenteComAlteracao() {
+        when(clienteRepository.findById(1L)).thenReturn(Optional.of(cliente));
+
+        clienteService.alterarClienteParcialmente(1L, new Cliente(null, "joao@example.com", null), null);
+        assertEquals("joao@example.com", clienteService.buscarClientePorId(1L).orElseThrow().getEmail());
+        verify(clienteRepository, times(2)).findById(1L); // Sem alteração, a busca seguinte lê o banco
+
+        clienteService.alterarClienteParcialmente(1L, new Cliente(null, "novo@example.com", null), null);
+        assertEquals("novo@example.com", clienteService.buscarClientePorId(1L).orElseThrow().getEmail());
+        verify(clienteRepository, times(3)).findById(1L); // Com alteração, a busca seguinte usa o cache
+    }
+
+    @Test
+    public void testBuscaPorIdsUsaEAlimentaOCache() {
+        Cliente maria = new Cliente("Maria", "maria@example.com", "(98) 7654-3210");
+        maria.setId(2L);
+        when(clienteRepository.findById(1L)).thenReturn(Optional.of(cliente));
+        when(clienteRepository.findAllById(List.of(2L, 3L))).thenReturn(List.of(maria));
+
+        clienteService.buscarClientePorId(1L);
+        ResultadoBuscaPorIds resultado = clienteService.buscarClientesPorIds(Arrays.asList(2L, 1L, 3L, 1L, null));
+
+        assertEquals(List.of(maria, cliente), resultado.getClientes());
+        assertEquals(List.of(3L), resultado.getNaoEncontrados());
+        // Os IDs lidos do banco, inclusive o inexistente, passam a ser atendidos pelo cache
+        assertEquals("Maria", clienteService.buscarClientePorId(2L).orElseThrow().getNome());
+        assertTrue(clienteService.buscarClientePorId(3L).isEmpty());
+        verify(clienteRepository, never()).findById(2L);
+        verify(clienteRepository, never()).findById(3L);
+        verify(clienteRepository, times(1)).findAllById(any());
+    }
+
+    @Test
+    public void testExcluirClienteRemoveDoCache() {
+        when(clienteRepository.findById(1L)).thenReturn(Optional.of(cliente));
+
+        when(clienteRepository.excluirClientePorId(1L)).thenReturn(1);
+
+        clienteService.buscarClientePorId(1L);
+        clienteService.excluirCliente(1L);
+        when(clienteRepository.findById(1L)).thenReturn(Optional.empty());
+
+        assertTrue(clienteService.buscarClientePorId(1L).isEmpty());
+    }
+
+    @Test
+    public void testBuscasSimultaneasFazemUmaConsulta() throws Exception {
+        int threads = 32;
+        CountDownLatch liberar = new CountDownLatch(1);
+        when(clienteRepository.findById(1L)).thenAnswer(invocacao -> {
+            liberar.await(10, TimeUnit.SECONDS);
+            return Optional.of(cliente);
+        });
+        double agrupadosAntes = agrupadosBuscaPorId();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Optional<Cliente>>> resultados = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                resultados.add(executor.submit(() -> clienteService.buscarClientePorId(1L)));
+            }
+            // Libera a consulta quando todas as outras buscas estiverem aguardando o seu resultado
+            long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (agrupadosBuscaPorId() - agrupadosAntes < threads - 1) {
+                assertTrue(System.nanoTime() < limite, "Buscas simultâneas não foram agrupadas");
+                Thread.sleep(1);
+            }
+            liberar.countDown();
+
+            for (Future<Optional<Cliente>> resultado : resultados) {
+                assertEquals("João", resultado.get(10, TimeUnit.SECONDS).orElseThrow().getNome());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(clienteRepository, times(1)).findById(1L);
+        assertEquals(threads - 1, agrupadosBuscaPorId() - agrupadosAntes);
+    }
+
+    private static double agrupadosBuscaPorId() {
+        return Metrics.globalRegistry.get(CarregamentoUnico.CONTADOR_AGRUPADOS)
+                .tag("carregamento", "buscarClientePorId").counter().count();
+    }
+
+    private static ClienteRepository.EstadoAnterior estadoAnterior(String nome, Long versao, Instant criadoEm) {
+        OffsetDateTime criadoEmUtc = criadoEm.atOffset(ZoneOffset.UTC);
+        return new ClienteRepository.EstadoAnterior() {
+            @Override
+            public String getNome() {
+                return nome;
+            }
+
+            @Override
+            public Long getVersao() {
+                return versao;
+            }
+
+            @Override
+            public OffsetDateTime getCriadoEm() {
+                return criadoEmUtc;
+            }
+        };
+    }
+}
@@ -1,16 +1,34 @@
 package com.example.clientes.service;
 
+import com.example.clientes.exception.ClienteDuplicadoException;
 import com.example.clientes.exception.ClienteNaoEncontradoException;
+import com.example.clientes.exception.ClienteVersaoDivergenteException;
 import com.example.clientes.model.Cliente;
+import com.example.clientes.model.EventoCliente.Tipo;
+import com.example.clientes.model.ResultadoBuscaPorIds;
 import com.example.clientes.repository.ClienteRepository;
 import com.example.clientes.utils.FormatadorUtils;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -20,6 +38,18 @@ public class ClienteServiceTest {
     @Mock
     private ClienteRepository clienteRepository;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ClienteBuscaService clienteBuscaService;
+
+    @Mock
+    private ClienteEventoService clienteEventoService;
+
+    @Mock
+    private CacheManager cacheManager;
+
     @InjectMocks
     private ClienteService clienteService;
 
@@ -33,7 +63,7 @@ public class ClienteServiceTest {
 
     @Test
     public void testCriarCliente() {
-        when(clienteRepository.save(any(Cliente.class))).thenReturn(cliente);
+        when(clienteRepository.saveAndFlush(any(Cliente.class))).thenReturn(cliente);
 
         Cliente clienteCriado = clienteService.criarCliente(cliente);
 
@@ -41,53 +71,216 @@ public class ClienteServiceTest {
         assertEquals("João", clienteCriado.getNome());
         assertEquals("joao@example.com", clienteCriado.getEmail());
         assertEquals("(12) 3456-7899", clienteCriado.getTelefone());
+        verify(clienteBuscaService).indexar(cliente);
+        verify(clienteEventoService).registrar(Tipo.CRIADO, cliente);
+    }
+
+    @Test
+    public void testCriarClienteComEmailDuplicado() {
+        when(clienteRepository.saveAndFlush(any(Cliente.class))).thenThrow(new DataIntegrityViolationException("uk_cliente_email"));
+
+        assertThrows(ClienteDuplicadoException.class, () -> clienteService.criarCliente(cliente));
     }
 
     @Test
     public void testAlterarCliente() {
         Long id = 1L;
-        when(clienteRepository.findById(id)).thenReturn(Optional.of(cliente));
-        when(clienteRepository.save(any(Cliente.class))).thenReturn(cliente);
+        Instant criadoEm = Instant.parse("2024-01-01T00:00:00Z");
+        when(clienteRepository.atualizarCliente(eq(id), eq("João"), eq("joao@example.com"), eq("(12) 3456-7899"), any()))
+                .thenReturn(Optional.of(estadoAnterior("João Antigo", 1L, criadoEm)));
 
         Cliente clienteAlterado = clienteService.alterarCliente(id, cliente);
 
-        assertNotNull(clienteAlterado);
-        assertEquals("João", clienteAlterado.getNome());
-        assertEquals("joao@example.com", clienteAlterado.getEmail());
-        assertEquals("(12) 3456-7899", clienteAlterado.getTelefone());
+        assertEquals(id, clienteAlterado.getId());
+        assertEquals(2L, clienteAlterado.getVersao());
+        assertEquals(criadoEm, clienteAlterado.getCriadoEm());
+        verify(clienteRepository, never()).save(any());
+        verify(clienteRepository, never()).findById(any());
+        verify(clienteRepository, never()).findVersaoById(any());
+        verify(clienteBuscaService).reindexar(id, "João");
+        verify(clienteEventoService).registrar(Tipo.ALTERADO, clienteAlterado);
+    }
+
+    @Test
+    public void testAlterarClienteMantendoNomeNaoReindexa() {
+        Long id = 1L;
+        when(clienteRepository.atualizarCliente(eq(id), eq("João"), eq("joao@example.com"), eq("(12) 3456-7899"), any()))
+                .thenReturn(Optional.of(estadoAnterior("João", 1L, Instant.EPOCH)));
+
+        Cliente clienteAlterado = clienteService.alterarCliente(id, cliente);
+
+        verify(clienteRepository, times(1)).atualizarCliente(any(), any(), any(), any(), any());
+        verify(clienteBuscaService, never()).reindexar(any(), any());
+        verify(clienteEventoService).registrar(Tipo.ALTERADO, clienteAlterado);
+    }
+
+    @Test
+    public void testAlterarClienteNaVersaoMantendoNomeNaoReindexa() {
+        Long id = 1L;
+        when(clienteRepository.atualizarClienteNaVersao(eq(id), eq(3L), eq("João"), eq("joao@example.com"),
+                eq("(12) 3456-7899"), any())).thenReturn(Optional.of(estadoAnterior("João", 3L, Instant.EPOCH)));
+
+        Cliente clienteAlterado = clienteService.alterarCliente(id, cliente, 3L);
+
+        assertEquals(4L, clienteAlterado.getVersao());
+        verify(clienteRepository, times(1)).atualizarClienteNaVersao(any(), any(), any(), any(), any(), any());
+        verify(clienteBuscaService, never()).reindexar(any(), any());
+    }
+
+    @Test
+    public void testAlterarClienteDefineDataDeAlteracao() {
+        Long id = 1L;
+        when(clienteRepository.atualizarCliente(eq(id), any(), any(), any(), any()))
+                .thenReturn(Optional.of(estadoAnterior("João", 1L, Instant.EPOCH)));
+        Instant antes = Cliente.agora();
+
+        clienteService.alterarCliente(id, cliente);
+
+        ArgumentCaptor<Instant> atualizadoEm = ArgumentCaptor.forClass(Instant.class);
+        verify(clienteRepository).atualizarCliente(eq(id), any(), any(), any(), atualizadoEm.capture());
+        assertFalse(atualizadoEm.getValue().isBefore(antes));
     }
 
     @Test
     public void testAlterarClienteNaoEncontrado() {
         Long id = 1L;
-        when(clienteRepository.findById(id)).thenReturn(Optional.empty());
+        when(clienteRepository.atualizarCliente(eq(id), any(), any(), any(), any())).thenReturn(Optional.empty());
 
         assertThrows(ClienteNaoEncontradoException.class, () -> clienteService.alterarCliente(id, cliente));
+        verify(clienteRepository, never()).findById(any());
     }
 
     @Test
-    public void testExcluirCliente() {
+    public void testAlterarClienteNaVersao() {
         Long id = 1L;
-        when(clienteRepository.findById(id)).thenReturn(Optional.of(cliente));
+        when(clienteRepository.atualizarClienteNaVersao(eq(id), eq(3L), eq("João"), eq("joao@example.com"),
+                eq("(12) 3456-7899"), any())).thenReturn(Optional.of(estadoAnterior("João", 3L, Instant.EPOCH)));
 
-        clienteService.excluirCliente(id);
+        Cliente clienteAlterado = clienteService.alterarCliente(id, cliente, 3L);
 
-        verify(clienteRepository, times(1)).deleteById(id);
+        ArgumentCaptor<Instant> atualizadoEm = ArgumentCaptor.forClass(Instant.class);
+        verify(clienteRepository).atualizarClienteNaVersao(eq(id), eq(3L), any(), any(), any(), atualizadoEm.capture());
+        assertEquals(id, clienteAlterado.getId());
+        assertEquals(4L, clienteAlterado.getVersao());
+        assertEquals("joao@example.com", clienteAlterado.getEmail());
+        assertEquals(Instant.EPOCH, clienteAlterado.getCriadoEm());
+        assertEquals(atualizadoEm.getValue(), clienteAlterado.getAtualizadoEm());
+        verify(clienteRepository, never()).atualizarCliente(any(), any(), any(), any(), any());
+        verify(clienteRepository, never()).findById(any());
+        verify(clienteRepository, never()).findVersaoById(any());
+        verify(clienteEventoService).registrar(Tipo.ALTERADO, clienteAlterado);
     }
 
     @Test
-    public void testExcluirClienteNaoEncontrado() {
+    public void testAlterarClienteVersaoDivergente() {
+        Long id = 1L;
+        when(clienteRepository.atualizarClienteNaVersao(eq(id), eq(3L), any(), any(), any(), any())).thenReturn(Optional.empty());
+        when(clienteRepository.findVersaoById(id)).thenReturn(Optional.of(5L));
+
+        assertThrows(ClienteVersaoDivergenteException.class, () -> clienteService.alterarCliente(id, cliente, 3L));
+        verify(clienteBuscaService, never()).reindexar(any(), any());
+        verifyNoInteractions(clienteEventoService);
+    }
+
+    @Test
+    public void testAlterarClienteNaVersaoNaoEncontrado() {
+        Long id = 1L;
+        when(clienteRepository.atualizarClienteNaVersao(eq(id), eq(3L), any(), any(), any(), any())).thenReturn(Optional.empty());
+        when(clienteRepository.findVersaoById(id)).thenReturn(Optional.empty());
+
+        assertThrows(ClienteNaoEncontradoException.class, () -> clienteService.alterarCliente(id, cliente, 3L));
+    }
+
+    @Test
+    public void testAlterarClienteParcialmente() {
+        Cliente existente = new Cliente("João", "joao@example.com", "(12) 3456-7899");
+        existente.setId(1L);
+        existente.setVersao(2L);
+        when(clienteRepository.findById(1L)).thenReturn(Optional.of(existente));
+        Cliente alteracoes = new Cliente(null, null, "11987654321");
+
+        Cliente clienteAlterado = clienteService.alterarClienteParcialmente(1L, alteracoes, 2L);
+
+        assertSame(existente, clienteAlterado);
+        assertEquals("João", clienteAlterado.getNome());
+        assertEquals("joao@example.com", clienteAlterado.getEmail());
+        assertEquals("(11) 98765-4321", clienteAlterado.getTelefone());
+        verify(clienteRepository).flush();
+        verify(clienteBuscaService, never()).reindexar(any(), any());
+    }
+
+    @Test
+    public void testAlterarClienteParcialmenteSemAlteracoesNaoRegistraEvento() {
+        Cliente existente = new Cliente("João", "joao@example.com", "(12) 3456-7899");
+        existente.setId(1L);
+        existente.setVersao(2L);
+        when(clienteRepository.findById(1L)).thenReturn(Optional.of(existente));
+
+        assertSame(existente, clienteService.alterarClienteParcialmente(1L, new Cliente(null, null, null), null));
+        assertSame(existente, clienteService.alterarClienteParcialmente(1L,
+                new Cliente("João", "JOAO@example.com", "1234567899"), 2L));
+
+        assertEquals(2L, existente.getVersao());
+        verify(clienteRepository, never()).flush();
+        verify(clienteBuscaService, never()).reindexar(any(), any());
+        verify(clienteEventoService, never()).registrar(any(), any(Cliente.class));
+    }
+
+    @Test
+    public void testAlterarClienteParcialmenteValidaApenasCamposInformados() {
+        Cliente existente = new Cliente("João", "joao@example.com", "(12) 3456-7899");
+        existente.setId(1L);
+        when(clienteRepository.findById(1L)).thenReturn(Optional.of(existente));
+
+        clienteService.alterarClienteParcialmente(1L, new Cliente("João Silva", null, null), null);
+        assertThrows(IllegalArgumentException.class,
+                () -> clienteService.alterarClienteParcialmente(1L, new Cliente(null, "email-invalido", null), null));
+
+        assertEquals("João Silva", existente.getNome());
+        assertEquals("joao@example.com", existente.getEmail());
+        verify(clienteBuscaService, times(1)).reindexar(1L, "João Silva");
+    }
+
+    @Test
+    public void testAlterarClienteParcialmenteVersaoDivergente() {
+        Cliente existente = new Cliente("João", "joao@example.com", "(12) 3456-7899");
+        existente.setVersao(5L);
+        when(clienteRepository.findById(1L)).thenReturn(Optional.of(existente));
+
+        assertThrows(ClienteVersaoDivergenteException.class,
+                () -> clienteService.alterarClienteParcialmente(1L, new Cliente("Maria", null, null), 4L));
+        assertEquals("João", existente.getNome());
+        verify(clienteRepository, never()).flush();
+    }
+
+    @Test
+    public void testAlterarClienteParcialmenteNaoEncontrado() {
+        when(clienteRepository.findById(1L)).thenReturn(Optional.empty());
+
+        assertThrows(ClienteNaoEncontradoException.class,
+                () -> clienteService.alterarClienteParcialmente(1L, new Cliente("Maria", null, null), null));
+    }
+
+    @Test
+    public void testExcluirCliente() {
         Long id = 1L;
-        when(clienteRepository.findById(id)).thenReturn(Optional.empty());
+        when(clienteRepository.excluirClientePorId(id)).thenReturn(1);
+
+        clienteService.excluirCliente(id);
 
-        assertThrows(ClienteNaoEncontradoException.class, () -> clienteService.excluirCliente(id));
+        verify(clienteRepository, times(1)).excluirClientePorId(id);
+        verify(clienteRepository, never()).findById(any());
+        verify(clienteRepository, never()).deleteById(any());
+        verify(clienteEventoService).registrarExclusoes(List.of(id));
     }
 
     @Test
-    public void testListarClientes() {
-        when(clienteRepository.findAll()).thenReturn(java.util.Collections.singletonList(cliente));
+    public void testExcluirClienteNaoEncontrado() {
+        Long id = 1L;
+        when(clienteRepository.excluirClientePorId(id)).thenReturn(0);
 
-        assertEquals(1, clienteService.listarClientes().size());
+        ClienteNaoEncontradoException e = assertThrows(ClienteNaoEncontradoException.class, () -> clienteService.excluirCliente(id));
+        assertEquals(0, e.getStackTrace().length, "Exceções de regra de negócio não devem registrar a pilha");
     }
 
     @Test
@@ -100,4 +293,138 @@ public class ClienteServiceTest {
         assertTrue(clienteEncontrado.isPresent());
         assertEquals("João", clienteEncontrado.get().getNome());
     }
+
+    @Test
+    public void testListarClientesPaginado() {
+        when(clienteRepository.findByIdGreaterThanOrderByIdAsc(10L, Limit.of(50)))
+                .thenReturn(java.util.Collections.singletonList(cliente));
+
+        assertEquals(1, clienteService.listarClientes(10L, 50).size());
+    }
+
+    @Test
+    public void testListarClientesPaginadoAjustaLimite() {
+        clienteService.listarClientes(null, null);
+        clienteService.listarClientes(null, 0);
+        clienteService.listarClientes(null, 1_000_000);
+
+        verify(clienteRepository).findByIdGreaterThanOrderByIdAsc(0L, Limit.of(ClienteService.LIMITE_PADRAO_PAGINA));
+        verify(clienteRepository).findByIdGreaterThanOrderByIdAsc(0L, Limit.of(1));
+        verify(clienteRepository).findByIdGreaterThanOrderByIdAsc(0L, Limit.of(ClienteService.LIMITE_MAXIMO_PAGINA));
+    }
+
+    @Test
+    public void testListarClientesModificados() {
+        ReflectionTestUtils.setField(clienteService, "atrasoSincronizacao", Duration.ofSeconds(2));
+        Instant desde = Instant.parse("2026-01-01T00:00:00Z");
+        when(clienteRepository.findModificadosDesde(eq(desde), eq(10L), any(), eq(Limit.of(50))))
+                .thenReturn(java.util.Collections.singletonList(cliente));
+        Instant limiteSuperior = Instant.now().minusSeconds(2);
+
+        assertEquals(1, clienteService.listarClientesModificados(desde, 10L, 50).size());
+
+        ArgumentCaptor<Instant> ate = ArgumentCaptor.forClass(Instant.class);
+        verify(clienteRepository).findModificadosDesde(eq(desde), eq(10L), ate.capture(), eq(Limit.of(50)));
+        assertFalse(ate.getValue().isBefore(limiteSuperior));
+        assertTrue(ate.getValue().isBefore(Instant.now().minusSeconds(1)));
+    }
+
+    @Test
+    public void testListarClientesModificadosAjustaLimite() {
+        ReflectionTestUtils.setField(clienteService, "atrasoSincronizacao", Duration.ZERO);
+        Instant desde = Instant.parse("2026-01-01T00:00:00Z");
+
+        clienteService.listarClientesModificados(desde, null, null);
+        clienteService.listarClientesModificados(desde, null, 1_000_000);
+
+        verify(clienteRepository).findModificadosDesde(eq(desde), eq(0L), any(), eq(Limit.of(ClienteService.LIMITE_PADRAO_PAGINA)));
+        verify(clienteRepository).findModificadosDesde(eq(desde), eq(0L), any(), eq(Limit.of(ClienteService.LIMITE_MAXIMO_PAGINA)));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testBuscarClientesPorIdsConsultaEmPartes() {
+        List<Long> ids = new ArrayList<>();
+        for (long id = 1; id <= ClienteService.MAXIMO_IDS_BUSCA; id++) {
+            ids.add(id);
+        }
+        when(clienteRepository.findAllById(any())).thenAnswer(invocacao -> {
+            List<Cliente> clientes = new ArrayList<>();
+            for (Long id : (Iterable<Long>) invocacao.getArgument(0)) {
+                if (id % 2 == 0) {
+                    Cliente encontrado = new Cliente("Cliente " + id, "cliente" + id + "@example.com", "(12) 3456-7899");
+                    encontrado.setId(id);
+                    clientes.add(encontrado);
+                }
+            }
+            return clientes;
+        });
+
+        ResultadoBuscaPorIds resultado = clienteService.buscarClientesPorIds(ids);
+
+        assertEquals(ClienteService.MAXIMO_IDS_BUSCA / 2, resultado.getClientes().size());
+        assertEquals(2L, resultado.getClientes().get(0).getId());
+        assertEquals(ClienteService.MAXIMO_IDS_BUSCA / 2, resultado.getNaoEncontrados().size());
+        assertEquals(1L, resultado.getNaoEncontrados().get(0));
+        verify(clienteRepository, times(ClienteService.MAXIMO_IDS_BUSCA / ClienteService.TAMANHO_CONSULTA_IDS))
+                .findAllById(any());
+    }
+
+    @Test
+    public void testBuscarClientesPorIdsAcimaDoLimite() {
+        List<Long> ids = new ArrayList<>(java.util.Collections.nCopies(ClienteService.MAXIMO_IDS_BUSCA + 1, 1L));
+
+        assertThrows(IllegalArgumentException.class, () -> clienteService.buscarClientesPorIds(ids));
+        verifyNoInteractions(clienteRepository);
+    }
+
+    @Test
+    public void testPercorrerClientes() {
+        Cliente outroCliente = new Cliente("Maria", "maria@example.com", "9876543210");
+        when(clienteRepository.streamAllByOrderByIdAsc()).thenReturn(Stream.of(cliente, outroCliente));
+
+        List<Cliente> recebidos = new ArrayList<>();
+        long total = clienteService.percorrerClientes(recebidos::add);
+
+        assertEquals(2, total);
+        assertEquals(List.of(cliente, outroCliente), recebidos);
+        verify(entityManager).detach(cliente);
+        verify(entityManager).detach(outroCliente);
+    }
+
+    @Test
+    public void testBuscarClientePorEmail() {
+        when(clienteRepository.findByEmail("joao@example.com")).thenReturn(Optional.of(cliente));
+
+        Optional<Cliente> clienteEncontrado = clienteService.buscarClientePorEmail("  JOAO@Example.com ");
+
+        assertTrue(clienteEncontrado.isPresent());
+        assertEquals("João", clienteEncontrado.get().getNome());
+    }
+
+    @Test
+    public void testBuscarClientePorEmailInvalido() {
+        assertThrows(IllegalArgumentException.class, () -> clienteService.buscarClientePorEmail("invalido"));
+        verify(clienteRepository, never()).findByEmail(any());
+    }
+
+    private static ClienteRepository.EstadoAnterior estadoAnterior(String nome, Long versao, Instant criadoEm) {
+        OffsetDateTime criadoEmUtc = criadoEm.atOffset(ZoneOffset.UTC);
+        return new ClienteRepository.EstadoAnterior() {
+            @Override
+            public String getNome() {
+                return nome;
+            }
+
+            @Override
+            public Long getVersao() {
+                return versao;
+            }
+
+            @Override
+            public OffsetDateTime getCriadoEm() {
+                return criadoEmUtc;
+            }
+        };
+    }
 }
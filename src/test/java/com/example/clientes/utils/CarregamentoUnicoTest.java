@@ -0,0 +1,128 @@
+package com.example.clientes.utils;
+
+import io.micrometer.core.instrument.Metrics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CarregamentoUnicoTest {
+
+    private static final int THREADS = 64;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+    @AfterEach
+    public void encerrar() {
+        executor.shutdownNow();
+    }
+
+    private static double agrupados(String nome) {
+        return Metrics.globalRegistry.get(CarregamentoUnico.CONTADOR_AGRUPADOS).tag("carregamento", nome).counter().count();
+    }
+
+    // Aguarda até que todas as chamadas, exceto a que executa o carregador, estejam aguardando o resultado
+    private static void aguardarAgrupados(String nome, double esperado) throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (agrupados(nome) < esperado) {
+            assertTrue(System.nanoTime() < limite, "Chamadas simultâneas não foram agrupadas");
+            Thread.sleep(1);
+        }
+    }
+
+    @Test
+    public void testChamadasSimultaneasExecutamUmCarregamento() throws Exception {
+        CarregamentoUnico<Long, String> carregamento = new CarregamentoUnico<>("teste-simultaneas");
+        AtomicInteger execucoes = new AtomicInteger();
+        CountDownLatch liberar = new CountDownLatch(1);
+
+        List<Future<String>> resultados = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            resultados.add(executor.submit(() -> carregamento.carregar(1L, () -> {
+                execucoes.incrementAndGet();
+                try {
+                    liberar.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "cliente 1";
+            })));
+        }
+        aguardarAgrupados("teste-simultaneas", THREADS - 1);
+        liberar.countDown();
+
+        for (Future<String> resultado : resultados) {
+            assertEquals("cliente 1", resultado.get(10, TimeUnit.SECONDS));
+        }
+        assertEquals(1, execucoes.get());
+        assertEquals(THREADS - 1, agrupados("teste-simultaneas"));
+        assertEquals(0, carregamento.emAndamento());
+    }
+
+    @Test
+    public void testChavesDistintasNaoSaoAgrupadas() throws Exception {
+        CarregamentoUnico<Long, Long> carregamento = new CarregamentoUnico<>("teste-distintas");
+        AtomicInteger execucoes = new AtomicInteger();
+        int chaves = 8;
+        int repeticoes = 2_000;
+
+        List<Future<?>> tarefas = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            tarefas.add(executor.submit(() -> {
+                for (int i = 0; i < repeticoes; i++) {
+                    long chave = i % chaves;
+                    assertEquals(chave * 10, carregamento.carregar(chave, () -> {
+                        execucoes.incrementAndGet();
+                        return chave * 10;
+                    }));
+                }
+            }));
+        }
+        for (Future<?> tarefa : tarefas) {
+            tarefa.get(30, TimeUnit.SECONDS);
+        }
+
+        // Toda chamada executou o carregador ou foi atendida por um carregamento em andamento da mesma chave
+        assertEquals((double) THREADS * repeticoes, execucoes.get() + agrupados("teste-distintas"));
+        assertEquals(0, carregamento.emAndamento());
+    }
+
+    @Test
+    public void testExcecaoRepassadaATodasAsChamadas() throws Exception {
+        CarregamentoUnico<Long, String> carregamento = new CarregamentoUnico<>("teste-excecao");
+        IllegalStateException falha = new IllegalStateException("banco indisponível");
+        CountDownLatch liberar = new CountDownLatch(1);
+
+        List<Future<String>> resultados = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            resultados.add(executor.submit(() -> carregamento.carregar(1L, () -> {
+                try {
+                    liberar.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                throw falha;
+            })));
+        }
+        aguardarAgrupados("teste-excecao", 3);
+        liberar.countDown();
+
+        for (Future<String> resultado : resultados) {
+            Exception e = assertThrows(Exception.class, () -> resultado.get(10, TimeUnit.SECONDS));
+            assertSame(falha, e.getCause());
+        }
+        assertEquals(0, carregamento.emAndamento());
+
+        // Após a falha, a próxima chamada executa o carregador novamente
+        assertEquals("ok", carregamento.carregar(1L, () -> "ok"));
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.clientes.utils;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FormatadorUtilsTest {
+
+    // Implementação original, baseada em expressões regulares, usada como referência de comportamento
+    private static String formatarEmailReferencia(String email) {
+        if (email != null) {
+            email = email.trim().toLowerCase();
+            if (!email.matches("^[\\w.-]+@[a-zA-Z\\d.-]+\\.[a-zA-Z]{2,6}$")) {
+                throw new IllegalArgumentException("Formato de e-mail inválido.");
+            }
+        }
+        return email;
+    }
+
+    private static String formatarTelefoneReferencia(String telefone) {
+        if (telefone != null) {
+            if (telefone.matches("\\d{10}")) {
+                return String.format("(%s) %s-%s", telefone.substring(0, 2), telefone.substring(2, 6), telefone.substring(6));
+            } else if (telefone.matches("\\d{11}")) {
+                return String.format("(%s) %s-%s", telefone.substring(0, 2), telefone.substring(2, 7), telefone.substring(7));
+            }
+        }
+        throw new IllegalArgumentException("Número de telefone inválido. Deve conter 10 ou 11 dígitos.");
+    }
+
+    private static final String[] EMAILS = {
+            null, "", " ", "@", "a@b.co", "  Joao.Silva@Exemplo.COM  ", "joao@exemplo", "joao@.com", "joao@exemplo.c",
+            "joao@exemplo.comunic", "joao@exemplo.comunica", "joao@@exemplo.com", "jo ao@exemplo.com", "joao@exem_plo.com",
+            "j_o-a.o@sub.exemplo.com.br", ".@-.io", "joao@exemplo.c0m", "joao@exemplo.com.", "joao.exemplo.com",
+            "joão@exemplo.com", "joao@exemplo..com", "joao@exemplo.com\n", "a@b@c.com", "a@1.23", "a@b.çom"
+    };
+
+    private static final String[] TELEFONES = {
+            null, "", "123456789", "1234567890", "12345678901", "123456789012", "12345-6789", " 1234567890",
+            "１２３４５６７８９０", "abcdefghij", "0000000000", "99999999999"
+    };
+
+    @Test
+    public void testFormatarEmailEquivaleAoOriginal() {
+        for (String email : EMAILS) {
+            assertMesmoResultado(() -> formatarEmailReferencia(email), () -> FormatadorUtils.formatarEmail(email), email);
+        }
+    }
+
+    @Test
+    public void testFormatarTelefoneEquivaleAoOriginal() {
+        for (String telefone : TELEFONES) {
+            assertMesmoResultado(() -> formatarTelefoneReferencia(telefone), () -> FormatadorUtils.formatarTelefone(telefone), telefone);
+        }
+    }
+
+    @Test
+    public void testEntradasAleatoriasEquivalemAoOriginal() {
+        Random random = new Random(42);
+        String alfabetoEmail = "aZ09_.-@ çé";
+        String alfabetoTelefone = "0123456789a -";
+        for (int i = 0; i < 50_000; i++) {
+            String email = aleatoria(random, alfabetoEmail, 14);
+            String telefone = aleatoria(random, alfabetoTelefone, 12);
+            assertMesmoResultado(() -> formatarEmailReferencia(email), () -> FormatadorUtils.formatarEmail(email), email);
+            assertMesmoResultado(() -> formatarTelefoneReferencia(telefone), () -> FormatadorUtils.formatarTelefone(telefone), telefone);
+        }
+    }
+
+    @Test
+    public void testFormatarTelefone() {
+        assertEquals("(12) 3456-7890", FormatadorUtils.formatarTelefone("1234567890"));
+        assertEquals("(01) 12345-6789", FormatadorUtils.formatarTelefone("01123456789"));
+    }
+
+    @Test
+    public void testRejeicoesSaoContadas() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Metrics.addRegistry(registry);
+        try {
+            FormatadorUtils.formatarTelefone("1234567890");
+            assertThrows(IllegalArgumentException.class, () -> FormatadorUtils.formatarEmail("email-invalido"));
+            assertThrows(IllegalArgumentException.class, () -> FormatadorUtils.formatarTelefone("123"));
+            assertThrows(IllegalArgumentException.class, () -> FormatadorUtils.formatarTelefone(null));
+
+            assertEquals(1, registry.get(FormatadorUtils.CONTADOR_REJEICOES).tag("campo", "email").counter().count());
+            assertEquals(2, registry.get(FormatadorUtils.CONTADOR_REJEICOES).tag("campo", "telefone").counter().count());
+        } finally {
+            Metrics.removeRegistry(registry);
+        }
+    }
+
+    @Test
+    public void testExtrairTermos() {
+        assertEquals(List.of("joao", "da", "silva"), FormatadorUtils.extrairTermos("  João  da SILVA "));
+        assertEquals(List.of("conceicao", "d", "avila"), FormatadorUtils.extrairTermos("Conceição D'Ávila, conceição"));
+        assertEquals(List.of(), FormatadorUtils.extrairTermos(" - "));
+        assertEquals(List.of(), FormatadorUtils.extrairTermos(null));
+        assertEquals(FormatadorUtils.TAMANHO_MAXIMO_TERMO, FormatadorUtils.extrairTermos("a".repeat(80)).get(0).length());
+    }
+
+    private static String aleatoria(Random random, String alfabeto, int tamanhoMaximo) {
+        char[] caracteres = new char[random.nextInt(tamanhoMaximo + 1)];
+        for (int i = 0; i < caracteres.length; i++) {
+            caracteres[i] = alfabeto.charAt(random.nextInt(alfabeto.length()));
+        }
+        return new String(caracteres);
+    }
+
+    private static void assertMesmoResultado(Supplier<String> referencia,
+                                             Supplier<String> atual, String entrada) {
+        String esperado;
+        try {
+            esperado = referencia.get();
+        } catch (IllegalArgumentException e) {
+            IllegalArgumentException lancada = assertThrows(IllegalArgumentException.class, atual::get,
+                    "Entrada deveria ser rejeitada: [" + entrada + "]");
+            assertEquals(e.getMessage(), lancada.getMessage());
+            return;
+        }
+        assertEquals(esperado, atual.get(), "Entrada: [" + entrada + "]");
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.clientes.utils;
+
+import com.example.clientes.model.Cliente;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LeitorImportacaoTest {
+
+    private static InputStream conteudo(String texto) {
+        return new ByteArrayInputStream(texto.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<LeitorImportacao.Item> lerTodos(LeitorImportacao leitor) {
+        List<LeitorImportacao.Item> itens = new ArrayList<>();
+        leitor.forEachRemaining(itens::add);
+        return itens;
+    }
+
+    @Test
+    public void testCsvComAspasEColunasEmOutraOrdem() {
+        List<LeitorImportacao.Item> itens = lerTodos(LeitorImportacao.csv(conteudo(
+                "﻿id,Telefone,EMAIL,nome\r\n"
+                        + "1,1198765432,joao@exemplo.com,João\r\n"
+                        + "\r\n"
+                        + "2,1133334444,maria@exemplo.com,\"Silva, Maria \"\"Mari\"\"\"\n"
+                        + "3,1122223333,ana@exemplo.com,\"Ana\nde Souza\"\n"
+                        + "4,1122223333,carla@exemplo.com,Carla")));
+
+        assertEquals(4, itens.size());
+        assertEquals(2, itens.get(0).linha());
+        assertEquals("João", itens.get(0).cliente().getNome());
+        assertEquals("joao@exemplo.com", itens.get(0).cliente().getEmail());
+        assertEquals("1198765432", itens.get(0).cliente().getTelefone());
+        assertEquals(4, itens.get(1).linha());
+        assertEquals("Silva, Maria \"Mari\"", itens.get(1).cliente().getNome());
+        assertEquals(5, itens.get(2).linha());
+        assertEquals("Ana\nde Souza", itens.get(2).cliente().getNome());
+        assertEquals(7, itens.get(3).linha()); // O registro anterior ocupa duas linhas
+        assertEquals("Carla", itens.get(3).cliente().getNome());
+    }
+
+    @Test
+    public void testCsvRegistrosInvalidosNaoInterrompemALeitura() {
+        String longo = "x".repeat(LeitorImportacao.TAMANHO_MAXIMO_REGISTRO + 1);
+        List<LeitorImportacao.Item> itens = lerTodos(LeitorImportacao.csv(conteudo(
+                "nome,email,telefone\n"
+                        + "João,joao@exemplo.com\n"
+                        + longo + ",a@b.com,1198765432\n"
+                        + ",".repeat(LeitorImportacao.TAMANHO_MAXIMO_REGISTRO + 1) + "\n"
+                        + "Maria,maria@exemplo.com,1133334444\n")));
+
+        assertEquals(4, itens.size());
+        assertNull(itens.get(0).cliente());
+        assertEquals("O registro tem 2 colunas, menos que o cabeçalho.", itens.get(0).erro());
+        assertEquals(3, itens.get(1).linha());
+        assertTrue(itens.get(1).erro().startsWith("O registro excede"));
+        assertTrue(itens.get(2).erro().startsWith("O registro excede"));
+        assertEquals(5, itens.get(3).linha());
+        assertEquals("Maria", itens.get(3).cliente().getNome());
+    }
+
+    @Test
+    public void testCsvRemovePrefixoContraFormulas() {
+        List<LeitorImportacao.Item> itens = lerTodos(LeitorImportacao.csv(conteudo(
+                "nome,email,telefone\n"
+                        + "'=1+1,a@exemplo.com,'+5511987654321\n"
+                        + "'Ana,b@exemplo.com,1198765432\n")));
+
+        assertEquals("=1+1", itens.get(0).cliente().getNome());
+        assertEquals("+5511987654321", itens.get(0).cliente().getTelefone());
+        assertEquals("'Ana", itens.get(1).cliente().getNome()); // O prefixo só é removido antes de uma fórmula
+        assertTrue(LeitorImportacao.pareceFormula("-10"));
+        assertTrue(LeitorImportacao.pareceFormula("@SOMA(A1)"));
+        assertFalse(LeitorImportacao.pareceFormula("(11) 9876-5432"));
+        assertFalse(LeitorImportacao.pareceFormula(""));
+    }
+
+    @Test
+    public void testCsvSemColunasObrigatorias() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> LeitorImportacao.csv(conteudo("nome,email\nJoão,joao@exemplo.com\n")));
+        assertEquals("O cabeçalho do CSV deve conter as colunas [nome, email, telefone].", e.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> LeitorImportacao.csv(conteudo("")));
+    }
+
+    @Test
+    public void testNdjson() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        List<LeitorImportacao.Item> itens = lerTodos(LeitorImportacao.ndjson(conteudo(
+                "{\"nome\":\"João\",\"email\":\"joao@exemplo.com\",\"telefone\":\"1198765432\"}\n"
+                        + "\n"
+                        + "{\"nome\":\"Maria\",\n"
+                        + "null\r\n"
+                        + "{\"nome\":\"Ana\",\"email\":\"ana@exemplo.com\",\"telefone\":\"1133334444\"}"),
+                objectMapper.readerFor(Cliente.class)));
+
+        assertEquals(4, itens.size());
+        assertEquals("João", itens.get(0).cliente().getNome());
+        assertEquals(3, itens.get(1).linha());
+        assertTrue(itens.get(1).erro().startsWith("JSON inválido"));
+        assertEquals("Item vazio.", itens.get(2).erro());
+        assertEquals(5, itens.get(3).linha());
+        assertEquals("Ana", itens.get(3).cliente().getNome());
+    }
+}